@@ -0,0 +1,36 @@
+package com.outofbits.staking.cardano.time;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. It runs the benchmarks of this module (or the ones selected on
+ * the command line) in throughput as well as sample time mode, and always attaches the {@link
+ * GCProfiler} such that the allocation rate is reported next to the throughput and latency.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class BenchmarkRunner {
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions)
+        .addProfiler(GCProfiler.class);
+    if (commandLineOptions.getIncludes().isEmpty()) {
+      builder.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+    }
+    if (!commandLineOptions.getBenchModes().isEmpty()) {
+      new Runner(builder.build()).run();
+    } else {
+      new Runner(builder.mode(Mode.Throughput).mode(Mode.SampleTime).build()).run();
+    }
+  }
+}
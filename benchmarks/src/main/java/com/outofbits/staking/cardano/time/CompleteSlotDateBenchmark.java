@@ -0,0 +1,80 @@
+package com.outofbits.staking.cardano.time;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the time and slot computations of {@link CompleteSlotDate}, i.e. {@link
+ * CompleteSlotDate#getStartTime()} and {@link CompleteSlotDate#difference(PlainSlotDate)}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompleteSlotDateBenchmark {
+
+  /**
+   * magnitude of the epoch number of the benchmarked slot dates.
+   */
+  @Param({"0", "250", "1000000"})
+  public long epoch;
+
+  /**
+   * magnitude of the slot number of the benchmarked slot dates.
+   */
+  @Param({"0", "21599", "43199"})
+  public long slot;
+
+  private CompleteSlotDate date;
+  private CompleteSlotDate otherDate;
+  private CompleteSlotDate hugeDate;
+
+  @Setup
+  public void setUp() {
+    TimeSetting setting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 43200L,
+        Duration.ofSeconds(2));
+    date = SlotDateFactory
+        .completeInstance(BigInteger.valueOf(epoch), BigInteger.valueOf(slot), setting);
+    otherDate = SlotDateFactory
+        .completeInstance(BigInteger.valueOf(epoch / 2), BigInteger.valueOf(slot / 2), setting);
+    hugeDate = SlotDateFactory.completeInstance(
+        BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(epoch + 1)),
+        BigInteger.valueOf(slot), setting);
+  }
+
+  @Benchmark
+  public Instant getStartTime() {
+    return date.getStartTime();
+  }
+
+  @Benchmark
+  public Instant getEndTime() {
+    return date.getEndTime();
+  }
+
+  @Benchmark
+  public BigInteger difference() {
+    return date.difference(otherDate);
+  }
+
+  @Benchmark
+  public BigInteger differenceExceedingLong() {
+    return hugeDate.difference(otherDate);
+  }
+}
@@ -0,0 +1,63 @@
+package com.outofbits.staking.cardano.time;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the comparison of {@link PlainSlotDate}s, i.e. {@link
+ * PlainSlotDate#before(PlainSlotDate)}, {@link PlainSlotDate#after(PlainSlotDate)} and {@link
+ * PlainSlotDate#sameAs(PlainSlotDate)}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlainSlotDateBenchmark {
+
+  /**
+   * magnitude of the epoch number of the compared slot dates.
+   */
+  @Param({"0", "250", "1000000", "100000000000000000000"})
+  public String epoch;
+
+  private PlainSlotDate date;
+  private PlainSlotDate sameDate;
+  private PlainSlotDate laterDate;
+
+  @Setup
+  public void setUp() {
+    BigInteger epochNumber = new BigInteger(epoch);
+    date = SlotDateFactory.plainInstance(epochNumber, BigInteger.valueOf(1200));
+    sameDate = SlotDateFactory.plainInstance(epochNumber, BigInteger.valueOf(1200));
+    laterDate = SlotDateFactory.plainInstance(epochNumber, BigInteger.valueOf(1201));
+  }
+
+  @Benchmark
+  public boolean before() {
+    return date.before(laterDate);
+  }
+
+  @Benchmark
+  public boolean after() {
+    return laterDate.after(date);
+  }
+
+  @Benchmark
+  public boolean sameAs() {
+    return date.sameAs(sameDate);
+  }
+}
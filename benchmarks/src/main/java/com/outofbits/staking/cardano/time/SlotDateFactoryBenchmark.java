@@ -0,0 +1,65 @@
+package com.outofbits.staking.cardano.time;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the creation (including the validation) of slot dates with the {@link
+ * SlotDateFactory}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SlotDateFactoryBenchmark {
+
+  /**
+   * magnitude of the epoch number of the created slot dates.
+   */
+  @Param({"0", "250", "1000000", "100000000000000000000"})
+  public String epoch;
+
+  /**
+   * magnitude of the slot number of the created slot dates.
+   */
+  @Param({"0", "43199"})
+  public long slot;
+
+  private TimeSetting setting;
+  private BigInteger epochNumber;
+  private BigInteger slotNumber;
+
+  @Setup
+  public void setUp() {
+    setting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 43200L,
+        Duration.ofSeconds(2));
+    epochNumber = new BigInteger(epoch);
+    slotNumber = BigInteger.valueOf(slot);
+  }
+
+  @Benchmark
+  public PlainSlotDate plainInstance() {
+    return SlotDateFactory.plainInstance(epochNumber, slotNumber);
+  }
+
+  @Benchmark
+  public CompleteSlotDate completeInstance() {
+    return SlotDateFactory.completeInstance(epochNumber, slotNumber, setting);
+  }
+}
@@ -0,0 +1,112 @@
+package com.outofbits.staking.cardano.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the conversion of an {@link Instant} into a {@link CompleteSlotDate} with {@link
+ * TimeSetting#getSlotDateFor(Instant)}, the bulk conversion of times in milliseconds since the
+ * epoch into absolute slot numbers and back, as well as the conversion of ascending and unsorted
+ * times with a {@link SlotConverter}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeSettingBenchmark {
+
+  /**
+   * number of seconds after the creation of the genesis block.
+   */
+  @Param({"0", "86400", "31536000", "31536000000"})
+  public long secondsAfterGenesis;
+
+  private static final int BULK_SIZE = 1024;
+
+  private TimeSetting setting;
+  private Instant time;
+  private long[] epochMillis;
+  private long[] unsortedEpochMillis;
+  private SlotConverter converter;
+  private long[] absoluteSlots;
+  private long[] epochs;
+  private long[] slots;
+  private long[] startTimeSlots;
+  private long[] startTimes;
+
+  @Setup
+  public void setUp() {
+    setting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 43200L,
+        Duration.ofSeconds(2));
+    time = setting.getGenesisBlockCreationTime().plusSeconds(secondsAfterGenesis);
+    epochMillis = new long[BULK_SIZE];
+    for (int i = 0; i < BULK_SIZE; i++) {
+      epochMillis[i] = time.toEpochMilli() + i * 997L;
+    }
+    unsortedEpochMillis = epochMillis.clone();
+    Random random = new Random(42L);
+    for (int i = BULK_SIZE - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      long swap = unsortedEpochMillis[i];
+      unsortedEpochMillis[i] = unsortedEpochMillis[j];
+      unsortedEpochMillis[j] = swap;
+    }
+    converter = setting.newSlotConverter();
+    absoluteSlots = new long[BULK_SIZE];
+    epochs = new long[BULK_SIZE];
+    slots = new long[BULK_SIZE];
+    startTimeSlots = new long[BULK_SIZE];
+    setting.getSlotDatesFor(epochMillis, startTimeSlots, null, null);
+    startTimes = new long[BULK_SIZE];
+  }
+
+  @Benchmark
+  public CompleteSlotDate getSlotDateFor() {
+    return setting.getSlotDateFor(time);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public long[] getSlotDatesForBulk() {
+    setting.getSlotDatesFor(epochMillis, absoluteSlots, epochs, slots);
+    return absoluteSlots;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public long[] getStartTimesForBulk() {
+    setting.getStartTimesFor(startTimeSlots, startTimes);
+    return startTimes;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public long[] convertAscending() {
+    converter.convert(epochMillis, absoluteSlots);
+    return absoluteSlots;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_SIZE)
+  public long[] convertUnsorted() {
+    converter.convert(unsortedEpochMillis, absoluteSlots);
+    return absoluteSlots;
+  }
+}
@@ -0,0 +1,109 @@
+package com.outofbits.staking.cardano.time;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Command line tool that converts slots of a Cardano network to times and vice versa. It is meant
+ * to be compiled into a native executable with GraalVM, such that a conversion starts in a few
+ * milliseconds, but it can also be run on any JVM.
+ * <pre>
+ * slot-time [--network mainnet|preprod|preview|itn] slot &lt;absolute slot|epoch.slot&gt;
+ * slot-time [--network mainnet|preprod|preview|itn] time &lt;ISO-8601 instant|now&gt;
+ * </pre>
+ * The tool prints the epoch, the slot within the epoch, the absolute slot number and the start as
+ * well as end time of the slot. It exits with {@code 2}, if the usage is wrong, and with {@code
+ * 1}, if the given slot or time is invalid.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotTimeCli {
+
+  private static final String USAGE = String.join(System.lineSeparator(),
+      "usage: slot-time [--network mainnet|preprod|preview|itn] slot <absolute slot|epoch.slot>",
+      "       slot-time [--network mainnet|preprod|preview|itn] time <ISO-8601 instant|now>");
+
+  private SlotTimeCli() {
+  }
+
+  public static void main(String[] args) {
+    System.exit(run(args, System.out, System.err));
+  }
+
+  /**
+   * runs the tool with the given {@code args}, and prints the result to the given {@code out}
+   * stream and errors to the given {@code err} stream.
+   *
+   * @return the exit code of the tool.
+   */
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    TimeSetting setting = TimeSetting.MAIN_NET;
+    int i = 0;
+    if (args.length > 0 && "--network".equals(args[0])) {
+      setting = args.length > 1 ? networkOf(args[1]) : null;
+      if (setting == null) {
+        err.println(USAGE);
+        return 2;
+      }
+      i = 2;
+    }
+    if (args.length - i != 2) {
+      err.println(USAGE);
+      return 2;
+    }
+    try {
+      CompleteSlotDate date;
+      if ("slot".equals(args[i])) {
+        date = slotDateOf(setting, args[i + 1]);
+      } else if ("time".equals(args[i])) {
+        Instant time = "now".equals(args[i + 1]) ? Instant.now() : Instant.parse(args[i + 1]);
+        date = setting.getSlotDateFor(time);
+      } else {
+        err.println(USAGE);
+        return 2;
+      }
+      out.println("epoch:         " + date.getEpoch());
+      out.println("slot:          " + date.getSlot());
+      out.println("absolute slot: " + date.getAbsoluteSlot());
+      out.println("start time:    " + date.getStartTime());
+      out.println("end time:      " + date.getEndTime());
+      return 0;
+    } catch (IllegalArgumentException | ArithmeticException | DateTimeParseException e) {
+      err.println("error: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  /**
+   * gets the {@link CompleteSlotDate} for the given {@code slot}, which is either an absolute slot
+   * number or an epoch and a slot within it separated by a dot.
+   *
+   * @throws NumberFormatException if the given slot is not a number.
+   */
+  private static CompleteSlotDate slotDateOf(TimeSetting setting, String slot) {
+    int dot = slot.indexOf('.');
+    if (dot < 0) {
+      return setting.getSlotDateForAbsoluteSlot(Long.parseLong(slot));
+    }
+    return SlotDateFactory.completeInstance(Long.parseLong(slot.substring(0, dot)),
+        Long.parseLong(slot.substring(dot + 1)), setting);
+  }
+
+  private static TimeSetting networkOf(String name) {
+    switch (name) {
+      case "mainnet":
+        return TimeSetting.MAIN_NET;
+      case "preprod":
+        return TimeSetting.PRE_PRODUCTION_TEST_NET;
+      case "preview":
+        return TimeSetting.PREVIEW_TEST_NET;
+      case "itn":
+        return TimeSetting.INCENTIVIZED_TEST_NET;
+      default:
+        return null;
+    }
+  }
+}
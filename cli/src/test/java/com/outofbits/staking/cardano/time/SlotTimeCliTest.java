@@ -0,0 +1,105 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotTimeCli}.
+ */
+public class SlotTimeCliTest {
+
+  private ByteArrayOutputStream out;
+  private ByteArrayOutputStream err;
+
+  @BeforeEach
+  void setUp() {
+    out = new ByteArrayOutputStream();
+    err = new ByteArrayOutputStream();
+  }
+
+  private int run(String... args) {
+    return SlotTimeCli.run(args, new PrintStream(out, true), new PrintStream(err, true));
+  }
+
+  private String output() throws UnsupportedEncodingException {
+    return out.toString("UTF-8");
+  }
+
+  private String errors() throws UnsupportedEncodingException {
+    return err.toString("UTF-8");
+  }
+
+  @Test
+  void testSlotWithEpochAndSlot_mustPrintTimes() throws UnsupportedEncodingException {
+    assertEquals(0, run("slot", "208.0"));
+    String output = output();
+    assertTrue(output.contains("epoch:         208"), output);
+    assertTrue(output.contains("slot:          0"), output);
+    assertTrue(output.contains("absolute slot: 4492800"), output);
+    assertTrue(output.contains("start time:    2020-07-29T21:44:51Z"), output);
+    assertTrue(output.contains("end time:      2020-07-29T21:44:52Z"), output);
+    assertEquals("", errors());
+  }
+
+  @Test
+  void testSlotWithAbsoluteSlot_mustPrintEpochAndSlot() throws UnsupportedEncodingException {
+    assertEquals(0, run("slot", "4492799"));
+    String output = output();
+    assertTrue(output.contains("epoch:         207"), output);
+    assertTrue(output.contains("slot:          21599"), output);
+    assertTrue(output.contains("start time:    2020-07-29T21:44:31Z"), output);
+  }
+
+  @Test
+  void testTime_mustPrintSlotContainingTime() throws UnsupportedEncodingException {
+    assertEquals(0, run("time", "2020-07-29T21:44:51.500Z"));
+    assertTrue(output().contains("absolute slot: 4492800"), output());
+    setUp();
+    assertEquals(0, run("time", "now"));
+    assertTrue(output().contains("absolute slot: "), output());
+  }
+
+  @Test
+  void testNetwork_mustSelectTimeSetting() throws UnsupportedEncodingException {
+    assertEquals(0, run("--network", "preprod", "slot", "4.0"));
+    assertTrue(output().contains("absolute slot: 86400"), output());
+    assertTrue(output().contains("start time:    2022-06-21T00:00:00Z"), output());
+    setUp();
+    assertEquals(0, run("--network", "itn", "time", "2019-12-13T19:13:40Z"));
+    assertTrue(output().contains("absolute slot: 1"), output());
+    setUp();
+    assertEquals(0, run("--network", "preview", "slot", "86400"));
+    assertTrue(output().contains("epoch:         1"), output());
+  }
+
+  @Test
+  void testWrongUsage_mustPrintUsageAndExitWithTwo() throws UnsupportedEncodingException {
+    String[][] wrongArgs = {{}, {"slot"}, {"foo", "1"}, {"slot", "1", "2"},
+        {"--network", "devnet", "slot", "1"}, {"--network"}};
+    for (String[] args : wrongArgs) {
+      setUp();
+      assertEquals(2, run(args));
+      assertTrue(errors().startsWith("usage: slot-time"), errors());
+      assertEquals("", output());
+    }
+  }
+
+  @Test
+  void testInvalidInput_mustPrintErrorAndExitWithOne() throws UnsupportedEncodingException {
+    String[][] invalidArgs = {{"slot", "-5"}, {"slot", "abc"}, {"slot", "0.21600"},
+        {"slot", "99999999999999999999"}, {"time", "yesterday"},
+        {"time", "2017-09-23T21:44:50Z"}};
+    for (String[] args : invalidArgs) {
+      setUp();
+      assertEquals(1, run(args));
+      assertTrue(errors().startsWith("error: "), errors());
+      assertEquals("", output());
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.outofbits.staking.cardano.time;
+
+import java.math.BigInteger;
+
+/**
+ * A compact implementation of {@link PlainSlotDate} that is backed by primitive {@code long}
+ * values. This implementation is used by the {@link SlotDateFactory} whenever the epoch and slot
+ * number fit into a {@code long}, and it allows comparisons with other compact slot dates without
+ * any allocation.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class CompactPlainSlotDateImpl implements PlainSlotDate {
+
+  private final long epoch;
+  private final long slot;
+
+  CompactPlainSlotDateImpl(long epoch, long slot) {
+    this.epoch = epoch;
+    this.slot = slot;
+  }
+
+  /**
+   * gets the compact representation of the given {@code date}, if it has one.
+   *
+   * @param date {@link PlainSlotDate} for which the compact representation shall be returned.
+   * @return the compact representation of the given {@code date}, or {@code null}, if the given
+   * {@code date} is not backed by primitive values.
+   */
+  static CompactPlainSlotDateImpl unwrap(PlainSlotDate date) {
+    if (date instanceof CompactPlainSlotDateImpl) {
+      return (CompactPlainSlotDateImpl) date;
+    } else if (date instanceof CompleteSlotDateImpl) {
+      return unwrap(((CompleteSlotDateImpl) date).getPlainSlotDate());
+    }
+    return null;
+  }
+
+  long getEpochAsLong() {
+    return epoch;
+  }
+
+  long getSlotAsLong() {
+    return slot;
+  }
+
+  public BigInteger getEpoch() {
+    return BigInteger.valueOf(epoch);
+  }
+
+  public BigInteger getSlot() {
+    return BigInteger.valueOf(slot);
+  }
+
+  public boolean sameAs(PlainSlotDate otherSlotDate) {
+    CompactPlainSlotDateImpl other = unwrap(otherSlotDate);
+    if (other != null) {
+      return epoch == other.epoch && slot == other.slot;
+    }
+    return getEpoch().equals(otherSlotDate.getEpoch()) && getSlot()
+        .equals(otherSlotDate.getSlot());
+  }
+
+  public boolean before(PlainSlotDate otherSlotDate) {
+    CompactPlainSlotDateImpl other = unwrap(otherSlotDate);
+    if (other != null) {
+      return epoch < other.epoch || (epoch == other.epoch && slot < other.slot);
+    }
+    int epochComparison = getEpoch().compareTo(otherSlotDate.getEpoch());
+    return epochComparison < 0 || (epochComparison == 0
+        && getSlot().compareTo(otherSlotDate.getSlot()) < 0);
+  }
+
+  public boolean after(PlainSlotDate otherSlotDate) {
+    CompactPlainSlotDateImpl other = unwrap(otherSlotDate);
+    if (other != null) {
+      return epoch > other.epoch || (epoch == other.epoch && slot > other.slot);
+    }
+    int epochComparison = getEpoch().compareTo(otherSlotDate.getEpoch());
+    return epochComparison > 0 || (epochComparison == 0
+        && getSlot().compareTo(otherSlotDate.getSlot()) > 0);
+  }
+
+  @Override
+  public int compareTo(PlainSlotDate otherSlotDate) {
+    CompactPlainSlotDateImpl other = unwrap(otherSlotDate);
+    if (other != null) {
+      int epochComparison = Long.compare(epoch, other.epoch);
+      return epochComparison != 0 ? epochComparison : Long.compare(slot, other.slot);
+    }
+    int epochComparison = getEpoch().compareTo(otherSlotDate.getEpoch());
+    return epochComparison != 0 ? epochComparison : getSlot().compareTo(otherSlotDate.getSlot());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof CompactPlainSlotDateImpl) {
+      CompactPlainSlotDateImpl that = (CompactPlainSlotDateImpl) o;
+      return epoch == that.epoch && slot == that.slot;
+    }
+    return o instanceof PlainSlotDateImpl && sameAs((PlainSlotDate) o);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode(epoch, slot);
+  }
+
+  /**
+   * computes the hash code of a plain slot date with the given {@code epoch} and {@code slot}
+   * number, which must be the same for all implementations of plain slot dates.
+   */
+  static int hashCode(long epoch, long slot) {
+    return 31 * Long.hashCode(epoch) + Long.hashCode(slot);
+  }
+}
@@ -22,6 +22,23 @@ public interface CompleteSlotDate extends PlainSlotDate {
    */
   TimeSetting getTimeSetting();
 
+  /**
+   * gets the absolute slot number of this slot date, which is the number of slots that passed
+   * between the genesis block and this slot date.
+   *
+   * @return the absolute slot number of this slot date.
+   */
+  BigInteger getAbsoluteSlot();
+
+  /**
+   * gets the absolute slot number of this slot date as a {@code long}, which is the number of
+   * slots that passed between the genesis block and this slot date.
+   *
+   * @return the absolute slot number of this slot date.
+   * @throws ArithmeticException if the absolute slot number does not fit into a {@code long}.
+   */
+  long getAbsoluteSlotExact();
+
   /**
    * gets the start time of this slot date as an {@link Instant}.
    *
@@ -49,6 +66,69 @@ public interface CompleteSlotDate extends PlainSlotDate {
    */
   BigInteger difference(PlainSlotDate otherSlotDate);
 
+  /**
+   * gets the slot date that is the given number of {@code slots} after this slot date. The given
+   * number can be negative, and then the returned slot date is before this slot date.
+   *
+   * @param slots the number of slots that shall be added.
+   * @return the slot date that is the given number of slots after this slot date.
+   * @throws IllegalArgumentException if the resulting slot date would be before the genesis block.
+   */
+  CompleteSlotDate plusSlots(long slots);
+
+  /**
+   * gets the slot date that is the given number of {@code slots} before this slot date. The given
+   * number can be negative, and then the returned slot date is after this slot date.
+   *
+   * @param slots the number of slots that shall be subtracted.
+   * @return the slot date that is the given number of slots before this slot date.
+   * @throws IllegalArgumentException if the resulting slot date would be before the genesis block.
+   */
+  CompleteSlotDate minusSlots(long slots);
+
+  /**
+   * gets the slot date that is the given number of {@code epochs} after this slot date with the
+   * same slot number within the epoch. Should the resulting epoch have fewer slots (because it
+   * belongs to another era), then the last slot of the resulting epoch is returned. The given
+   * number can be negative.
+   *
+   * @param epochs the number of epochs that shall be added.
+   * @return the slot date that is the given number of epochs after this slot date.
+   * @throws IllegalArgumentException if the resulting slot date would be before the genesis block.
+   */
+  CompleteSlotDate plusEpochs(long epochs);
+
+  /**
+   * gets the amount of time until the given {@code otherSlotDate} in the given {@link SlotUnit}.
+   * Only complete epochs are counted, i.e. the number of epochs is the greatest number {@code n}
+   * such that {@code plusEpochs(n)} is not after the given slot date (or not before it, if the
+   * given slot date is before this slot date). The result is negative, if the given slot date is
+   * before this slot date.
+   *
+   * @param otherSlotDate {@link PlainSlotDate} until which the amount of time shall be computed.
+   * @param unit          {@link SlotUnit} in which the amount of time shall be measured.
+   * @return the amount of time until the given slot date in the given unit.
+   * @throws IllegalArgumentException if the given {@code otherSlotDate} is not valid for the time
+   *                                  settings of this {@link CompleteSlotDate}, or the given unit
+   *                                  is null.
+   * @throws ArithmeticException      if the amount of time does not fit into a {@code long}.
+   */
+  long until(PlainSlotDate otherSlotDate, SlotUnit unit);
+
+  /**
+   * gets the first slot date of the epoch of this slot date.
+   *
+   * @return the first slot date of the epoch of this slot date.
+   */
+  CompleteSlotDate firstSlotOfEpoch();
+
+  /**
+   * gets the last slot date of the epoch of this slot date.
+   *
+   * @return the last slot date of the epoch of this slot date.
+   */
+  CompleteSlotDate lastSlotOfEpoch();
+
   /**
    * transforms the given {@code date} ({@link PlainSlotDate}) into a {@link CompleteSlotDate} given
    * the {@code setting} ({@link TimeSetting}).
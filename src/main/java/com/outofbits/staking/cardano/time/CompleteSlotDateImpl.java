@@ -3,10 +3,11 @@ package com.outofbits.staking.cardano.time;
 import java.math.BigInteger;
 import java.time.Instant;
 
-import static com.google.common.base.Preconditions.checkArgument;
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
 
 /**
- * A simple implementation of {@link CompleteSlotDate}.
+ * A simple implementation of {@link CompleteSlotDate}. The absolute slot number is computed once
+ * when the slot date is created, and it is backed by a primitive {@code long}, if it fits.
  *
  * @author Kevin Haller
  * @version 1.0.0
@@ -14,12 +15,56 @@ import static com.google.common.base.Preconditions.checkArgument;
  */
 class CompleteSlotDateImpl implements CompleteSlotDate {
 
+  private static final String BEFORE_GENESIS_MESSAGE =
+      "The resulting slot date must not be before the genesis block.";
+
   private final PlainSlotDate plainSlotDate;
   private final TimeSetting setting;
+  private final long absoluteSlot;
+  private final boolean compactAbsoluteSlot;
+  private BigInteger absoluteSlotNumber;
 
   CompleteSlotDateImpl(PlainSlotDate plainSlotDate, TimeSetting setting) {
     this.plainSlotDate = plainSlotDate;
     this.setting = setting;
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(plainSlotDate);
+    long computedAbsoluteSlot = 0;
+    boolean compact = false;
+    if (compactDate != null) {
+      try {
+        computedAbsoluteSlot = setting
+            .absoluteSlotOf(compactDate.getEpochAsLong(), compactDate.getSlotAsLong());
+        compact = true;
+      } catch (ArithmeticException e) {
+        // the absolute slot number is represented as a BigInteger.
+      }
+    }
+    if (!compact) {
+      this.absoluteSlotNumber = setting
+          .absoluteSlotOf(plainSlotDate.getEpoch(), plainSlotDate.getSlot());
+    }
+    this.absoluteSlot = computedAbsoluteSlot;
+    this.compactAbsoluteSlot = compact;
+  }
+
+  CompleteSlotDateImpl(PlainSlotDate plainSlotDate, TimeSetting setting, long absoluteSlot) {
+    this.plainSlotDate = plainSlotDate;
+    this.setting = setting;
+    this.absoluteSlot = absoluteSlot;
+    this.compactAbsoluteSlot = true;
+  }
+
+  PlainSlotDate getPlainSlotDate() {
+    return plainSlotDate;
+  }
+
+  /**
+   * checks whether the absolute slot number of this slot date can be compared with the one of the
+   * given {@code otherSlotDate} using primitive arithmetic.
+   */
+  private boolean compactlyComparableWith(CompleteSlotDateImpl otherSlotDate) {
+    return compactAbsoluteSlot && otherSlotDate.compactAbsoluteSlot
+        && (setting == otherSlotDate.setting || setting.equals(otherSlotDate.setting));
   }
 
   @Override
@@ -27,19 +72,53 @@ class CompleteSlotDateImpl implements CompleteSlotDate {
     return setting;
   }
 
+  @Override
+  public BigInteger getAbsoluteSlot() {
+    BigInteger number = absoluteSlotNumber;
+    if (number == null) {
+      number = BigInteger.valueOf(absoluteSlot);
+      absoluteSlotNumber = number;
+    }
+    return number;
+  }
+
+  @Override
+  public long getAbsoluteSlotExact() {
+    if (compactAbsoluteSlot) {
+      return absoluteSlot;
+    }
+    return absoluteSlotNumber.longValueExact();
+  }
+
   @Override
   public Instant getStartTime() {
-    BigInteger slots = this.plainSlotDate.getSlot().add(
-        BigInteger.valueOf(this.setting.getSlotsPerEpoch())
-            .multiply(this.plainSlotDate.getEpoch()));
-    // TODO: not safe for big numbers
-    return setting.getGenesisBlockCreationTime()
-        .plus(setting.getSlotDuration().multipliedBy(slots.longValue()));
+    if (Instrumentation.ENABLED) {
+      return Instrumentation.timed(TimeOperation.START_TIME, this::startTime);
+    }
+    return startTime();
+  }
+
+  private Instant startTime() {
+    if (compactAbsoluteSlot) {
+      try {
+        return setting.startTimeOf(absoluteSlot);
+      } catch (ArithmeticException e) {
+        // falls back to the BigInteger computation below.
+      }
+    }
+    return setting.startTimeOf(getAbsoluteSlot());
   }
 
   @Override
   public Instant getEndTime() {
-    return getStartTime().plus(setting.getSlotDuration());
+    if (compactAbsoluteSlot && absoluteSlot < Long.MAX_VALUE) {
+      try {
+        return setting.startTimeOf(absoluteSlot + 1);
+      } catch (ArithmeticException e) {
+        // falls back to the BigInteger computation below.
+      }
+    }
+    return setting.startTimeOf(getAbsoluteSlot().add(BigInteger.ONE));
   }
 
   @Override
@@ -47,13 +126,157 @@ class CompleteSlotDateImpl implements CompleteSlotDate {
     checkArgument(
         this.setting.valid(otherSlotDate),
         "The given other slot date must be valid for the time setting of this complete slot date.");
-    BigInteger a = this.plainSlotDate.getSlot().add(
-        BigInteger.valueOf(this.setting.getSlotsPerEpoch())
-            .multiply(this.plainSlotDate.getEpoch()));
-    BigInteger b = otherSlotDate.getSlot().add(
-        BigInteger.valueOf(this.setting.getSlotsPerEpoch())
-            .multiply(otherSlotDate.getEpoch()));
-    return a.subtract(b);
+    long otherAbsoluteSlot = compactAbsoluteSlotOf(otherSlotDate);
+    if (otherAbsoluteSlot >= 0) {
+      return BigInteger.valueOf(absoluteSlot - otherAbsoluteSlot);
+    }
+    return getAbsoluteSlot()
+        .subtract(setting.absoluteSlotOf(otherSlotDate.getEpoch(), otherSlotDate.getSlot()));
+  }
+
+  /**
+   * gets the absolute slot number of the given {@code otherSlotDate} in the time setting of this
+   * slot date, if both absolute slot numbers fit into a {@code long}, and otherwise {@code -1}.
+   */
+  private long compactAbsoluteSlotOf(PlainSlotDate otherSlotDate) {
+    if (!compactAbsoluteSlot) {
+      return -1L;
+    }
+    if (otherSlotDate instanceof CompleteSlotDateImpl && compactlyComparableWith(
+        (CompleteSlotDateImpl) otherSlotDate)) {
+      return ((CompleteSlotDateImpl) otherSlotDate).absoluteSlot;
+    }
+    CompactPlainSlotDateImpl otherCompactDate = CompactPlainSlotDateImpl.unwrap(otherSlotDate);
+    if (otherCompactDate != null) {
+      try {
+        return setting
+            .absoluteSlotOf(otherCompactDate.getEpochAsLong(), otherCompactDate.getSlotAsLong());
+      } catch (ArithmeticException e) {
+        // falls back to the BigInteger computation.
+      }
+    }
+    return -1L;
+  }
+
+  @Override
+  public CompleteSlotDate plusSlots(long slots) {
+    if (compactAbsoluteSlot) {
+      try {
+        long newAbsoluteSlot = Math.addExact(absoluteSlot, slots);
+        checkArgument(newAbsoluteSlot >= 0, BEFORE_GENESIS_MESSAGE);
+        return setting.getSlotDateForAbsoluteSlot(newAbsoluteSlot);
+      } catch (ArithmeticException e) {
+        // falls back to the BigInteger computation below.
+      }
+    }
+    return plusSlots(BigInteger.valueOf(slots));
+  }
+
+  private CompleteSlotDate plusSlots(BigInteger slots) {
+    BigInteger newAbsoluteSlot = getAbsoluteSlot().add(slots);
+    checkArgument(newAbsoluteSlot.signum() >= 0, BEFORE_GENESIS_MESSAGE);
+    return setting.getSlotDateForAbsoluteSlot(newAbsoluteSlot);
+  }
+
+  @Override
+  public CompleteSlotDate minusSlots(long slots) {
+    if (slots == Long.MIN_VALUE) {
+      return plusSlots(BigInteger.valueOf(slots).negate());
+    }
+    return plusSlots(-slots);
+  }
+
+  @Override
+  public CompleteSlotDate plusEpochs(long epochs) {
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(plainSlotDate);
+    if (compactDate != null) {
+      try {
+        long newEpoch = Math.addExact(compactDate.getEpochAsLong(), epochs);
+        checkArgument(newEpoch >= 0, BEFORE_GENESIS_MESSAGE);
+        long newSlot = Math.min(compactDate.getSlotAsLong(), setting.slotsPerEpochOf(newEpoch) - 1);
+        return new CompleteSlotDateImpl(new CompactPlainSlotDateImpl(newEpoch, newSlot), setting,
+            setting.absoluteSlotOf(newEpoch, newSlot));
+      } catch (ArithmeticException e) {
+        // falls back to the BigInteger computation below.
+      }
+    }
+    BigInteger newEpoch = getEpoch().add(BigInteger.valueOf(epochs));
+    checkArgument(newEpoch.signum() >= 0, BEFORE_GENESIS_MESSAGE);
+    BigInteger newSlot = getSlot().min(slotsPerEpochOf(newEpoch).subtract(BigInteger.ONE));
+    return new CompleteSlotDateImpl(SlotDateFactory.plainInstance(newEpoch, newSlot), setting);
+  }
+
+  @Override
+  public long until(PlainSlotDate otherSlotDate, SlotUnit unit) {
+    checkArgument(unit != null, "The given unit must not be null.");
+    checkArgument(
+        this.setting.valid(otherSlotDate),
+        "The given other slot date must be valid for the time setting of this complete slot date.");
+    if (unit == SlotUnit.SLOTS) {
+      long otherAbsoluteSlot = compactAbsoluteSlotOf(otherSlotDate);
+      if (otherAbsoluteSlot >= 0) {
+        return otherAbsoluteSlot - absoluteSlot;
+      }
+      return setting.absoluteSlotOf(otherSlotDate.getEpoch(), otherSlotDate.getSlot())
+          .subtract(getAbsoluteSlot()).longValueExact();
+    }
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(plainSlotDate);
+    CompactPlainSlotDateImpl otherCompactDate = CompactPlainSlotDateImpl.unwrap(otherSlotDate);
+    if (compactDate != null && otherCompactDate != null) {
+      long otherEpoch = otherCompactDate.getEpochAsLong();
+      long epochs = otherEpoch - compactDate.getEpochAsLong();
+      long shiftedSlot = Math.min(compactDate.getSlotAsLong(),
+          setting.slotsPerEpochOf(otherEpoch) - 1);
+      if (epochs > 0 && shiftedSlot > otherCompactDate.getSlotAsLong()) {
+        epochs--;
+      } else if (epochs < 0 && shiftedSlot < otherCompactDate.getSlotAsLong()) {
+        epochs++;
+      }
+      return epochs;
+    }
+    BigInteger otherEpoch = otherSlotDate.getEpoch();
+    BigInteger epochs = otherEpoch.subtract(getEpoch());
+    int slotComparison = getSlot().min(slotsPerEpochOf(otherEpoch).subtract(BigInteger.ONE))
+        .compareTo(otherSlotDate.getSlot());
+    if (epochs.signum() > 0 && slotComparison > 0) {
+      epochs = epochs.subtract(BigInteger.ONE);
+    } else if (epochs.signum() < 0 && slotComparison < 0) {
+      epochs = epochs.add(BigInteger.ONE);
+    }
+    return epochs.longValueExact();
+  }
+
+  @Override
+  public CompleteSlotDate firstSlotOfEpoch() {
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(plainSlotDate);
+    if (compactAbsoluteSlot && compactDate != null) {
+      return new CompleteSlotDateImpl(new CompactPlainSlotDateImpl(compactDate.getEpochAsLong(), 0),
+          setting, absoluteSlot - compactDate.getSlotAsLong());
+    }
+    return new CompleteSlotDateImpl(SlotDateFactory.plainInstance(getEpoch(), BigInteger.ZERO),
+        setting);
+  }
+
+  @Override
+  public CompleteSlotDate lastSlotOfEpoch() {
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(plainSlotDate);
+    if (compactAbsoluteSlot && compactDate != null) {
+      long lastSlot = setting.slotsPerEpochOf(compactDate.getEpochAsLong()) - 1;
+      try {
+        return new CompleteSlotDateImpl(
+            new CompactPlainSlotDateImpl(compactDate.getEpochAsLong(), lastSlot), setting,
+            Math.addExact(absoluteSlot, lastSlot - compactDate.getSlotAsLong()));
+      } catch (ArithmeticException e) {
+        // falls back to the BigInteger computation below.
+      }
+    }
+    return new CompleteSlotDateImpl(SlotDateFactory.plainInstance(getEpoch(),
+        slotsPerEpochOf(getEpoch()).subtract(BigInteger.ONE)), setting);
+  }
+
+  private BigInteger slotsPerEpochOf(BigInteger epoch) {
+    return BigInteger
+        .valueOf(setting.getEras().get(setting.eraOfEpoch(epoch)).getSlotsPerEpoch());
   }
 
   @Override
@@ -68,16 +291,61 @@ class CompleteSlotDateImpl implements CompleteSlotDate {
 
   @Override
   public boolean sameAs(PlainSlotDate otherSlotDate) {
+    if (otherSlotDate instanceof CompleteSlotDateImpl && compactlyComparableWith(
+        (CompleteSlotDateImpl) otherSlotDate)) {
+      return absoluteSlot == ((CompleteSlotDateImpl) otherSlotDate).absoluteSlot;
+    }
     return plainSlotDate.sameAs(otherSlotDate);
   }
 
   @Override
   public boolean before(PlainSlotDate otherSlotDate) {
+    if (otherSlotDate instanceof CompleteSlotDateImpl && compactlyComparableWith(
+        (CompleteSlotDateImpl) otherSlotDate)) {
+      return absoluteSlot < ((CompleteSlotDateImpl) otherSlotDate).absoluteSlot;
+    }
     return plainSlotDate.before(otherSlotDate);
   }
 
   @Override
   public boolean after(PlainSlotDate otherSlotDate) {
+    if (otherSlotDate instanceof CompleteSlotDateImpl && compactlyComparableWith(
+        (CompleteSlotDateImpl) otherSlotDate)) {
+      return absoluteSlot > ((CompleteSlotDateImpl) otherSlotDate).absoluteSlot;
+    }
     return plainSlotDate.after(otherSlotDate);
   }
+
+  @Override
+  public int compareTo(PlainSlotDate otherSlotDate) {
+    if (otherSlotDate instanceof CompleteSlotDateImpl && compactlyComparableWith(
+        (CompleteSlotDateImpl) otherSlotDate)) {
+      return Long.compare(absoluteSlot, ((CompleteSlotDateImpl) otherSlotDate).absoluteSlot);
+    }
+    return plainSlotDate.compareTo(otherSlotDate);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CompleteSlotDateImpl)) {
+      return false;
+    }
+    CompleteSlotDateImpl that = (CompleteSlotDateImpl) o;
+    if (!setting.equals(that.setting)) {
+      return false;
+    }
+    if (compactAbsoluteSlot && that.compactAbsoluteSlot) {
+      return absoluteSlot == that.absoluteSlot;
+    }
+    return getAbsoluteSlot().equals(that.getAbsoluteSlot());
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * setting.hashCode() + (compactAbsoluteSlot ? Long.hashCode(absoluteSlot)
+        : absoluteSlotNumber.hashCode());
+  }
 }
@@ -0,0 +1,365 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * A precomputed table of the start times and first absolute slot numbers of the first epochs of a
+ * {@link TimeSetting}. Lookups by epoch take constant time and lookups by time or absolute slot
+ * number take logarithmic time, and none of them allocates any objects.
+ * <p/>
+ * The table is either kept on the heap, or it is persisted to a file that is memory-mapped, such
+ * that multiple JVMs on the same host share the same table. A mapped file is only computed once,
+ * and it is recomputed, if it has been created for another time setting or number of epochs.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class EpochCalendar {
+
+  private static final int MAGIC = 0x45504F43;
+  private static final int VERSION = 1;
+
+  private final TimeSetting setting;
+  private final int epochCount;
+  private final LongBuffer table;
+  private final long genesisEpochMilli;
+  private final long genesisNanoOfMilli;
+
+  private EpochCalendar(TimeSetting setting, int epochCount, LongBuffer table) {
+    this.setting = setting;
+    this.epochCount = epochCount;
+    this.table = table;
+    Instant genesis = setting.getGenesisBlockCreationTime();
+    this.genesisEpochMilli = genesis.toEpochMilli();
+    this.genesisNanoOfMilli = genesis.getNano() % 1_000_000L;
+  }
+
+  /**
+   * creates a new {@link EpochCalendar} on the heap for the epochs {@code 0} to {@code epochCount
+   * - 1} of the given {@link TimeSetting}.
+   *
+   * @param setting    {@link TimeSetting} for which the calendar shall be created.
+   * @param epochCount the number of epochs that shall be covered by the calendar.
+   * @return the new {@link EpochCalendar}.
+   * @throws IllegalArgumentException if the given setting is null, or the given number of epochs
+   *                                  is not positive or exceeds the range of the time setting.
+   */
+  public static EpochCalendar of(TimeSetting setting, int epochCount) {
+    checkArguments(setting, epochCount);
+    LongBuffer table = LongBuffer.allocate(2 * (epochCount + 1));
+    fill(setting, epochCount, table);
+    return new EpochCalendar(setting, epochCount, table);
+  }
+
+  /**
+   * creates a new {@link EpochCalendar} for the epochs {@code 0} to {@code epochCount - 1} of the
+   * given {@link TimeSetting}, which is backed by the given memory-mapped {@code file}. The file is
+   * created, if it does not exist, and the table is (re)computed, if the file does not contain the
+   * table for the given details. A (re)computed table is written to a temporary file in the same
+   * directory, which then atomically replaces the given file. Hence, the file is never modified in
+   * place, and it can be shared by multiple JVMs, even if they map it for different details.
+   *
+   * @param setting    {@link TimeSetting} for which the calendar shall be created.
+   * @param epochCount the number of epochs that shall be covered by the calendar.
+   * @param file       {@link Path} to the file that shall back the calendar.
+   * @return the new {@link EpochCalendar}.
+   * @throws IllegalArgumentException if the given setting or file is null, or the given number of
+   *                                  epochs is not positive or exceeds the range of the time
+   *                                  setting.
+   * @throws IOException              if the file cannot be read, written, mapped or replaced.
+   */
+  public static EpochCalendar map(TimeSetting setting, int epochCount, Path file)
+      throws IOException {
+    checkArguments(setting, epochCount);
+    checkArgument(file != null, "The given file must not be null.");
+    ByteBuffer header = header(setting, epochCount);
+    long size = header.remaining() + 2L * (epochCount + 1) * Long.BYTES;
+    if (Files.exists(file)) {
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        if (hasHeader(channel, header, size)) {
+          return mapped(setting, epochCount, channel.map(MapMode.READ_ONLY, 0, size), header);
+        }
+      }
+    }
+    Path absoluteFile = file.toAbsolutePath();
+    Path temporaryFile = Files.createTempFile(absoluteFile.getParent(),
+        absoluteFile.getFileName().toString(), ".tmp");
+    try {
+      MappedByteBuffer buffer;
+      try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.READ,
+          StandardOpenOption.WRITE)) {
+        buffer = channel.map(MapMode.READ_WRITE, 0, size);
+      }
+      buffer.put(header.duplicate());
+      fill(setting, epochCount, buffer.slice().asLongBuffer());
+      buffer.force();
+      Files.move(temporaryFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+      return mapped(setting, epochCount, buffer, header);
+    } finally {
+      Files.deleteIfExists(temporaryFile);
+    }
+  }
+
+  private static EpochCalendar mapped(TimeSetting setting, int epochCount, ByteBuffer buffer,
+      ByteBuffer header) {
+    ((Buffer) buffer).position(header.remaining());
+    return new EpochCalendar(setting, epochCount, buffer.slice().asLongBuffer()
+        .asReadOnlyBuffer());
+  }
+
+  private static void checkArguments(TimeSetting setting, int epochCount) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(epochCount > 0 && epochCount < Integer.MAX_VALUE / 2,
+        "The given number of epochs must be positive and less than %s.", Integer.MAX_VALUE / 2);
+  }
+
+  /**
+   * fills the given {@code table} with the start offsets in nanoseconds to the genesis block of
+   * the epochs {@code 0} to {@code epochCount} (inclusive), followed by their first absolute slot
+   * numbers.
+   */
+  private static void fill(TimeSetting setting, int epochCount, LongBuffer table) {
+    try {
+      for (int epoch = 0; epoch <= epochCount; epoch++) {
+        long absoluteSlot = setting.absoluteSlotOf(epoch, 0L);
+        table.put(epoch, setting.startOffsetNanosOf(absoluteSlot));
+        table.put(epochCount + 1 + epoch, absoluteSlot);
+      }
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException(
+          "The given number of epochs exceeds the range of the time setting.", e);
+    }
+  }
+
+  /**
+   * creates the header of a calendar file, which consists of a magic number, the version of the
+   * file format, the encoded time setting and the number of epochs. The header is padded to a
+   * multiple of eight bytes.
+   */
+  private static ByteBuffer header(TimeSetting setting, int epochCount) {
+    ByteBuffer header = ByteBuffer.allocate(48 + 30 * setting.getEras().size());
+    header.putInt(MAGIC);
+    header.putInt(VERSION);
+    SlotDateCodec.writeTimeSetting(header, setting);
+    while (header.position() % Long.BYTES != 0) {
+      header.put((byte) 0);
+    }
+    header.putLong(epochCount);
+    ((Buffer) header).flip();
+    return header;
+  }
+
+  private static boolean hasHeader(FileChannel channel, ByteBuffer header, long size)
+      throws IOException {
+    if (channel.size() != size) {
+      return false;
+    }
+    ByteBuffer fileHeader = ByteBuffer.allocate(header.remaining());
+    while (fileHeader.hasRemaining()) {
+      if (channel.read(fileHeader, fileHeader.position()) < 0) {
+        return false;
+      }
+    }
+    ((Buffer) fileHeader).flip();
+    return fileHeader.equals(header);
+  }
+
+  /**
+   * gets the {@link TimeSetting} of this calendar.
+   *
+   * @return {@link TimeSetting} of this calendar.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * gets the number of epochs covered by this calendar, which are the epochs {@code 0} to {@code
+   * getEpochCount() - 1}.
+   *
+   * @return the number of epochs covered by this calendar.
+   */
+  public int getEpochCount() {
+    return epochCount;
+  }
+
+  /**
+   * checks whether the given {@code epoch} is covered by this calendar.
+   *
+   * @param epoch the epoch number that shall be checked.
+   * @return {@code true}, if the given epoch is covered by this calendar, otherwise {@code false}.
+   */
+  public boolean covers(long epoch) {
+    return epoch >= 0 && epoch < epochCount;
+  }
+
+  /**
+   * gets the first absolute slot number of the given {@code epoch}.
+   *
+   * @param epoch the epoch number, which must be covered by this calendar.
+   * @return the first absolute slot number of the given {@code epoch}.
+   * @throws IllegalArgumentException if the given epoch is not covered by this calendar.
+   */
+  public long getFirstAbsoluteSlot(long epoch) {
+    checkEpoch(epoch);
+    return table.get(epochCount + 1 + (int) epoch);
+  }
+
+  /**
+   * gets the last absolute slot number of the given {@code epoch}.
+   *
+   * @param epoch the epoch number, which must be covered by this calendar.
+   * @return the last absolute slot number of the given {@code epoch}.
+   * @throws IllegalArgumentException if the given epoch is not covered by this calendar.
+   */
+  public long getLastAbsoluteSlot(long epoch) {
+    checkEpoch(epoch);
+    return table.get(epochCount + 2 + (int) epoch) - 1;
+  }
+
+  /**
+   * gets the start time of the given {@code epoch} in milliseconds since the epoch, rounded down
+   * to the millisecond.
+   *
+   * @param epoch the epoch number, which must be covered by this calendar.
+   * @return the start time of the given {@code epoch} in milliseconds since the epoch.
+   * @throws IllegalArgumentException if the given epoch is not covered by this calendar.
+   */
+  public long getStartEpochMilli(long epoch) {
+    checkEpoch(epoch);
+    return toEpochMilli(table.get((int) epoch));
+  }
+
+  /**
+   * gets the end time (exclusive) of the given {@code epoch} in milliseconds since the epoch,
+   * rounded down to the millisecond. It is the start time of the following epoch.
+   *
+   * @param epoch the epoch number, which must be covered by this calendar.
+   * @return the end time of the given {@code epoch} in milliseconds since the epoch.
+   * @throws IllegalArgumentException if the given epoch is not covered by this calendar.
+   */
+  public long getEndEpochMilli(long epoch) {
+    checkEpoch(epoch);
+    return toEpochMilli(table.get((int) epoch + 1));
+  }
+
+  /**
+   * gets the start time of the given {@code epoch}.
+   *
+   * @param epoch the epoch number, which must be covered by this calendar.
+   * @return the start time of the given {@code epoch}.
+   * @throws IllegalArgumentException if the given epoch is not covered by this calendar.
+   */
+  public Instant getStartTime(long epoch) {
+    checkEpoch(epoch);
+    return toInstant(table.get((int) epoch));
+  }
+
+  /**
+   * gets the end time (exclusive) of the given {@code epoch}, which is the start time of the
+   * following epoch.
+   *
+   * @param epoch the epoch number, which must be covered by this calendar.
+   * @return the end time of the given {@code epoch}.
+   * @throws IllegalArgumentException if the given epoch is not covered by this calendar.
+   */
+  public Instant getEndTime(long epoch) {
+    checkEpoch(epoch);
+    return toInstant(table.get((int) epoch + 1));
+  }
+
+  /**
+   * gets the epoch that contains the given {@code time}.
+   *
+   * @param time {@link Instant} for which the epoch shall be returned.
+   * @return the epoch containing the given {@code time}.
+   * @throws IllegalArgumentException if the given time is null, or it is not covered by this
+   *                                  calendar.
+   */
+  public long epochOf(Instant time) {
+    checkArgument(time != null, "The given time must not be null.");
+    long offsetNanos;
+    try {
+      offsetNanos = setting.offsetNanosOf(time);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("The given time must be covered by this calendar.", e);
+    }
+    return floorEpoch(0, offsetNanos);
+  }
+
+  /**
+   * gets the epoch that contains the given {@code epochMilli}.
+   *
+   * @param epochMilli the time in milliseconds since the epoch.
+   * @return the epoch containing the given {@code epochMilli}.
+   * @throws IllegalArgumentException if the given time is not covered by this calendar.
+   */
+  public long epochOfEpochMilli(long epochMilli) {
+    long offsetNanos;
+    try {
+      offsetNanos = Math.multiplyExact(Math.subtractExact(epochMilli, genesisEpochMilli),
+          1_000_000L) - genesisNanoOfMilli;
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("The given time must be covered by this calendar.", e);
+    }
+    return floorEpoch(0, offsetNanos);
+  }
+
+  /**
+   * gets the epoch that contains the slot with the given {@code absoluteSlot} number.
+   *
+   * @param absoluteSlot the absolute slot number.
+   * @return the epoch containing the given slot.
+   * @throws IllegalArgumentException if the given slot is not covered by this calendar.
+   */
+  public long epochOfAbsoluteSlot(long absoluteSlot) {
+    return floorEpoch(epochCount + 1, absoluteSlot);
+  }
+
+  /**
+   * searches the greatest epoch whose entry in the column starting at the given {@code offset} is
+   * less than or equal to the given {@code key}.
+   */
+  private long floorEpoch(int offset, long key) {
+    checkArgument(key >= table.get(offset) && key < table.get(offset + epochCount),
+        "The given time or slot must be covered by this calendar.");
+    int low = 0;
+    int high = epochCount - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (table.get(offset + mid) <= key) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  private void checkEpoch(long epoch) {
+    checkArgument(covers(epoch), "The given epoch must be covered by this calendar.");
+  }
+
+  private long toEpochMilli(long offsetNanos) {
+    return genesisEpochMilli + Math.floorDiv(offsetNanos + genesisNanoOfMilli, 1_000_000L);
+  }
+
+  private Instant toInstant(long offsetNanos) {
+    return setting.getGenesisBlockCreationTime().plusNanos(offsetNanos);
+  }
+}
@@ -0,0 +1,83 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+/**
+ * A compact summary of the values that have been aggregated by a {@link SlotAggregator} for the
+ * slots of one epoch. For each metric, the total over all slots of the epoch and the maximum
+ * value of a single slot are kept.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class EpochSummary {
+
+  private final long epoch;
+  private final long activeSlots;
+  private final long[] totals;
+  private final long[] maxima;
+
+  EpochSummary(long epoch, long activeSlots, long[] totals, long[] maxima) {
+    this.epoch = epoch;
+    this.activeSlots = activeSlots;
+    this.totals = totals;
+    this.maxima = maxima;
+  }
+
+  /**
+   * gets the epoch of this summary.
+   *
+   * @return the epoch of this summary.
+   */
+  public long getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * gets the number of slots of the epoch for which at least one value has been aggregated.
+   *
+   * @return the number of slots with at least one aggregated value.
+   */
+  public long getActiveSlots() {
+    return activeSlots;
+  }
+
+  /**
+   * gets the number of metrics in this summary.
+   *
+   * @return the number of metrics in this summary.
+   */
+  public int getMetricCount() {
+    return totals.length;
+  }
+
+  /**
+   * gets the total of the given {@code metric} over all slots of the epoch.
+   *
+   * @param metric index of the metric.
+   * @return the total of the given metric.
+   * @throws IllegalArgumentException if the given metric index is not valid.
+   */
+  public long getTotal(int metric) {
+    checkMetric(metric);
+    return totals[metric];
+  }
+
+  /**
+   * gets the maximum value of the given {@code metric} in a single slot of the epoch.
+   *
+   * @param metric index of the metric.
+   * @return the maximum value of the given metric in a single slot.
+   * @throws IllegalArgumentException if the given metric index is not valid.
+   */
+  public long getMaxPerSlot(int metric) {
+    checkMetric(metric);
+    return maxima[metric];
+  }
+
+  private void checkMetric(int metric) {
+    checkArgument(metric >= 0 && metric < totals.length,
+        "The given metric index must be between 0 and %s (exclusive).", totals.length);
+  }
+}
@@ -0,0 +1,100 @@
+package com.outofbits.staking.cardano.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An era is a period of a Cardano block chain in which the number of slots per epoch and the
+ * duration of a slot do not change. A hard fork can change those parameters and starts a new era,
+ * e.g. the Byron era of the main net had slots of 20 seconds and 21600 slots per epoch, while the
+ * following Shelley era has slots of one second and 432000 slots per epoch.
+ * <p/>
+ * Eras are created by the {@link TimeSetting}, which computes the start slot and start time of an
+ * era from the eras before it.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class Era {
+
+  private final long startEpoch;
+  private final long startSlot;
+  private final Instant startTime;
+  private final long slotsPerEpoch;
+  private final Duration slotDuration;
+
+  Era(long startEpoch, long startSlot, Instant startTime, long slotsPerEpoch,
+      Duration slotDuration) {
+    this.startEpoch = startEpoch;
+    this.startSlot = startSlot;
+    this.startTime = startTime;
+    this.slotsPerEpoch = slotsPerEpoch;
+    this.slotDuration = slotDuration;
+  }
+
+  /**
+   * gets the number of the first epoch of this era.
+   *
+   * @return the number of the first epoch of this era.
+   */
+  public long getStartEpoch() {
+    return startEpoch;
+  }
+
+  /**
+   * gets the absolute slot number of the first slot of this era.
+   *
+   * @return the absolute slot number of the first slot of this era.
+   */
+  public long getStartSlot() {
+    return startSlot;
+  }
+
+  /**
+   * gets the start time of the first slot of this era.
+   *
+   * @return the start time of the first slot of this era.
+   */
+  public Instant getStartTime() {
+    return startTime;
+  }
+
+  /**
+   * gets the number of slots per epoch in this era.
+   *
+   * @return the number of slots per epoch in this era.
+   */
+  public long getSlotsPerEpoch() {
+    return slotsPerEpoch;
+  }
+
+  /**
+   * gets the duration of a slot in this era.
+   *
+   * @return the duration of a slot in this era.
+   */
+  public Duration getSlotDuration() {
+    return slotDuration;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Era)) {
+      return false;
+    }
+    Era era = (Era) o;
+    return startEpoch == era.startEpoch && startSlot == era.startSlot
+        && slotsPerEpoch == era.slotsPerEpoch && startTime.equals(era.startTime)
+        && slotDuration.equals(era.slotDuration);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(startEpoch, startSlot, startTime, slotsPerEpoch, slotDuration);
+  }
+}
@@ -0,0 +1,59 @@
+package com.outofbits.staking.cardano.time;
+
+import java.math.BigInteger;
+
+/**
+ * A divisor for positive {@code long} values that replaces the division by a multiplication with
+ * a precomputed fixed-point reciprocal. The reciprocal {@code m = floor(2^(62 + b) / d)}, whereby
+ * {@code b} is the bit length of the divisor {@code d}, is between {@code 2^62} and {@code 2^63},
+ * and the quotient estimated with it is at most two below the exact one, which is fixed by a
+ * correction step. Divisors that are a power of two are handled by a shift.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class FixedPointDivisor {
+
+  private final long divisor;
+  private final long multiplier;
+  private final int shift;
+  private final boolean powerOfTwo;
+
+  FixedPointDivisor(long divisor) {
+    if (divisor <= 0) {
+      throw new IllegalArgumentException("The given divisor must be positive.");
+    }
+    this.divisor = divisor;
+    this.powerOfTwo = (divisor & (divisor - 1)) == 0;
+    int bitLength = Long.SIZE - Long.numberOfLeadingZeros(divisor);
+    if (powerOfTwo) {
+      this.multiplier = 0L;
+      this.shift = bitLength - 1;
+    } else {
+      this.multiplier = BigInteger.ONE.shiftLeft(62 + bitLength)
+          .divide(BigInteger.valueOf(divisor)).longValueExact();
+      this.shift = bitLength - 2;
+    }
+  }
+
+  long divisor() {
+    return divisor;
+  }
+
+  /**
+   * divides the given positive {@code dividend} by the divisor, and rounds the result down.
+   */
+  long divide(long dividend) {
+    if (powerOfTwo) {
+      return dividend >>> shift;
+    }
+    long quotient = Multiplication.multiplyHigh(dividend, multiplier) >>> shift;
+    long remainder = dividend - quotient * divisor;
+    while (remainder >= divisor) {
+      quotient++;
+      remainder -= divisor;
+    }
+    return quotient;
+  }
+}
@@ -0,0 +1,63 @@
+package com.outofbits.staking.cardano.time;
+
+import java.util.function.Supplier;
+
+/**
+ * The holder of the installed {@link TimeMetrics}. The hot paths check the constant {@link
+ * #ENABLED} flag before measuring anything, such that the measurement is removed by the JIT
+ * compiler, if the instrumentation is disabled.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Instrumentation {
+
+  static final boolean ENABLED = Boolean.getBoolean(TimeMetrics.ENABLED_PROPERTY);
+
+  private static final TimeMetrics NO_OP = (operation, durationNanos, failed) -> {
+  };
+
+  private static volatile TimeMetrics metrics = NO_OP;
+
+  private Instrumentation() {
+  }
+
+  static void install(TimeMetrics newMetrics) {
+    metrics = newMetrics != null ? newMetrics : NO_OP;
+  }
+
+  static TimeMetrics installed() {
+    return metrics;
+  }
+
+  /**
+   * computes the given {@code body} and records its execution as the given {@code operation}. The
+   * execution counts as failed, if the {@code body} throws. Callers guard this call with {@link
+   * #ENABLED}, such that the capturing lambda is only created, if the instrumentation is enabled.
+   *
+   * @param operation the {@link TimeOperation} that is computed by the given {@code body}.
+   * @param body      the computation that shall be measured.
+   * @param <T>       the type of the computed value.
+   * @return the value computed by the given {@code body}.
+   */
+  static <T> T timed(TimeOperation operation, Supplier<T> body) {
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      T value = body.get();
+      failed = false;
+      return value;
+    } finally {
+      record(operation, start, failed);
+    }
+  }
+
+  /**
+   * records an execution of the given {@code operation} that started at the given {@code
+   * startNanos} ({@link System#nanoTime()}) and ended now.
+   */
+  static void record(TimeOperation operation, long startNanos, boolean failed) {
+    metrics.record(operation, System.nanoTime() - startNanos, failed);
+  }
+}
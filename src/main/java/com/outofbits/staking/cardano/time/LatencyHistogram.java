@@ -0,0 +1,135 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies in nanoseconds with logarithmic buckets in the style of an
+ * HDR histogram. Each power of two is divided into {@code 32} linear sub-buckets, such that the
+ * value reported for a percentile is at most about three percent above the recorded value, while
+ * the histogram has a fixed size independent of the recorded range.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder total = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * records the given {@code value}. Negative values are recorded as zero.
+   *
+   * @param value the value that shall be recorded.
+   */
+  public void record(long value) {
+    value = Math.max(value, 0L);
+    counts.incrementAndGet(indexOf(value));
+    total.add(value);
+    long currentMax = max.get();
+    while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+      currentMax = max.get();
+    }
+  }
+
+  /**
+   * gets the number of recorded values.
+   *
+   * @return the number of recorded values.
+   */
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  /**
+   * gets the sum of all recorded values.
+   *
+   * @return the sum of all recorded values.
+   */
+  public long getTotal() {
+    return total.sum();
+  }
+
+  /**
+   * gets the greatest recorded value.
+   *
+   * @return the greatest recorded value, or {@code 0}, if no value has been recorded.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * gets the mean of the recorded values.
+   *
+   * @return the mean of the recorded values, or {@code 0}, if no value has been recorded.
+   */
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0.0 : (double) getTotal() / count;
+  }
+
+  /**
+   * gets the value below or at which the given {@code percentile} of the recorded values lie. The
+   * returned value is the upper bound of the bucket containing the percentile, but at most the
+   * greatest recorded value.
+   *
+   * @param percentile the percentile between {@code 0} and {@code 100}.
+   * @return the value at the given percentile, or {@code 0}, if no value has been recorded.
+   * @throws IllegalArgumentException if the given percentile is not between 0 and 100.
+   */
+  public long getValueAtPercentile(double percentile) {
+    checkArgument(percentile >= 0.0 && percentile <= 100.0,
+        "The given percentile must be between 0 and 100.");
+    long[] snapshot = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      count += snapshot[i];
+    }
+    if (count == 0) {
+      return 0L;
+    }
+    long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+  }
+
+  static long upperBoundOf(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    int shift = index / SUB_BUCKETS - 1;
+    long subBucket = SUB_BUCKETS + index % SUB_BUCKETS;
+    long upperBound = ((subBucket + 1) << shift) - 1;
+    return upperBound >= 0 ? upperBound : Long.MAX_VALUE;
+  }
+}
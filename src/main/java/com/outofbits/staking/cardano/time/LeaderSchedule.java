@@ -0,0 +1,272 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * The leader schedule of a stake pool, i.e. the slots to which the pool has been assigned as slot
+ * leader, which are loaded epoch by epoch. The assigned slots are kept in a primitive array of
+ * ascending absolute slot numbers next to a primitive array of their precomputed start times,
+ * such that questions like "which is the next assigned slot", "how long until the next assigned
+ * slot" and "which slots are assigned between two times" are answered by a binary search without
+ * allocating objects.
+ * <p/>
+ * The schedule can be queried concurrently from many threads. Loading an epoch replaces an
+ * immutable snapshot of the schedule, which is cheap, because it happens once per epoch.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class LeaderSchedule {
+
+  private final TimeSetting setting;
+  private volatile Timeline timeline = new Timeline(new long[0], new long[0]);
+
+  private LeaderSchedule(TimeSetting setting) {
+    this.setting = setting;
+  }
+
+  /**
+   * creates a new, empty {@link LeaderSchedule} for the given {@link TimeSetting}.
+   *
+   * @param setting {@link TimeSetting} of the block chain.
+   * @return the new {@link LeaderSchedule}.
+   * @throws IllegalArgumentException if the given setting is {@code null}.
+   */
+  public static LeaderSchedule create(TimeSetting setting) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    return new LeaderSchedule(setting);
+  }
+
+  /**
+   * gets the {@link TimeSetting} of this schedule.
+   *
+   * @return {@link TimeSetting} of this schedule.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * sets the assigned slots of the given {@code epoch}, which replace the slots that have been
+   * assigned for this epoch before. The start times of the slots are computed once.
+   *
+   * @param epoch         positive epoch number.
+   * @param absoluteSlots absolute slot numbers of the assigned slots in any order, which must all
+   *                      belong to the given epoch. The given array is not modified.
+   * @throws IllegalArgumentException if the given epoch is negative, the given array is {@code
+   *                                  null}, or one of the slots does not belong to the epoch.
+   * @throws ArithmeticException      if a start time cannot be represented in milliseconds since
+   *                                  the epoch.
+   */
+  public synchronized void putEpoch(long epoch, long[] absoluteSlots) {
+    checkArgument(absoluteSlots != null, "The given absolute slot numbers must not be null.");
+    SlotRange range = SlotRange.ofEpochs(setting, epoch, epoch);
+    long[] slots = absoluteSlots.clone();
+    Arrays.sort(slots);
+    int length = 0;
+    for (long slot : slots) {
+      checkArgument(slot >= range.getFromAbsoluteSlot() && slot < range.getToAbsoluteSlot(),
+          "The given absolute slot %s must belong to the epoch %s.", slot, epoch);
+      if (length == 0 || slots[length - 1] != slot) {
+        slots[length++] = slot;
+      }
+    }
+    long[] startTimes = new long[length];
+    for (int i = 0; i < length; i++) {
+      startTimes[i] = setting.startEpochMilliOf(slots[i]);
+    }
+    Timeline current = timeline;
+    int from = SlotArrays.lowerBound(current.slots, 0, current.slots.length,
+        range.getFromAbsoluteSlot());
+    int to = SlotArrays.lowerBound(current.slots, from, current.slots.length,
+        range.getToAbsoluteSlot());
+    timeline = new Timeline(splice(current.slots, from, to, slots, length),
+        splice(current.startTimes, from, to, startTimes, length));
+  }
+
+  /**
+   * removes the assigned slots of all epochs strictly before the given {@code epoch}.
+   *
+   * @param epoch the first epoch whose assigned slots shall be kept.
+   * @throws IllegalArgumentException if the given epoch is negative.
+   */
+  public synchronized void removeEpochsBefore(long epoch) {
+    long firstSlot = SlotRange.ofEpochs(setting, epoch, epoch).getFromAbsoluteSlot();
+    Timeline current = timeline;
+    int from = SlotArrays.lowerBound(current.slots, 0, current.slots.length, firstSlot);
+    timeline = new Timeline(splice(current.slots, 0, from, null, 0),
+        splice(current.startTimes, 0, from, null, 0));
+  }
+
+  /**
+   * replaces the values between {@code from} (inclusive) and {@code to} (exclusive) in the given
+   * {@code values} with the first {@code length} values of the given {@code replacement}.
+   */
+  private static long[] splice(long[] values, int from, int to, long[] replacement, int length) {
+    long[] result = new long[values.length - (to - from) + length];
+    System.arraycopy(values, 0, result, 0, from);
+    if (length > 0) {
+      System.arraycopy(replacement, 0, result, from, length);
+    }
+    System.arraycopy(values, to, result, from + length, values.length - to);
+    return result;
+  }
+
+  /**
+   * gets the number of assigned slots in this schedule.
+   *
+   * @return the number of assigned slots.
+   */
+  public int size() {
+    return timeline.slots.length;
+  }
+
+  /**
+   * gets the absolute slot numbers of the assigned slots of the given {@code epoch} in ascending
+   * order.
+   *
+   * @param epoch positive epoch number.
+   * @return a new array with the assigned slots of the given epoch.
+   * @throws IllegalArgumentException if the given epoch is negative.
+   */
+  public long[] getSlots(long epoch) {
+    SlotRange range = SlotRange.ofEpochs(setting, epoch, epoch);
+    long[] slots = timeline.slots;
+    int from = SlotArrays.lowerBound(slots, 0, slots.length, range.getFromAbsoluteSlot());
+    int to = SlotArrays.lowerBound(slots, from, slots.length, range.getToAbsoluteSlot());
+    return Arrays.copyOfRange(slots, from, to);
+  }
+
+  /**
+   * gets the absolute slot number of the first assigned slot that starts strictly after the given
+   * {@code epochMilli}.
+   *
+   * @param epochMilli time in milliseconds since the epoch 1970-01-01T00:00:00Z.
+   * @return the absolute slot number of the next assigned slot, or {@code -1}, if there is none.
+   */
+  public long nextSlotAfter(long epochMilli) {
+    Timeline current = timeline;
+    int index = SlotArrays.upperBound(current.startTimes, 0, current.startTimes.length,
+        epochMilli);
+    return index < current.slots.length ? current.slots[index] : -1L;
+  }
+
+  /**
+   * gets the absolute slot number of the first assigned slot that starts strictly after the given
+   * {@code time}.
+   *
+   * @param time {@link Instant} after which the next assigned slot shall be found.
+   * @return the absolute slot number of the next assigned slot, or {@code -1}, if there is none.
+   * @throws IllegalArgumentException if the given time is {@code null}.
+   */
+  public long nextSlotAfter(Instant time) {
+    checkArgument(time != null, "The given time must not be null.");
+    return nextSlotAfter(time.toEpochMilli());
+  }
+
+  /**
+   * gets the number of milliseconds from the given {@code epochMilli} until the start of the first
+   * assigned slot that starts strictly after it.
+   *
+   * @param epochMilli time in milliseconds since the epoch 1970-01-01T00:00:00Z.
+   * @return the number of milliseconds until the next assigned slot, or {@code -1}, if there is
+   * none.
+   */
+  public long millisUntilNext(long epochMilli) {
+    Timeline current = timeline;
+    int index = SlotArrays.upperBound(current.startTimes, 0, current.startTimes.length,
+        epochMilli);
+    return index < current.startTimes.length ? current.startTimes[index] - epochMilli : -1L;
+  }
+
+  /**
+   * gets the number of milliseconds from the given {@code time} until the start of the first
+   * assigned slot that starts strictly after it.
+   *
+   * @param time {@link Instant} from which the time shall be measured.
+   * @return the number of milliseconds until the next assigned slot, or {@code -1}, if there is
+   * none.
+   * @throws IllegalArgumentException if the given time is {@code null}.
+   */
+  public long millisUntilNext(Instant time) {
+    checkArgument(time != null, "The given time must not be null.");
+    return millisUntilNext(time.toEpochMilli());
+  }
+
+  /**
+   * counts the assigned slots that start between the given {@code fromEpochMilli} and {@code
+   * toEpochMilli} (both inclusive).
+   *
+   * @param fromEpochMilli start of the time span in milliseconds since the epoch.
+   * @param toEpochMilli   end of the time span in milliseconds since the epoch.
+   * @return the number of assigned slots that start in the given time span.
+   */
+  public int countBetween(long fromEpochMilli, long toEpochMilli) {
+    Timeline current = timeline;
+    int from = SlotArrays.lowerBound(current.startTimes, 0, current.startTimes.length,
+        fromEpochMilli);
+    int to = SlotArrays.upperBound(current.startTimes, from, current.startTimes.length,
+        toEpochMilli);
+    return to - from;
+  }
+
+  /**
+   * reports the absolute slot numbers of the assigned slots that start between the given {@code
+   * fromEpochMilli} and {@code toEpochMilli} (both inclusive) in ascending order to the given
+   * {@code consumer}.
+   *
+   * @param fromEpochMilli start of the time span in milliseconds since the epoch.
+   * @param toEpochMilli   end of the time span in milliseconds since the epoch.
+   * @param consumer       {@link LongConsumer} to which the absolute slot numbers are reported.
+   * @throws IllegalArgumentException if the given consumer is {@code null}.
+   */
+  public void forEachBetween(long fromEpochMilli, long toEpochMilli, LongConsumer consumer) {
+    checkArgument(consumer != null, "The given consumer must not be null.");
+    Timeline current = timeline;
+    int from = SlotArrays.lowerBound(current.startTimes, 0, current.startTimes.length,
+        fromEpochMilli);
+    int to = SlotArrays.upperBound(current.startTimes, from, current.startTimes.length,
+        toEpochMilli);
+    for (int i = from; i < to; i++) {
+      consumer.accept(current.slots[i]);
+    }
+  }
+
+  /**
+   * gets the absolute slot numbers of the assigned slots that start between the given {@code
+   * from} and {@code to} time (both inclusive) in ascending order.
+   *
+   * @param from start of the time span.
+   * @param to   end of the time span.
+   * @return a new array with the absolute slot numbers of the assigned slots in the time span.
+   * @throws IllegalArgumentException if one of the given times is {@code null}.
+   */
+  public long[] slotsBetween(Instant from, Instant to) {
+    checkArgument(from != null && to != null, "The given times must not be null.");
+    Timeline current = timeline;
+    int fromIndex = SlotArrays.lowerBound(current.startTimes, 0, current.startTimes.length,
+        from.toEpochMilli());
+    int toIndex = SlotArrays.upperBound(current.startTimes, fromIndex, current.startTimes.length,
+        to.toEpochMilli());
+    return Arrays.copyOfRange(current.slots, fromIndex, toIndex);
+  }
+
+  /**
+   * An immutable snapshot of the assigned slots and their start times.
+   */
+  private static final class Timeline {
+
+    private final long[] slots;
+    private final long[] startTimes;
+
+    private Timeline(long[] slots, long[] startTimes) {
+      this.slots = slots;
+      this.startTimes = startTimes;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * Arithmetic helpers for the division-free conversion kernel.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Multiplication {
+
+  private Multiplication() {
+  }
+
+  /**
+   * computes the most significant 64 bits of the 128-bit product of the two given signed {@code
+   * long} values. This is an emulation of {@code Math.multiplyHigh}, which is only available since
+   * Java 9.
+   */
+  static long multiplyHigh(long x, long y) {
+    long x1 = x >> 32;
+    long x2 = x & 0xFFFFFFFFL;
+    long y1 = y >> 32;
+    long y2 = y & 0xFFFFFFFFL;
+    long z2 = x2 * y2;
+    long t = x1 * y2 + (z2 >>> 32);
+    long z1 = (t & 0xFFFFFFFFL) + x2 * y1;
+    long z0 = t >> 32;
+    return x1 * y1 + z0 + (z1 >> 32);
+  }
+}
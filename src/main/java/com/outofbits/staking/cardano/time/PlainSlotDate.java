@@ -10,12 +10,16 @@ import java.math.BigInteger;
  * milliseconds. Moreover, the date time of the genesis block is unknown. Hence, a number of methods
  * are not available in the plain date, but can be used if the plain date is transformed into a
  * {@link CompleteSlotDate} by passing the required time settings of the block chain.
+ * <p/>
+ * Plain slot dates are naturally ordered by their epoch number and then by their slot number. This
+ * natural ordering is consistent with {@link #sameAs(PlainSlotDate)}, but not necessarily with
+ * {@link Object#equals(Object)}, because a plain slot date is never equal to a complete one.
  *
  * @author Kevin Haller
  * @version 1.0.0
  * @since 1.0.0
  */
-public interface PlainSlotDate {
+public interface PlainSlotDate extends Comparable<PlainSlotDate> {
 
   /**
    * gets the epoch number of this slot date. The returned epoch must be a positive integer or
@@ -32,20 +32,47 @@ class PlainSlotDateImpl implements PlainSlotDate {
   }
 
   public boolean before(PlainSlotDate otherSlotDate) {
-    if (epoch.compareTo(otherSlotDate.getEpoch()) < 0) {
+    int epochComparison = epoch.compareTo(otherSlotDate.getEpoch());
+    if (epochComparison < 0) {
       return true;
-    } else if (epoch.compareTo(otherSlotDate.getEpoch()) == 0) {
+    } else if (epochComparison == 0) {
       return slot.compareTo(otherSlotDate.getSlot()) < 0;
     }
     return false;
   }
 
   public boolean after(PlainSlotDate otherSlotDate) {
-    if (epoch.compareTo(otherSlotDate.getEpoch()) > 0) {
+    int epochComparison = epoch.compareTo(otherSlotDate.getEpoch());
+    if (epochComparison > 0) {
       return true;
-    } else if (epoch.compareTo(otherSlotDate.getEpoch()) == 0) {
+    } else if (epochComparison == 0) {
       return slot.compareTo(otherSlotDate.getSlot()) > 0;
     }
     return false;
   }
+
+  @Override
+  public int compareTo(PlainSlotDate otherSlotDate) {
+    int epochComparison = epoch.compareTo(otherSlotDate.getEpoch());
+    return epochComparison != 0 ? epochComparison : slot.compareTo(otherSlotDate.getSlot());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PlainSlotDateImpl || o instanceof CompactPlainSlotDateImpl)) {
+      return false;
+    }
+    return sameAs((PlainSlotDate) o);
+  }
+
+  @Override
+  public int hashCode() {
+    if (epoch.bitLength() < Long.SIZE && slot.bitLength() < Long.SIZE) {
+      return CompactPlainSlotDateImpl.hashCode(epoch.longValue(), slot.longValue());
+    }
+    return 31 * epoch.hashCode() + slot.hashCode();
+  }
 }
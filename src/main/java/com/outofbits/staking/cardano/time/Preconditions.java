@@ -0,0 +1,81 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * Checks of the arguments and the state of method calls, which keep this library free of
+ * dependencies. The messages can contain {@code %s} placeholders, which are only replaced with the
+ * given values, if a check fails.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Preconditions {
+
+  private Preconditions() {
+  }
+
+  /**
+   * checks the given {@code expression} on the arguments of a method call.
+   *
+   * @throws IllegalArgumentException with the given {@code message}, if the expression is false.
+   */
+  static void checkArgument(boolean expression, String message) {
+    if (!expression) {
+      throw new IllegalArgumentException(message);
+    }
+  }
+
+  /**
+   * checks the given {@code expression} on the arguments of a method call.
+   *
+   * @throws IllegalArgumentException with the given {@code template}, whose placeholder is
+   *                                  replaced with the given {@code value}, if the expression is
+   *                                  false.
+   */
+  static void checkArgument(boolean expression, String template, long value) {
+    if (!expression) {
+      throw new IllegalArgumentException(format(template, value));
+    }
+  }
+
+  /**
+   * checks the given {@code expression} on the arguments of a method call.
+   *
+   * @throws IllegalArgumentException with the given {@code template}, whose placeholders are
+   *                                  replaced with the given values, if the expression is false.
+   */
+  static void checkArgument(boolean expression, String template, long first, long second) {
+    if (!expression) {
+      throw new IllegalArgumentException(format(template, first, second));
+    }
+  }
+
+  /**
+   * checks the given {@code expression} on the state of the object of a method call.
+   *
+   * @throws IllegalStateException with the given {@code message}, if the expression is false.
+   */
+  static void checkState(boolean expression, String message) {
+    if (!expression) {
+      throw new IllegalStateException(message);
+    }
+  }
+
+  /**
+   * replaces the {@code %s} placeholders in the given {@code template} one after another with the
+   * given {@code values}.
+   */
+  static String format(String template, long... values) {
+    StringBuilder builder = new StringBuilder(template.length() + 20 * values.length);
+    int start = 0;
+    for (long value : values) {
+      int placeholder = template.indexOf("%s", start);
+      if (placeholder < 0) {
+        break;
+      }
+      builder.append(template, start, placeholder).append(value);
+      start = placeholder + 2;
+    }
+    return builder.append(template, start, template.length()).toString();
+  }
+}
@@ -0,0 +1,72 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * A task that has been scheduled at a slot of a {@link SlotTimingWheel}, which can be used to
+ * cancel the task before its slot starts.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ScheduledSlotTask {
+
+  static final int PENDING = 0;
+  static final int FIRED = 1;
+  static final int CANCELLED = 2;
+
+  private final SlotTimingWheel wheel;
+  private final long absoluteSlot;
+  final Runnable task;
+
+  /*
+   * the following fields are guarded by the lock of the wheel.
+   */
+  Object bucket;
+  ScheduledSlotTask previous;
+  ScheduledSlotTask next;
+  volatile int state = PENDING;
+
+  ScheduledSlotTask(SlotTimingWheel wheel, long absoluteSlot, Runnable task) {
+    this.wheel = wheel;
+    this.absoluteSlot = absoluteSlot;
+    this.task = task;
+  }
+
+  /**
+   * gets the absolute slot number of the slot at which this task is scheduled.
+   *
+   * @return the absolute slot number of the slot at which this task is scheduled.
+   */
+  public long getAbsoluteSlot() {
+    return absoluteSlot;
+  }
+
+  /**
+   * cancels this task, if it has not been fired yet.
+   *
+   * @return {@code true}, if this task has been cancelled, or {@code false}, if it has already
+   * been fired or cancelled before.
+   */
+  public boolean cancel() {
+    return wheel.cancel(this);
+  }
+
+  /**
+   * checks whether this task has been cancelled.
+   *
+   * @return {@code true}, if this task has been cancelled, otherwise {@code false}.
+   */
+  public boolean isCancelled() {
+    return state == CANCELLED;
+  }
+
+  /**
+   * checks whether this task has been fired, i.e. it has been run or handed over to the executor
+   * of the wheel.
+   *
+   * @return {@code true}, if this task has been fired, otherwise {@code false}.
+   */
+  public boolean isFired() {
+    return state == FIRED;
+  }
+}
@@ -0,0 +1,82 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A simple implementation of {@link TimeMetrics} that keeps a lock-free failure counter and a
+ * {@link LatencyHistogram} per {@link TimeOperation} in memory.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SimpleTimeMetrics implements TimeMetrics {
+
+  private final LatencyHistogram[] histograms;
+  private final LongAdder[] failures;
+
+  private SimpleTimeMetrics() {
+    int operationCount = TimeOperation.values().length;
+    this.histograms = new LatencyHistogram[operationCount];
+    this.failures = new LongAdder[operationCount];
+    for (int i = 0; i < operationCount; i++) {
+      histograms[i] = new LatencyHistogram();
+      failures[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * creates new {@link SimpleTimeMetrics} without any recorded executions.
+   *
+   * @return the new {@link SimpleTimeMetrics}.
+   */
+  public static SimpleTimeMetrics create() {
+    return new SimpleTimeMetrics();
+  }
+
+  @Override
+  public void record(TimeOperation operation, long durationNanos, boolean failed) {
+    histograms[operation.ordinal()].record(durationNanos);
+    if (failed) {
+      failures[operation.ordinal()].increment();
+    }
+  }
+
+  /**
+   * gets the number of recorded executions of the given {@code operation}.
+   *
+   * @param operation {@link TimeOperation} for which the count shall be returned.
+   * @return the number of recorded executions.
+   * @throws IllegalArgumentException if the given operation is null.
+   */
+  public long getCount(TimeOperation operation) {
+    return getHistogram(operation).getCount();
+  }
+
+  /**
+   * gets the number of recorded executions of the given {@code operation} that failed.
+   *
+   * @param operation {@link TimeOperation} for which the count shall be returned.
+   * @return the number of failed executions.
+   * @throws IllegalArgumentException if the given operation is null.
+   */
+  public long getFailureCount(TimeOperation operation) {
+    checkArgument(operation != null, "The given operation must not be null.");
+    return failures[operation.ordinal()].sum();
+  }
+
+  /**
+   * gets the {@link LatencyHistogram} of the durations of the given {@code operation} in
+   * nanoseconds.
+   *
+   * @param operation {@link TimeOperation} for which the histogram shall be returned.
+   * @return the {@link LatencyHistogram} of the given operation.
+   * @throws IllegalArgumentException if the given operation is null.
+   */
+  public LatencyHistogram getHistogram(TimeOperation operation) {
+    checkArgument(operation != null, "The given operation must not be null.");
+    return histograms[operation.ordinal()];
+  }
+}
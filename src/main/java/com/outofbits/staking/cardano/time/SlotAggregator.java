@@ -0,0 +1,361 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent aggregator of values (like counts, sizes or fees) per slot for a number of metrics.
+ * The values of the recent slots are kept in a ring buffer of {@link LongAdder}s, which covers a
+ * sliding window of slots, such that concurrent updates from many threads to the same slot do not
+ * contend. Once a slot leaves the window, its values are rolled into the compact {@link
+ * EpochSummary} of its epoch.
+ * <p/>
+ * A slot leaves the window, when a value is added for a slot that is at least the window length
+ * newer. Values for slots that have already left the window are rejected. Like the sum of a {@link
+ * LongAdder}, the values returned for slots and epochs that are concurrently updated are not an
+ * atomic snapshot, and an update that races with the slot leaving the window may be lost.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotAggregator {
+
+  private final TimeSetting setting;
+  private final int metricCount;
+  private final int mask;
+  private final AtomicReferenceArray<Bucket> ring;
+  private final AtomicLong latestSlot = new AtomicLong(-1L);
+  private final LongAdder rejected = new LongAdder();
+  private final ConcurrentMap<Long, EpochAccumulator> epochs = new ConcurrentHashMap<>();
+  private final AtomicLong removedBefore = new AtomicLong(0L);
+
+  private SlotAggregator(TimeSetting setting, int windowSlots, int metricCount) {
+    this.setting = setting;
+    this.metricCount = metricCount;
+    int capacity = Integer.highestOneBit(windowSlots);
+    if (capacity < windowSlots) {
+      capacity <<= 1;
+    }
+    this.mask = capacity - 1;
+    this.ring = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * creates a new {@link SlotAggregator} for the given {@link TimeSetting}.
+   *
+   * @param setting     {@link TimeSetting} of the slots.
+   * @param windowSlots the minimum number of recent slots that shall be kept, which is rounded up
+   *                    to the next power of two.
+   * @param metricCount the number of metrics that shall be aggregated per slot.
+   * @return the new {@link SlotAggregator}.
+   * @throws IllegalArgumentException if the given setting is null, the window is not between 1
+   *                                  and 2^30 slots, or the given number of metrics is not
+   *                                  positive.
+   */
+  public static SlotAggregator create(TimeSetting setting, int windowSlots, int metricCount) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(windowSlots > 0 && windowSlots <= 1 << 30,
+        "The given window must be between 1 and 2^30 slots.");
+    checkArgument(metricCount > 0, "The given number of metrics must be positive.");
+    return new SlotAggregator(setting, windowSlots, metricCount);
+  }
+
+  /**
+   * gets the {@link TimeSetting} of this aggregator.
+   *
+   * @return {@link TimeSetting} of this aggregator.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * gets the number of slots in the sliding window of this aggregator.
+   *
+   * @return the number of slots in the sliding window.
+   */
+  public int getWindowSlots() {
+    return mask + 1;
+  }
+
+  /**
+   * gets the number of metrics that are aggregated per slot.
+   *
+   * @return the number of metrics.
+   */
+  public int getMetricCount() {
+    return metricCount;
+  }
+
+  /**
+   * gets the latest absolute slot number for which a value has been added.
+   *
+   * @return the latest absolute slot number, or {@code -1}, if no value has been added yet.
+   */
+  public long getLatestSlot() {
+    return latestSlot.get();
+  }
+
+  /**
+   * gets the number of values that have been rejected, because their slot had already left the
+   * window.
+   *
+   * @return the number of rejected values.
+   */
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+
+  /**
+   * adds the given {@code value} to the given {@code metric} of the slot with the given {@code
+   * absoluteSlot} number.
+   *
+   * @param absoluteSlot the positive absolute slot number.
+   * @param metric       index of the metric.
+   * @param value        the value that shall be added.
+   * @return {@code true}, if the value has been added, or {@code false}, if the slot has already
+   * left the window.
+   * @throws IllegalArgumentException if the given slot number is negative, or the given metric
+   *                                  index is not valid.
+   */
+  public boolean add(long absoluteSlot, int metric, long value) {
+    checkArgument(absoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    checkMetric(metric);
+    int index = (int) absoluteSlot & mask;
+    Bucket bucket = ring.get(index);
+    if (bucket == null || bucket.slot != absoluteSlot) {
+      bucket = claim(index, absoluteSlot);
+      if (bucket == null) {
+        rejected.increment();
+        return false;
+      }
+    }
+    bucket.values[metric].add(value);
+    return true;
+  }
+
+  /**
+   * adds the given {@code value} to the given {@code metric} of the slot that contains the given
+   * {@code epochMilli}.
+   *
+   * @param epochMilli the time in milliseconds since the epoch.
+   * @param metric     index of the metric.
+   * @param value      the value that shall be added.
+   * @return {@code true}, if the value has been added, or {@code false}, if the slot has already
+   * left the window.
+   * @throws IllegalArgumentException if the given time is before the creation of the genesis
+   *                                  block, or the given metric index is not valid.
+   */
+  public boolean addAt(long epochMilli, int metric, long value) {
+    return add(setting.absoluteSlotOfEpochMilli(epochMilli), metric, value);
+  }
+
+  /**
+   * adds the given {@code value} to the given {@code metric} of the slot that contains the given
+   * {@code time}.
+   *
+   * @param time   {@link Instant} of the value.
+   * @param metric index of the metric.
+   * @param value  the value that shall be added.
+   * @return {@code true}, if the value has been added, or {@code false}, if the slot has already
+   * left the window.
+   * @throws IllegalArgumentException if the given time is null or before the creation of the
+   *                                  genesis block, or the given metric index is not valid.
+   */
+  public boolean addAt(Instant time, int metric, long value) {
+    checkArgument(time != null, "The given time must not be null.");
+    long offsetNanos = setting.offsetNanosOf(time);
+    checkArgument(offsetNanos >= 0,
+        "The given time must not be strictly before the genesis block creation time.");
+    return add(setting.absoluteSlotOfOffsetNanos(offsetNanos), metric, value);
+  }
+
+  /**
+   * gets the aggregated value of the given {@code metric} for the slot with the given {@code
+   * absoluteSlot} number.
+   *
+   * @param absoluteSlot the absolute slot number.
+   * @param metric       index of the metric.
+   * @return the aggregated value, or {@code 0}, if no value has been added for the slot, or the
+   * slot has already left the window.
+   * @throws IllegalArgumentException if the given metric index is not valid.
+   */
+  public long get(long absoluteSlot, int metric) {
+    checkMetric(metric);
+    Bucket bucket = ring.get((int) absoluteSlot & mask);
+    return bucket != null && bucket.slot == absoluteSlot ? bucket.values[metric].sum() : 0L;
+  }
+
+  /**
+   * gets the {@link EpochSummary} of the given {@code epoch}, which includes the slots that have
+   * already left the window as well as the slots that are still in the window.
+   *
+   * @param epoch the positive epoch number.
+   * @return the {@link EpochSummary} of the given epoch.
+   * @throws IllegalArgumentException if the given epoch is negative.
+   */
+  public EpochSummary getEpochSummary(long epoch) {
+    checkArgument(epoch >= 0, "The given epoch must not be negative.");
+    while (true) {
+      EpochAccumulator accumulator = epochs.get(epoch);
+      if (accumulator != null) {
+        synchronized (accumulator) {
+          return summarize(epoch, accumulator.activeSlots, accumulator.totals.clone(),
+              accumulator.maxima.clone());
+        }
+      }
+      EpochSummary summary = summarize(epoch, 0L, new long[metricCount], new long[metricCount]);
+      if (epochs.get(epoch) == null) {
+        return summary;
+      }
+      // a slot of the epoch left the window during the scan, and hence the scan is repeated.
+    }
+  }
+
+  /**
+   * adds the values of the slots of the given {@code epoch}, which are still in the window, to the
+   * given rolled up values, and returns the resulting summary.
+   */
+  private EpochSummary summarize(long epoch, long activeSlots, long[] totals, long[] maxima) {
+    for (int i = 0; i <= mask; i++) {
+      Bucket bucket = ring.get(i);
+      if (bucket != null && bucket.epoch == epoch) {
+        activeSlots++;
+        for (int metric = 0; metric < metricCount; metric++) {
+          long sum = bucket.values[metric].sum();
+          totals[metric] += sum;
+          maxima[metric] = Math.max(maxima[metric], sum);
+        }
+      }
+    }
+    return new EpochSummary(epoch, activeSlots, totals, maxima);
+  }
+
+  /**
+   * removes the rolled up values of all epochs strictly before the given {@code epoch} to free
+   * memory. The values of slots that are still in the window are not affected.
+   *
+   * @param epoch the first epoch whose summary shall be kept.
+   */
+  public void removeEpochSummariesBefore(long epoch) {
+    removedBefore.accumulateAndGet(epoch, Math::max);
+    epochs.keySet().removeIf(e -> e < epoch);
+  }
+
+  /**
+   * claims the bucket at the given {@code index} for the given {@code absoluteSlot}, and retires
+   * the bucket of the older slot that has been there before. The older bucket is replaced and
+   * rolled into the summary of its epoch under the lock of this summary, such that a concurrent
+   * {@link #getEpochSummary(long)} sees the slot either in the window or in the summary. Buckets
+   * of epochs whose summaries have been removed are dropped.
+   *
+   * @return the bucket for the given slot, or {@code null}, if the slot has already left the
+   * window.
+   */
+  private Bucket claim(int index, long absoluteSlot) {
+    if (absoluteSlot <= latestSlot.get() - (mask + 1)) {
+      return null;
+    }
+    Bucket created = null;
+    while (true) {
+      Bucket current = ring.get(index);
+      if (current != null && current.slot >= absoluteSlot) {
+        return current.slot == absoluteSlot ? current : null;
+      }
+      if (created == null) {
+        created = new Bucket(absoluteSlot, setting.epochOfAbsoluteSlot(absoluteSlot),
+            metricCount);
+      }
+      boolean claimed = current == null || current.epoch < removedBefore.get()
+          ? ring.compareAndSet(index, current, created) : replace(index, current, created);
+      if (claimed) {
+        latestSlot.accumulateAndGet(absoluteSlot, Math::max);
+        return created;
+      }
+    }
+  }
+
+  /**
+   * replaces the given {@code current} bucket at the given {@code index} with the given {@code
+   * created} one, and retires the current bucket atomically with respect to the summary of its
+   * epoch.
+   *
+   * @return {@code true}, if the bucket has been replaced, otherwise {@code false}.
+   */
+  private boolean replace(int index, Bucket current, Bucket created) {
+    EpochAccumulator accumulator = epochs
+        .computeIfAbsent(current.epoch, e -> new EpochAccumulator(metricCount));
+    synchronized (accumulator) {
+      if (!ring.compareAndSet(index, current, created)) {
+        return false;
+      }
+      accumulator.retire(current);
+    }
+    if (current.epoch < removedBefore.get()) {
+      epochs.remove(current.epoch, accumulator);
+    }
+    return true;
+  }
+
+  /**
+   * gets the number of epochs for which rolled up values are kept.
+   */
+  int getRetainedEpochCount() {
+    return epochs.size();
+  }
+
+  private void checkMetric(int metric) {
+    checkArgument(metric >= 0 && metric < metricCount,
+        "The given metric index must be between 0 and %s (exclusive).", metricCount);
+  }
+
+  /**
+   * The values of all metrics for a single slot.
+   */
+  private static final class Bucket {
+
+    private final long slot;
+    private final long epoch;
+    private final LongAdder[] values;
+
+    private Bucket(long slot, long epoch, int metricCount) {
+      this.slot = slot;
+      this.epoch = epoch;
+      this.values = new LongAdder[metricCount];
+      for (int i = 0; i < metricCount; i++) {
+        values[i] = new LongAdder();
+      }
+    }
+  }
+
+  /**
+   * The rolled up values of the slots of an epoch that have left the window.
+   */
+  private static final class EpochAccumulator {
+
+    private final long[] totals;
+    private final long[] maxima;
+    private long activeSlots;
+
+    private EpochAccumulator(int metricCount) {
+      this.totals = new long[metricCount];
+      this.maxima = new long[metricCount];
+    }
+
+    private void retire(Bucket bucket) {
+      activeSlots++;
+      for (int metric = 0; metric < totals.length; metric++) {
+        long sum = bucket.values[metric].sum();
+        totals[metric] += sum;
+        maxima[metric] = Math.max(maxima[metric], sum);
+      }
+    }
+  }
+}
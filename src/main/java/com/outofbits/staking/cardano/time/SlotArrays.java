@@ -0,0 +1,125 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * Utility methods for primitive arrays of (absolute) slot numbers, which are used by the
+ * column-oriented structures of this package in order to avoid boxing of the slot numbers.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class SlotArrays {
+
+  private SlotArrays() {
+  }
+
+  /**
+   * checks whether the given {@code values} are sorted in ascending order.
+   */
+  static boolean isSorted(long[] values) {
+    for (int i = 1; i < values.length; i++) {
+      if (values[i - 1] > values[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * computes the permutation that sorts the given {@code keys} in ascending order, i.e. the i-th
+   * element of the returned array is the index of the i-th smallest key. The sort is stable, such
+   * that equal keys keep their relative order.
+   */
+  static int[] sortedPermutation(long[] keys) {
+    int length = keys.length;
+    int[] permutation = new int[length];
+    for (int i = 0; i < length; i++) {
+      permutation[i] = i;
+    }
+    if (length > 1) {
+      mergeSort(keys, permutation, new int[length], 0, length);
+    }
+    return permutation;
+  }
+
+  private static void mergeSort(long[] keys, int[] permutation, int[] buffer, int from, int to) {
+    if (to - from <= 16) {
+      for (int i = from + 1; i < to; i++) {
+        int index = permutation[i];
+        int j = i - 1;
+        while (j >= from && keys[permutation[j]] > keys[index]) {
+          permutation[j + 1] = permutation[j];
+          j--;
+        }
+        permutation[j + 1] = index;
+      }
+      return;
+    }
+    int mid = (from + to) >>> 1;
+    mergeSort(keys, permutation, buffer, from, mid);
+    mergeSort(keys, permutation, buffer, mid, to);
+    if (keys[permutation[mid - 1]] <= keys[permutation[mid]]) {
+      return;
+    }
+    System.arraycopy(permutation, from, buffer, from, to - from);
+    int left = from;
+    int right = mid;
+    for (int i = from; i < to; i++) {
+      if (right >= to || (left < mid && keys[buffer[left]] <= keys[buffer[right]])) {
+        permutation[i] = buffer[left++];
+      } else {
+        permutation[i] = buffer[right++];
+      }
+    }
+  }
+
+  /**
+   * creates a new array with the given {@code values} rearranged according to the given {@code
+   * permutation}.
+   */
+  static long[] permute(long[] values, int[] permutation) {
+    long[] result = new long[permutation.length];
+    for (int i = 0; i < permutation.length; i++) {
+      result[i] = values[permutation[i]];
+    }
+    return result;
+  }
+
+  /**
+   * gets the index of the first value in the given ascending {@code values} between {@code from}
+   * (inclusive) and {@code to} (exclusive) that is greater than or equal to the given {@code key},
+   * or {@code to}, if there is no such value.
+   */
+  static int lowerBound(long[] values, int from, int to, long key) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] < key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * gets the index of the first value in the given ascending {@code values} between {@code from}
+   * (inclusive) and {@code to} (exclusive) that is strictly greater than the given {@code key}, or
+   * {@code to}, if there is no such value.
+   */
+  static int upperBound(long[] values, int from, int to, long key) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (values[mid] <= key) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
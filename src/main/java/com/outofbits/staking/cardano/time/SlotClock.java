@@ -0,0 +1,243 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+import static com.outofbits.staking.cardano.time.Preconditions.checkState;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * A slot clock notifies listeners about the start of new slots and epochs of a block chain with a
+ * specific {@link TimeSetting}. Instead of polling the current slot date, the clock computes the
+ * exact end of the current slot and sleeps until then. Each time it wakes up, the clock reads the
+ * (injectable) {@link Clock} again, and hence corrects any drift of the scheduler.
+ * <p/>
+ * All listeners are called one after another on a single scheduler thread, so a listener should
+ * not block. Slots that passed while the clock wasn't able to run (e.g. during a long pause of the
+ * JVM) are skipped, i.e. listeners are only notified about the latest slot. A listener that
+ * throws is reported to the uncaught exception handler of the scheduler thread, and does not
+ * affect the other listeners or the clock.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotClock implements AutoCloseable {
+
+  private static final long UNOBSERVED = -2L;
+  private static final long BEFORE_GENESIS = -1L;
+  private static final long RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final TimeSetting setting;
+  private final Clock clock;
+  private final List<Consumer<? super CompleteSlotDate>> slotListeners =
+      new CopyOnWriteArrayList<>();
+  private final List<Consumer<? super CompleteSlotDate>> epochListeners =
+      new CopyOnWriteArrayList<>();
+
+  private ScheduledExecutorService scheduler;
+  private long lastAbsoluteSlot = UNOBSERVED;
+  private long lastEpoch = UNOBSERVED;
+
+  private SlotClock(TimeSetting setting, Clock clock) {
+    this.setting = setting;
+    this.clock = clock;
+  }
+
+  /**
+   * creates a new {@link SlotClock} for the given {@code setting}, which reads the current time
+   * from the given {@code clock}. The slot clock does not notify any listener until it has been
+   * started with {@link #start()}.
+   *
+   * @param setting {@link TimeSetting} of the block chain.
+   * @param clock   {@link Clock} from which the current time shall be read.
+   * @return {@link SlotClock} for the given details.
+   * @throws IllegalArgumentException if the given {@code setting} or {@code clock} is {@code
+   *                                  null}.
+   */
+  public static SlotClock create(TimeSetting setting, Clock clock) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(clock != null, "The given clock must not be null.");
+    return new SlotClock(setting, clock);
+  }
+
+  /**
+   * creates a new {@link SlotClock} for the given {@code setting}, which reads the current time
+   * from the system clock.
+   *
+   * @param setting {@link TimeSetting} of the block chain.
+   * @return {@link SlotClock} for the given details.
+   * @throws IllegalArgumentException if the given {@code setting} is {@code null}.
+   * @see #create(TimeSetting, Clock)
+   */
+  public static SlotClock create(TimeSetting setting) {
+    return create(setting, Clock.systemUTC());
+  }
+
+  /**
+   * gets the {@link TimeSetting} of this clock.
+   *
+   * @return the {@link TimeSetting} of this clock.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * gets the {@link CompleteSlotDate} of the current time.
+   *
+   * @return the {@link CompleteSlotDate} of the current time.
+   * @throws IllegalArgumentException if the current time is before the creation of the genesis
+   *                                  block.
+   */
+  public CompleteSlotDate currentSlotDate() {
+    return setting.getSlotDateFor(clock.instant());
+  }
+
+  /**
+   * adds the given {@code listener}, which is called with the {@link CompleteSlotDate} of each new
+   * slot as soon as it starts.
+   *
+   * @param listener which shall be notified about new slots.
+   * @throws IllegalArgumentException if the given {@code listener} is {@code null}.
+   */
+  public void addSlotListener(Consumer<? super CompleteSlotDate> listener) {
+    checkArgument(listener != null, "The given listener must not be null.");
+    slotListeners.add(listener);
+  }
+
+  /**
+   * removes the given {@code listener}, if it was added before.
+   *
+   * @param listener which shall no longer be notified about new slots.
+   */
+  public void removeSlotListener(Consumer<? super CompleteSlotDate> listener) {
+    slotListeners.remove(listener);
+  }
+
+  /**
+   * adds the given {@code listener}, which is called with the {@link CompleteSlotDate} of the
+   * first observed slot of each new epoch as soon as it starts. Epoch listeners are called after
+   * the slot listeners.
+   *
+   * @param listener which shall be notified about new epochs.
+   * @throws IllegalArgumentException if the given {@code listener} is {@code null}.
+   */
+  public void addEpochListener(Consumer<? super CompleteSlotDate> listener) {
+    checkArgument(listener != null, "The given listener must not be null.");
+    epochListeners.add(listener);
+  }
+
+  /**
+   * removes the given {@code listener}, if it was added before.
+   *
+   * @param listener which shall no longer be notified about new epochs.
+   */
+  public void removeEpochListener(Consumer<? super CompleteSlotDate> listener) {
+    epochListeners.remove(listener);
+  }
+
+  /**
+   * starts this clock on its own scheduler thread.
+   *
+   * @throws IllegalStateException if this clock has already been started.
+   */
+  public synchronized void start() {
+    checkState(scheduler == null, "The slot clock has already been started.");
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "slot-clock");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.execute(this::run);
+  }
+
+  /**
+   * stops this clock, if it has been started. Listeners are not notified anymore afterwards.
+   */
+  @Override
+  public synchronized void close() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * ticks this clock, and schedules the next run. If the tick fails, the failure is reported to
+   * the uncaught exception handler of the scheduler thread, and the tick is retried shortly after,
+   * such that the clock never stops silently.
+   */
+  private void run() {
+    long delayNanos = RETRY_DELAY_NANOS;
+    try {
+      delayNanos = tick();
+    } catch (Throwable e) {
+      report(e);
+    }
+    try {
+      scheduler.schedule(this::run, delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      // the slot clock has been closed in the meantime.
+    }
+  }
+
+  /**
+   * reads the current time, notifies the listeners, if a new slot or epoch started since the last
+   * tick, and computes the time until the next slot starts.
+   *
+   * @return the number of nanoseconds until the next slot starts.
+   */
+  long tick() {
+    Instant now = clock.instant();
+    long offsetNanos;
+    try {
+      offsetNanos = setting.offsetNanosOf(now);
+    } catch (ArithmeticException e) {
+      offsetNanos = Long.MAX_VALUE;
+    }
+    if (offsetNanos < 0) {
+      lastAbsoluteSlot = BEFORE_GENESIS;
+      lastEpoch = BEFORE_GENESIS;
+      return -offsetNanos;
+    }
+    CompleteSlotDate current = setting.getSlotDateFor(now);
+    long absoluteSlot = current.getAbsoluteSlotExact();
+    long epoch = current.getEpoch().longValue();
+    if (lastAbsoluteSlot != UNOBSERVED && absoluteSlot != lastAbsoluteSlot) {
+      notify(slotListeners, current);
+      if (epoch != lastEpoch) {
+        notify(epochListeners, current);
+      }
+    }
+    lastAbsoluteSlot = absoluteSlot;
+    lastEpoch = epoch;
+    try {
+      return Math.max(0L, setting.startOffsetNanosOf(absoluteSlot + 1) - offsetNanos);
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private static void notify(List<Consumer<? super CompleteSlotDate>> listeners,
+      CompleteSlotDate date) {
+    for (Consumer<? super CompleteSlotDate> listener : listeners) {
+      try {
+        listener.accept(date);
+      } catch (Throwable e) {
+        report(e);
+      }
+    }
+  }
+
+  private static void report(Throwable e) {
+    Thread thread = Thread.currentThread();
+    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+  }
+}
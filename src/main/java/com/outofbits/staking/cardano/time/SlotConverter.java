@@ -0,0 +1,206 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.time.Instant;
+
+/**
+ * A converter from times to the slots of a {@link TimeSetting}, which is meant for mapping a large
+ * number of times (like the timestamps of log entries) to slots. It is created with {@link
+ * TimeSetting#newSlotConverter()}.
+ * <p/>
+ * The slot length and the number of slots per epoch of each era are precomputed as fixed-point
+ * reciprocals, such that a conversion requires multiplications instead of divisions. Moreover, the
+ * converter remembers the era and the time range of the last converted slot. If the next time
+ * falls into the same slot, which is the common case for ascending times, the last result is
+ * reused, and otherwise only the era bounds are checked before a lookup is needed. The times do
+ * not have to be sorted though.
+ * <p/>
+ * A converter is mutable and not thread-safe, and hence each thread shall use its own converter.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotConverter {
+
+  private final TimeSetting setting;
+  private final long genesisEpochSecond;
+  private final long genesisNano;
+  private final long genesisEpochMilli;
+  private final long genesisNanoOfMilli;
+  private final long[] eraStartEpochs;
+  private final long[] eraStartSlots;
+  private final long[] eraStartOffsetNanos;
+  private final long[] eraSlotDurationNanos;
+  private final FixedPointDivisor[] eraSlotsPerEpochDivisors;
+  private final FixedPointDivisor[] eraSlotDurationDivisors;
+
+  private int era;
+  private long eraStartOffset;
+  private long eraEndOffset;
+  private long slotStartOffset;
+  private long slotEndOffset;
+  private long absoluteSlot = -1L;
+  private long epoch = -1L;
+  private long slot = -1L;
+
+  SlotConverter(TimeSetting setting, Instant genesisBlockCreation, long[] eraStartEpochs,
+      long[] eraStartSlots, long[] eraStartOffsetNanos, long[] eraSlotDurationNanos,
+      FixedPointDivisor[] eraSlotsPerEpochDivisors, FixedPointDivisor[] eraSlotDurationDivisors) {
+    this.setting = setting;
+    this.genesisEpochSecond = genesisBlockCreation.getEpochSecond();
+    this.genesisNano = genesisBlockCreation.getNano();
+    this.genesisEpochMilli = genesisBlockCreation.toEpochMilli();
+    this.genesisNanoOfMilli = genesisBlockCreation.getNano() % 1_000_000;
+    this.eraStartEpochs = eraStartEpochs;
+    this.eraStartSlots = eraStartSlots;
+    this.eraStartOffsetNanos = eraStartOffsetNanos;
+    this.eraSlotDurationNanos = eraSlotDurationNanos;
+    this.eraSlotsPerEpochDivisors = eraSlotsPerEpochDivisors;
+    this.eraSlotDurationDivisors = eraSlotDurationDivisors;
+    enterEra(0);
+  }
+
+  /**
+   * gets the {@link TimeSetting} of this converter.
+   *
+   * @return {@link TimeSetting} of this converter.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * computes the absolute slot number of the slot that contains the given {@code epochMilli}. The
+   * epoch and slot number of this slot can afterwards be accessed with {@link #getEpoch()} and
+   * {@link #getSlot()}.
+   *
+   * @param epochMilli time in milliseconds since the epoch 1970-01-01T00:00:00Z.
+   * @return the absolute slot number of the slot that contains the given time.
+   * @throws IllegalArgumentException if the given time is strictly before the creation time of
+   *                                  the genesis block.
+   * @throws ArithmeticException      if the given time is too far away from the creation time of
+   *                                  the genesis block to be computed in nanoseconds.
+   */
+  public long convert(long epochMilli) {
+    return convertOffset(Math.multiplyExact(Math.subtractExact(epochMilli, genesisEpochMilli),
+        1_000_000L) - genesisNanoOfMilli);
+  }
+
+  /**
+   * computes the absolute slot number of the slot that contains the given {@code time}. The epoch
+   * and slot number of this slot can afterwards be accessed with {@link #getEpoch()} and {@link
+   * #getSlot()}.
+   *
+   * @param time {@link Instant} that shall be converted.
+   * @return the absolute slot number of the slot that contains the given time.
+   * @throws IllegalArgumentException if the given time is {@code null} or strictly before the
+   *                                  creation time of the genesis block.
+   * @throws ArithmeticException      if the given time is too far away from the creation time of
+   *                                  the genesis block to be computed in nanoseconds.
+   */
+  public long convert(Instant time) {
+    checkArgument(time != null, "The given time must not be null.");
+    return convertOffset(Math.addExact(Math.multiplyExact(
+        time.getEpochSecond() - genesisEpochSecond, 1_000_000_000L),
+        time.getNano() - genesisNano));
+  }
+
+  /**
+   * computes the absolute slot numbers of the slots that contain the given {@code epochMillis} in
+   * bulk, and writes them into the given {@code absoluteSlots} array. No objects are allocated
+   * per element.
+   *
+   * @param epochMillis   times in milliseconds since the epoch 1970-01-01T00:00:00Z.
+   * @param absoluteSlots target array for the absolute slot numbers, which must be at least as
+   *                      long as the given {@code epochMillis}.
+   * @throws IllegalArgumentException if one of the given arrays is {@code null}, the target array
+   *                                  is too short, or one of the given times is strictly before
+   *                                  the creation time of the genesis block.
+   * @throws ArithmeticException      if one of the given times is too far away from the creation
+   *                                  time of the genesis block to be computed in nanoseconds.
+   */
+  public void convert(long[] epochMillis, long[] absoluteSlots) {
+    checkArgument(epochMillis != null, "The given times must not be null.");
+    checkArgument(absoluteSlots != null && absoluteSlots.length >= epochMillis.length,
+        "The given target array must not be null or shorter than the times.");
+    for (int i = 0; i < epochMillis.length; i++) {
+      absoluteSlots[i] = convert(epochMillis[i]);
+    }
+  }
+
+  /**
+   * gets the absolute slot number of the last converted time.
+   *
+   * @return the absolute slot number of the last converted time, or {@code -1}, if no time has
+   * been converted yet.
+   */
+  public long getAbsoluteSlot() {
+    return absoluteSlot;
+  }
+
+  /**
+   * gets the epoch number of the last converted time.
+   *
+   * @return the epoch number of the last converted time, or {@code -1}, if no time has been
+   * converted yet.
+   */
+  public long getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * gets the slot number within the epoch of the last converted time.
+   *
+   * @return the slot number of the last converted time, or {@code -1}, if no time has been
+   * converted yet.
+   */
+  public long getSlot() {
+    return slot;
+  }
+
+  /**
+   * gets the {@link CompleteSlotDate} of the last converted time.
+   *
+   * @return {@link CompleteSlotDate} of the last converted time.
+   * @throws IllegalStateException if no time has been converted yet.
+   */
+  public CompleteSlotDate getSlotDate() {
+    if (absoluteSlot < 0) {
+      throw new IllegalStateException("No time has been converted yet.");
+    }
+    return new CompleteSlotDateImpl(new CompactPlainSlotDateImpl(epoch, slot), setting,
+        absoluteSlot);
+  }
+
+  private long convertOffset(long offsetNanos) {
+    if (offsetNanos >= slotStartOffset && offsetNanos < slotEndOffset) {
+      return absoluteSlot;
+    }
+    if (offsetNanos < 0) {
+      throw new IllegalArgumentException(
+          "The given time must not be strictly before the genesis block creation time.");
+    }
+    if (offsetNanos < eraStartOffset || offsetNanos >= eraEndOffset) {
+      enterEra(setting.eraOfOffsetNanos(offsetNanos));
+    }
+    long slotsInEra = eraSlotDurationDivisors[era].divide(offsetNanos - eraStartOffset);
+    long epochsInEra = eraSlotsPerEpochDivisors[era].divide(slotsInEra);
+    long duration = eraSlotDurationNanos[era];
+    absoluteSlot = eraStartSlots[era] + slotsInEra;
+    epoch = eraStartEpochs[era] + epochsInEra;
+    slot = slotsInEra - epochsInEra * eraSlotsPerEpochDivisors[era].divisor();
+    slotStartOffset = eraStartOffset + slotsInEra * duration;
+    slotEndOffset = slotStartOffset <= Long.MAX_VALUE - duration ? slotStartOffset + duration
+        : Long.MAX_VALUE;
+    return absoluteSlot;
+  }
+
+  private void enterEra(int era) {
+    this.era = era;
+    this.eraStartOffset = eraStartOffsetNanos[era];
+    this.eraEndOffset = era + 1 < eraStartOffsetNanos.length ? eraStartOffsetNanos[era + 1]
+        : Long.MAX_VALUE;
+  }
+}
@@ -0,0 +1,325 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.time.Instant;
+
+/**
+ * A mutable cursor pointing to a slot of a {@link TimeSetting}. In contrast to {@link
+ * CompleteSlotDate}s, a cursor is moved in place, and hence it can be reused in hot loops without
+ * allocating a new object per step. Moving within an epoch only updates primitive counters, and
+ * the era of the time setting is only looked up when the cursor crosses an epoch boundary.
+ * <p/>
+ * A cursor is not thread-safe. An immutable {@link CompleteSlotDate} for the current position can
+ * be created on demand with {@link #snapshot()}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotCursor {
+
+  private final TimeSetting setting;
+
+  private long absoluteSlot;
+  private long epoch;
+  private long slot;
+  private long slotsPerEpoch;
+
+  private SlotCursor(TimeSetting setting) {
+    this.setting = setting;
+    this.slotsPerEpoch = setting.slotsPerEpochOf(0L);
+  }
+
+  /**
+   * creates a new {@link SlotCursor} for the given {@link TimeSetting}, which points to the first
+   * slot of the first epoch.
+   *
+   * @param setting {@link TimeSetting} to which the cursor shall be bound.
+   * @return the new {@link SlotCursor}.
+   * @throws IllegalArgumentException if the given time setting is null.
+   */
+  public static SlotCursor of(TimeSetting setting) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    return new SlotCursor(setting);
+  }
+
+  /**
+   * creates a new {@link SlotCursor} that points to the given {@link CompleteSlotDate}.
+   *
+   * @param date {@link CompleteSlotDate} to which the cursor shall point.
+   * @return the new {@link SlotCursor}.
+   * @throws IllegalArgumentException if the given date is null, or its absolute slot number does
+   *                                  not fit into a {@code long}.
+   */
+  public static SlotCursor of(CompleteSlotDate date) {
+    checkArgument(date != null, "The given slot date must not be null.");
+    return of(date.getTimeSetting()).seek(date);
+  }
+
+  /**
+   * gets the {@link TimeSetting} to which this cursor is bound.
+   *
+   * @return {@link TimeSetting} of this cursor.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * gets the absolute slot number of the current position.
+   *
+   * @return the absolute slot number of the current position.
+   */
+  public long getAbsoluteSlot() {
+    return absoluteSlot;
+  }
+
+  /**
+   * gets the epoch of the current position.
+   *
+   * @return the epoch of the current position.
+   */
+  public long getEpoch() {
+    return epoch;
+  }
+
+  /**
+   * gets the slot within the epoch of the current position.
+   *
+   * @return the slot within the epoch of the current position.
+   */
+  public long getSlot() {
+    return slot;
+  }
+
+  /**
+   * gets the number of slots in the epoch of the current position.
+   *
+   * @return the number of slots in the current epoch.
+   */
+  public long getSlotsInEpoch() {
+    return slotsPerEpoch;
+  }
+
+  /**
+   * gets the start time of the current slot in milliseconds since the epoch, rounded down to the
+   * millisecond.
+   *
+   * @return the start time of the current slot in milliseconds since the epoch.
+   */
+  public long getStartEpochMilli() {
+    return setting.startEpochMilliOf(absoluteSlot);
+  }
+
+  /**
+   * moves this cursor by the given number of {@code slots}, which can be negative.
+   *
+   * @param slots the number of slots by which the cursor shall be moved.
+   * @return this cursor.
+   * @throws IllegalArgumentException if the cursor would be moved before the first slot, or
+   *                                  beyond the range of a {@code long}.
+   */
+  public SlotCursor advance(long slots) {
+    long newSlot = slot + slots;
+    if (newSlot >= 0 && newSlot < slotsPerEpoch) {
+      slot = newSlot;
+      absoluteSlot += slots;
+      return this;
+    }
+    long newAbsoluteSlot;
+    try {
+      newAbsoluteSlot = Math.addExact(absoluteSlot, slots);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("The cursor must not be moved beyond the last slot.", e);
+    }
+    return seek(newAbsoluteSlot);
+  }
+
+  /**
+   * moves this cursor to the next slot.
+   *
+   * @return this cursor.
+   */
+  public SlotCursor next() {
+    if (++slot == slotsPerEpoch) {
+      epoch++;
+      slot = 0;
+      slotsPerEpoch = setting.slotsPerEpochOf(epoch);
+    }
+    absoluteSlot++;
+    return this;
+  }
+
+  /**
+   * moves this cursor to the first slot of the next epoch.
+   *
+   * @return this cursor.
+   */
+  public SlotCursor nextEpoch() {
+    absoluteSlot += slotsPerEpoch - slot;
+    epoch++;
+    slot = 0;
+    slotsPerEpoch = setting.slotsPerEpochOf(epoch);
+    return this;
+  }
+
+  /**
+   * moves this cursor to the slot with the given {@code absoluteSlot} number.
+   *
+   * @param absoluteSlot the positive absolute slot number.
+   * @return this cursor.
+   * @throws IllegalArgumentException if the given absolute slot number is negative.
+   */
+  public SlotCursor seek(long absoluteSlot) {
+    checkArgument(absoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    this.absoluteSlot = absoluteSlot;
+    this.epoch = setting.epochOfAbsoluteSlot(absoluteSlot);
+    this.slot = setting.slotOfAbsoluteSlot(absoluteSlot);
+    this.slotsPerEpoch = setting.slotsPerEpochOf(epoch);
+    return this;
+  }
+
+  /**
+   * moves this cursor to the given {@code slot} of the given {@code epoch}.
+   *
+   * @param epoch the positive epoch number.
+   * @param slot  the positive slot number within the epoch.
+   * @return this cursor.
+   * @throws IllegalArgumentException if the given slot date is not valid for the time setting of
+   *                                  this cursor, or its absolute slot number does not fit into a
+   *                                  {@code long}.
+   */
+  public SlotCursor seek(long epoch, long slot) {
+    checkArgument(epoch >= 0 && slot >= 0, "The given epoch and slot must not be negative.");
+    checkArgument(setting.valid(epoch, slot),
+        "The given slot date must be valid for the time setting of this cursor.");
+    try {
+      this.absoluteSlot = setting.absoluteSlotOf(epoch, slot);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException(
+          "The absolute slot number of the given slot date must fit into a long.", e);
+    }
+    this.epoch = epoch;
+    this.slot = slot;
+    this.slotsPerEpoch = setting.slotsPerEpochOf(epoch);
+    return this;
+  }
+
+  /**
+   * moves this cursor to the given {@code date}.
+   *
+   * @param date {@link PlainSlotDate} to which the cursor shall be moved.
+   * @return this cursor.
+   * @throws IllegalArgumentException if the given date is null, not valid for the time setting of
+   *                                  this cursor, or its absolute slot number does not fit into a
+   *                                  {@code long}.
+   */
+  public SlotCursor seek(PlainSlotDate date) {
+    checkArgument(date != null, "The given slot date must not be null.");
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(date);
+    if (compactDate != null) {
+      return seek(compactDate.getEpochAsLong(), compactDate.getSlotAsLong());
+    }
+    checkArgument(date.getEpoch().bitLength() < Long.SIZE && date.getSlot().bitLength() < Long.SIZE,
+        "The absolute slot number of the given slot date must fit into a long.");
+    return seek(date.getEpoch().longValue(), date.getSlot().longValue());
+  }
+
+  /**
+   * moves this cursor to the slot that contains the given {@code time}.
+   *
+   * @param time {@link Instant} to which the cursor shall be moved.
+   * @return this cursor.
+   * @throws IllegalArgumentException if the given time is null, before the creation of the genesis
+   *                                  block, or too far in the future.
+   */
+  public SlotCursor seek(Instant time) {
+    checkArgument(time != null, "The given time must not be null.");
+    long offsetNanos;
+    try {
+      offsetNanos = setting.offsetNanosOf(time);
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("The given time must fit into a long of nanoseconds.", e);
+    }
+    checkArgument(offsetNanos >= 0,
+        "The given time must not be strictly before the genesis block creation time.");
+    return seek(setting.absoluteSlotOfOffsetNanos(offsetNanos));
+  }
+
+  /**
+   * moves this cursor to the slot that contains the given {@code epochMilli}.
+   *
+   * @param epochMilli the time in milliseconds since the epoch.
+   * @return this cursor.
+   * @throws IllegalArgumentException if the given time is before the creation of the genesis
+   *                                  block, or too far in the future.
+   */
+  public SlotCursor seekEpochMilli(long epochMilli) {
+    try {
+      return seek(setting.absoluteSlotOfEpochMilli(epochMilli));
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("The given time must fit into a long of nanoseconds.", e);
+    }
+  }
+
+  /**
+   * compares the current position of this cursor with the given {@code date}.
+   *
+   * @param date {@link PlainSlotDate} with which the position shall be compared.
+   * @return a negative number, zero, or a positive number, if the current position is before, the
+   * same as, or after the given {@code date}.
+   */
+  public int compareTo(PlainSlotDate date) {
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(date);
+    if (compactDate != null) {
+      int epochComparison = Long.compare(epoch, compactDate.getEpochAsLong());
+      return epochComparison != 0 ? epochComparison
+          : Long.compare(slot, compactDate.getSlotAsLong());
+    }
+    return new CompactPlainSlotDateImpl(epoch, slot).compareTo(date);
+  }
+
+  /**
+   * checks whether the current position of this cursor is the same as the given {@code date}.
+   *
+   * @param date {@link PlainSlotDate} with which the position shall be compared.
+   * @return {@code true}, if the current position is the same as the given date, otherwise {@code
+   * false}.
+   */
+  public boolean sameAs(PlainSlotDate date) {
+    return compareTo(date) == 0;
+  }
+
+  /**
+   * checks whether the current position of this cursor is strictly before the given {@code date}.
+   *
+   * @param date {@link PlainSlotDate} with which the position shall be compared.
+   * @return {@code true}, if the current position is before the given date, otherwise {@code
+   * false}.
+   */
+  public boolean before(PlainSlotDate date) {
+    return compareTo(date) < 0;
+  }
+
+  /**
+   * checks whether the current position of this cursor is strictly after the given {@code date}.
+   *
+   * @param date {@link PlainSlotDate} with which the position shall be compared.
+   * @return {@code true}, if the current position is after the given date, otherwise {@code
+   * false}.
+   */
+  public boolean after(PlainSlotDate date) {
+    return compareTo(date) > 0;
+  }
+
+  /**
+   * creates an immutable {@link CompleteSlotDate} for the current position of this cursor.
+   *
+   * @return {@link CompleteSlotDate} for the current position.
+   */
+  public CompleteSlotDate snapshot() {
+    return new CompleteSlotDateImpl(new CompactPlainSlotDateImpl(epoch, slot), setting,
+        absoluteSlot);
+  }
+}
@@ -0,0 +1,249 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The result of the bulk creation of slot dates from columns of epoch and slot numbers with
+ * {@link SlotDateFactory#completeInstances(long[], long[], TimeSetting)}. The slot dates are not
+ * materialized, but only their absolute slot numbers are kept in a primitive column, and a bitmap
+ * marks the rows that are not valid for the {@link TimeSetting}. An invalid row does not abort the
+ * creation of the other rows.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotDateBatch {
+
+  /**
+   * the number of rows below which a validation task is not split any further, which is a
+   * multiple of the bits in a word of the invalid rows bitmap.
+   */
+  static final int SPLIT_THRESHOLD = 1 << 13;
+
+  private final TimeSetting setting;
+  private final long[] absoluteSlots;
+  private final BitSet invalidRows;
+
+  private SlotDateBatch(TimeSetting setting, long[] absoluteSlots, BitSet invalidRows) {
+    this.setting = setting;
+    this.absoluteSlots = absoluteSlots;
+    this.invalidRows = invalidRows;
+  }
+
+  /**
+   * validates the given columns of {@code epochs} and {@code slots} numbers in parallel in the
+   * common fork-join pool, and computes the absolute slot numbers of the valid rows.
+   */
+  static SlotDateBatch validate(long[] epochs, long[] slots, TimeSetting setting) {
+    long[] absoluteSlots = new long[epochs.length];
+    long[] invalidWords = new long[(epochs.length + Long.SIZE - 1) / Long.SIZE];
+    new ValidationTask(epochs, slots, setting, absoluteSlots, invalidWords, 0, epochs.length)
+        .invoke();
+    return new SlotDateBatch(setting, absoluteSlots, BitSet.valueOf(invalidWords));
+  }
+
+  /**
+   * gets the {@link TimeSetting} of the slot dates in this batch.
+   *
+   * @return {@link TimeSetting} of the slot dates in this batch.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * gets the number of rows in this batch, including the invalid ones.
+   *
+   * @return the number of rows in this batch.
+   */
+  public int size() {
+    return absoluteSlots.length;
+  }
+
+  /**
+   * checks whether all rows of this batch are valid.
+   *
+   * @return {@code true}, if all rows are valid, otherwise {@code false}.
+   */
+  public boolean isValid() {
+    return invalidRows.isEmpty();
+  }
+
+  /**
+   * gets the number of invalid rows in this batch.
+   *
+   * @return the number of invalid rows.
+   */
+  public int getInvalidCount() {
+    return invalidRows.cardinality();
+  }
+
+  /**
+   * gets a bitmap in which the set bits mark the rows that are not valid, because the epoch or
+   * slot number is negative, the slot number is not valid for the time setting, or the absolute
+   * slot number does not fit into a {@code long}.
+   *
+   * @return a copy of the bitmap of invalid rows.
+   */
+  public BitSet getInvalidRows() {
+    return (BitSet) invalidRows.clone();
+  }
+
+  /**
+   * checks whether the given {@code row} is valid.
+   *
+   * @param row index of the row.
+   * @return {@code true}, if the row is valid, otherwise {@code false}.
+   * @throws IndexOutOfBoundsException if the given row is not in this batch.
+   */
+  public boolean isValid(int row) {
+    checkRow(row);
+    return !invalidRows.get(row);
+  }
+
+  /**
+   * gets the absolute slot number of the slot date in the given {@code row}.
+   *
+   * @param row index of the row.
+   * @return the absolute slot number, or {@code -1}, if the row is not valid.
+   * @throws IndexOutOfBoundsException if the given row is not in this batch.
+   */
+  public long getAbsoluteSlot(int row) {
+    checkRow(row);
+    return absoluteSlots[row];
+  }
+
+  /**
+   * gets the {@link CompleteSlotDate} in the given {@code row}, which is created on access.
+   *
+   * @param row index of the row.
+   * @return the {@link CompleteSlotDate} in the given row.
+   * @throws IndexOutOfBoundsException if the given row is not in this batch.
+   * @throws IllegalArgumentException  if the given row is not valid.
+   */
+  public CompleteSlotDate get(int row) {
+    checkArgument(isValid(row), "The slot date at row %s is not valid.", row);
+    return setting.getSlotDateForAbsoluteSlot(absoluteSlots[row]);
+  }
+
+  /**
+   * gets an unmodifiable list view over the slot dates of this batch, whose elements are created
+   * on access. The view is only available, if all rows of this batch are valid.
+   *
+   * @return an unmodifiable {@link List} view over the slot dates of this batch.
+   * @throws IllegalStateException if this batch contains invalid rows.
+   */
+  public List<CompleteSlotDate> asList() {
+    if (!isValid()) {
+      throw new IllegalStateException(
+          "The batch must not contain invalid rows, but contains " + getInvalidCount() + ".");
+    }
+    return new SlotDateList();
+  }
+
+  /**
+   * copies the slot dates of the valid rows of this batch in their order into a new {@link
+   * SlotDateColumn} on the heap.
+   *
+   * @return a new {@link SlotDateColumn} with the slot dates of the valid rows.
+   */
+  public SlotDateColumn toColumn() {
+    SlotDateColumn column = SlotDateColumn
+        .create(setting, absoluteSlots.length - getInvalidCount());
+    for (int row = invalidRows.nextClearBit(0); row < absoluteSlots.length;
+        row = invalidRows.nextClearBit(row + 1)) {
+      column.add(absoluteSlots[row]);
+    }
+    return column;
+  }
+
+  private void checkRow(int row) {
+    if (row < 0 || row >= absoluteSlots.length) {
+      throw new IndexOutOfBoundsException(
+          "The given row must be between 0 and " + absoluteSlots.length);
+    }
+  }
+
+  /**
+   * An unmodifiable list view over the slot dates of a batch.
+   */
+  private final class SlotDateList extends AbstractList<CompleteSlotDate> implements
+      RandomAccess {
+
+    @Override
+    public CompleteSlotDate get(int index) {
+      checkRow(index);
+      return setting.getSlotDateForAbsoluteSlot(absoluteSlots[index]);
+    }
+
+    @Override
+    public int size() {
+      return absoluteSlots.length;
+    }
+  }
+
+  /**
+   * A fork-join task that validates a range of rows, and splits it in halves as long as it is
+   * bigger than the {@link #SPLIT_THRESHOLD}. The halves are split at a multiple of the bits in a
+   * word, such that each task writes to its own words of the invalid rows bitmap.
+   */
+  private static final class ValidationTask extends RecursiveAction {
+
+    private final long[] epochs;
+    private final long[] slots;
+    private final TimeSetting setting;
+    private final long[] absoluteSlots;
+    private final long[] invalidWords;
+    private final int from;
+    private final int to;
+
+    private ValidationTask(long[] epochs, long[] slots, TimeSetting setting,
+        long[] absoluteSlots, long[] invalidWords, int from, int to) {
+      this.epochs = epochs;
+      this.slots = slots;
+      this.setting = setting;
+      this.absoluteSlots = absoluteSlots;
+      this.invalidWords = invalidWords;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= SPLIT_THRESHOLD) {
+        validateRows();
+        return;
+      }
+      int middle = (from + (to - from) / 2) & -Long.SIZE;
+      invokeAll(
+          new ValidationTask(epochs, slots, setting, absoluteSlots, invalidWords, from, middle),
+          new ValidationTask(epochs, slots, setting, absoluteSlots, invalidWords, middle, to));
+    }
+
+    private void validateRows() {
+      for (int row = from; row < to; row++) {
+        long epoch = epochs[row];
+        long slot = slots[row];
+        long absoluteSlot = -1L;
+        if (epoch >= 0 && slot >= 0 && setting.valid(epoch, slot)) {
+          try {
+            absoluteSlot = setting.absoluteSlotOf(epoch, slot);
+          } catch (ArithmeticException e) {
+            // the absolute slot number does not fit into a long.
+          }
+        }
+        absoluteSlots[row] = absoluteSlot;
+        if (absoluteSlot < 0) {
+          invalidWords[row >>> 6] |= 1L << row;
+        }
+      }
+    }
+  }
+}
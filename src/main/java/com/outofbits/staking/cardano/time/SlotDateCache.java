@@ -0,0 +1,65 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, concurrent cache of recently created {@link CompleteSlotDate}s keyed by their time
+ * setting and absolute slot number. The cache is direct-mapped, i.e. each key has exactly one
+ * entry in which it can be stored, and a newly created slot date simply replaces the slot date that
+ * occupied its entry before. Hence, lookups and insertions are lock-free, never allocate and the
+ * size of the cache never exceeds its capacity.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class SlotDateCache {
+
+  static final int MAX_CAPACITY = 1 << 30;
+
+  private final AtomicReferenceArray<CompleteSlotDateImpl> entries;
+  private final int mask;
+
+  /**
+   * creates a new cache that can hold at most the given {@code capacity} of slot dates. The
+   * capacity is rounded up to the next power of two.
+   *
+   * @param capacity positive maximum number of slot dates in this cache.
+   * @throws IllegalArgumentException if the given capacity is not positive or exceeds 2^30.
+   */
+  SlotDateCache(int capacity) {
+    checkArgument(capacity > 0 && capacity <= MAX_CAPACITY,
+        "The given capacity must be between 1 and %s.", MAX_CAPACITY);
+    int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+    this.entries = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+  }
+
+  /**
+   * gets the cached {@link CompleteSlotDate} for the given {@code absoluteSlot} number and {@code
+   * setting}, or creates and caches a new one, if none is cached.
+   *
+   * @param absoluteSlot positive absolute slot number of the slot date.
+   * @param setting      {@link TimeSetting} of the slot date.
+   * @return the {@link CompleteSlotDate} for the given {@code absoluteSlot} number and {@code
+   * setting}.
+   */
+  CompleteSlotDate get(long absoluteSlot, TimeSetting setting) {
+    int index = indexOf(absoluteSlot, setting);
+    CompleteSlotDateImpl date = entries.get(index);
+    if (date != null && date.getAbsoluteSlotExact() == absoluteSlot && setting
+        .equals(date.getTimeSetting())) {
+      return date;
+    }
+    date = (CompleteSlotDateImpl) setting.getSlotDateForAbsoluteSlot(absoluteSlot);
+    entries.lazySet(index, date);
+    return date;
+  }
+
+  private int indexOf(long absoluteSlot, TimeSetting setting) {
+    long hash = (absoluteSlot ^ setting.hashCode()) * 0x9E3779B97F4A7C15L;
+    return (int) (hash >>> 32) & mask;
+  }
+}
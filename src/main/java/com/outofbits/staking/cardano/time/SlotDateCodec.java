@@ -0,0 +1,339 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A codec for a compact binary representation of {@link PlainSlotDate}s, {@link
+ * CompleteSlotDate}s and {@link TimeSetting}s. Numbers are written as variable-length integers
+ * (unsigned LEB128), whereby signed numbers are zigzag encoded first, such that small numbers take
+ * only one or two bytes. All methods read from and write to the current position of a (heap or
+ * direct) {@link ByteBuffer}, which is advanced accordingly.
+ * <p/>
+ * Sequences of absolute slot numbers can be written in a columnar format, which only stores the
+ * difference between consecutive slot numbers. Hence, a sorted list of block slots compresses to
+ * one or two bytes per entry.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotDateCodec {
+
+  private static final BigInteger SEVEN_BIT_MASK = BigInteger.valueOf(0x7F);
+
+  private SlotDateCodec() {
+  }
+
+  /**
+   * writes the given {@code date} ({@link PlainSlotDate}) as its epoch and slot number to the
+   * given {@code buffer}.
+   *
+   * @param buffer {@link ByteBuffer} to which the date shall be written.
+   * @param date   {@link PlainSlotDate} that shall be written.
+   * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining.
+   */
+  public static void writePlainSlotDate(ByteBuffer buffer, PlainSlotDate date) {
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(date);
+    if (compactDate != null) {
+      writeVarLong(buffer, compactDate.getEpochAsLong());
+      writeVarLong(buffer, compactDate.getSlotAsLong());
+    } else {
+      writeVarInteger(buffer, date.getEpoch());
+      writeVarInteger(buffer, date.getSlot());
+    }
+  }
+
+  /**
+   * reads a {@link PlainSlotDate} that has been written with {@link #writePlainSlotDate(ByteBuffer,
+   * PlainSlotDate)} from the given {@code buffer}.
+   *
+   * @param buffer {@link ByteBuffer} from which the date shall be read.
+   * @return the read {@link PlainSlotDate}.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the date.
+   */
+  public static PlainSlotDate readPlainSlotDate(ByteBuffer buffer) {
+    int position = buffer.position();
+    long epoch = readVarLongOrNegative(buffer);
+    long slot = epoch >= 0 ? readVarLongOrNegative(buffer) : -1L;
+    if (epoch >= 0 && slot >= 0) {
+      return new CompactPlainSlotDateImpl(epoch, slot);
+    }
+    ((Buffer) buffer).position(position);
+    return SlotDateFactory.plainInstance(readVarInteger(buffer), readVarInteger(buffer));
+  }
+
+  /**
+   * writes the given {@code date} ({@link CompleteSlotDate}) as its absolute slot number to the
+   * given {@code buffer}. The time setting of the date is not written, and it must be passed to
+   * {@link #readCompleteSlotDate(ByteBuffer, TimeSetting)}.
+   *
+   * @param buffer {@link ByteBuffer} to which the date shall be written.
+   * @param date   {@link CompleteSlotDate} that shall be written.
+   * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining.
+   */
+  public static void writeCompleteSlotDate(ByteBuffer buffer, CompleteSlotDate date) {
+    try {
+      writeVarLong(buffer, date.getAbsoluteSlotExact());
+    } catch (ArithmeticException e) {
+      writeVarInteger(buffer, date.getAbsoluteSlot());
+    }
+  }
+
+  /**
+   * reads a {@link CompleteSlotDate} that has been written with {@link
+   * #writeCompleteSlotDate(ByteBuffer, CompleteSlotDate)} from the given {@code buffer}.
+   *
+   * @param buffer  {@link ByteBuffer} from which the date shall be read.
+   * @param setting {@link TimeSetting} of the written date.
+   * @return the read {@link CompleteSlotDate}.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the date.
+   */
+  public static CompleteSlotDate readCompleteSlotDate(ByteBuffer buffer, TimeSetting setting) {
+    int position = buffer.position();
+    long absoluteSlot = readVarLongOrNegative(buffer);
+    if (absoluteSlot >= 0) {
+      return setting.getSlotDateForAbsoluteSlot(absoluteSlot);
+    }
+    ((Buffer) buffer).position(position);
+    return setting.getSlotDateForAbsoluteSlot(readVarInteger(buffer));
+  }
+
+  /**
+   * writes the given {@code setting} ({@link TimeSetting}) including all its eras to the given
+   * {@code buffer}.
+   *
+   * @param buffer  {@link ByteBuffer} to which the time setting shall be written.
+   * @param setting {@link TimeSetting} that shall be written.
+   * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining.
+   */
+  public static void writeTimeSetting(ByteBuffer buffer, TimeSetting setting) {
+    Instant genesis = setting.getGenesisBlockCreationTime();
+    writeVarLong(buffer, zigzag(genesis.getEpochSecond()));
+    writeVarLong(buffer, genesis.getNano());
+    List<Era> eras = setting.getEras();
+    writeVarLong(buffer, eras.size());
+    long previousStartEpoch = 0;
+    for (Era era : eras) {
+      writeVarLong(buffer, era.getStartEpoch() - previousStartEpoch);
+      writeVarLong(buffer, era.getSlotsPerEpoch());
+      writeVarLong(buffer, era.getSlotDuration().toNanos());
+      previousStartEpoch = era.getStartEpoch();
+    }
+  }
+
+  /**
+   * reads a {@link TimeSetting} that has been written with {@link #writeTimeSetting(ByteBuffer,
+   * TimeSetting)} from the given {@code buffer}. The returned time setting is the constant of
+   * the known network, if the read details are the ones of a known network.
+   *
+   * @param buffer {@link ByteBuffer} from which the time setting shall be read.
+   * @return the read {@link TimeSetting}.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the time setting.
+   * @throws IllegalArgumentException          if the read details are not valid.
+   */
+  public static TimeSetting readTimeSetting(ByteBuffer buffer) {
+    long genesisSecond = unzigzag(readUnsignedVarLong(buffer));
+    long genesisNano = readVarLong(buffer);
+    long eraCount = readVarLong(buffer);
+    checkArgument(eraCount > 0 && readVarLong(buffer) == 0,
+        "The time setting must have a first era that starts at epoch 0.");
+    TimeSetting setting = TimeSetting
+        .with(Instant.ofEpochSecond(genesisSecond, genesisNano), readVarLong(buffer),
+            Duration.ofNanos(readVarLong(buffer)));
+    long startEpoch = 0;
+    for (long i = 1; i < eraCount; i++) {
+      startEpoch += readVarLong(buffer);
+      setting = setting.withEra(startEpoch, readVarLong(buffer),
+          Duration.ofNanos(readVarLong(buffer)));
+    }
+    return setting;
+  }
+
+  /**
+   * writes the given {@code absoluteSlots} numbers between {@code from} (inclusive) and {@code to}
+   * (exclusive) in a columnar format to the given {@code buffer}. The number of slots is written
+   * first, followed by the zigzag-encoded differences between consecutive slot numbers. Sorted
+   * slot numbers hence compress best, but any order is supported.
+   *
+   * @param buffer        {@link ByteBuffer} to which the absolute slot numbers shall be written.
+   * @param absoluteSlots positive absolute slot numbers.
+   * @param from          index of the first slot number that shall be written.
+   * @param to            index after the last slot number that shall be written.
+   * @throws IllegalArgumentException         if the given range is not valid or a slot number is
+   *                                          negative.
+   * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining.
+   */
+  public static void writeAbsoluteSlots(ByteBuffer buffer, long[] absoluteSlots, int from,
+      int to) {
+    checkArgument(absoluteSlots != null && from >= 0 && from <= to && to <= absoluteSlots.length,
+        "The given range of absolute slot numbers must be valid.");
+    writeVarLong(buffer, to - from);
+    long previous = 0;
+    for (int i = from; i < to; i++) {
+      long absoluteSlot = absoluteSlots[i];
+      if (absoluteSlot < 0) {
+        throw new IllegalArgumentException("The given absolute slot numbers must not be negative.");
+      }
+      writeVarLong(buffer, zigzag(absoluteSlot - previous));
+      previous = absoluteSlot;
+    }
+  }
+
+  /**
+   * reads absolute slot numbers that have been written with {@link #writeAbsoluteSlots(ByteBuffer,
+   * long[], int, int)} from the given {@code buffer} into a new array.
+   *
+   * @param buffer {@link ByteBuffer} from which the absolute slot numbers shall be read.
+   * @return the read absolute slot numbers.
+   * @throws IllegalArgumentException          if a read slot number is negative.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the slot numbers.
+   */
+  public static long[] readAbsoluteSlots(ByteBuffer buffer) {
+    long count = readCount(buffer);
+    long[] absoluteSlots = new long[(int) count];
+    readDeltas(buffer, absoluteSlots, 0, (int) count);
+    return absoluteSlots;
+  }
+
+  /**
+   * reads absolute slot numbers that have been written with {@link #writeAbsoluteSlots(ByteBuffer,
+   * long[], int, int)} from the given {@code buffer} into the given {@code target} array starting
+   * at the given {@code offset}.
+   *
+   * @param buffer {@link ByteBuffer} from which the absolute slot numbers shall be read.
+   * @param target array into which the absolute slot numbers shall be read.
+   * @param offset index of the target array at which the first slot number shall be stored.
+   * @return the number of read absolute slot numbers.
+   * @throws IllegalArgumentException          if the target array has not enough space, or a
+   *                                           read slot number is negative.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the slot numbers.
+   */
+  public static int readAbsoluteSlots(ByteBuffer buffer, long[] target, int offset) {
+    long count = readCount(buffer);
+    checkArgument(target != null && offset >= 0 && count <= target.length - offset,
+        "The given target array must have enough space for the absolute slot numbers.");
+    readDeltas(buffer, target, offset, (int) count);
+    return (int) count;
+  }
+
+  /**
+   * reads the number of the following absolute slot numbers from the given {@code buffer}. Each
+   * slot number takes at least one byte, and hence a number that exceeds the remaining bytes of
+   * the buffer is rejected before anything is allocated for it.
+   *
+   * @throws java.nio.BufferUnderflowException if the buffer cannot contain the slot numbers.
+   */
+  private static long readCount(ByteBuffer buffer) {
+    long count = readVarLong(buffer);
+    if (count > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+    return count;
+  }
+
+  private static void readDeltas(ByteBuffer buffer, long[] target, int offset, int count) {
+    long previous = 0;
+    for (int i = offset; i < offset + count; i++) {
+      previous += unzigzag(readUnsignedVarLong(buffer));
+      checkArgument(previous >= 0, "The read absolute slot numbers must not be negative.");
+      target[i] = previous;
+    }
+  }
+
+  /**
+   * writes the given {@code value} as unsigned LEB128 to the given {@code buffer}, whereby the
+   * value is interpreted as unsigned 64-bit number.
+   */
+  static void writeVarLong(ByteBuffer buffer, long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.put((byte) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.put((byte) value);
+  }
+
+  /**
+   * reads an unsigned LEB128 value, which must fit into a positive {@code long}, from the given
+   * {@code buffer}.
+   *
+   * @throws IllegalArgumentException if the read value does not fit into a positive long.
+   */
+  static long readVarLong(ByteBuffer buffer) {
+    long value = readVarLongOrNegative(buffer);
+    checkArgument(value >= 0, "The read number must fit into a positive long.");
+    return value;
+  }
+
+  /**
+   * reads an unsigned LEB128 value of at most 64 bits from the given {@code buffer}, which is
+   * returned as it is, i.e. values above {@link Long#MAX_VALUE} are negative. This is the
+   * counterpart to writing zigzag-encoded numbers.
+   *
+   * @throws IllegalArgumentException if the read value has more than 64 bits.
+   */
+  static long readUnsignedVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        checkArgument(shift < 63 || b <= 1, "The read number must fit into 64 bits.");
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("The read number must fit into 64 bits.");
+  }
+
+  /**
+   * reads an unsigned LEB128 value from the given {@code buffer}, or returns {@code -1}, if the
+   * value does not fit into a positive {@code long}. In the latter case, the position of the
+   * buffer is undefined.
+   */
+  private static long readVarLongOrNegative(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 63; shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        return value;
+      }
+    }
+    return -1L;
+  }
+
+  private static void writeVarInteger(ByteBuffer buffer, BigInteger value) {
+    while (value.bitLength() > 7) {
+      buffer.put((byte) (value.intValue() & 0x7F | 0x80));
+      value = value.shiftRight(7);
+    }
+    buffer.put((byte) value.intValue());
+  }
+
+  private static BigInteger readVarInteger(ByteBuffer buffer) {
+    BigInteger value = BigInteger.ZERO;
+    int shift = 0;
+    byte b;
+    do {
+      b = buffer.get();
+      value = value.or(BigInteger.valueOf(b & 0x7F).shiftLeft(shift));
+      shift += 7;
+    } while (b < 0);
+    return value;
+  }
+
+  static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -0,0 +1,539 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A growable, column-oriented collection of slot dates, which share a single {@link TimeSetting}.
+ * In contrast to a list of {@link CompleteSlotDate}s, which costs more than a hundred bytes per
+ * slot date, only the absolute slot number of each slot date is stored in a primitive column of
+ * eight bytes per entry, either on the heap or off-heap in a direct buffer. The {@link
+ * CompleteSlotDate}s are short-lived, compact views that are created on access.
+ * <p/>
+ * A column can hold up to {@code 2^31 - 9} slot dates. Since a single direct buffer can hold at
+ * most 2 GiB, a column off-heap is spread over direct buffers of {@code 2^27} slot dates (1 GiB)
+ * each, as soon as it outgrows the first one. A column is not thread-safe.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotDateColumn {
+
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+  private static final int DIRECT_CHUNK_SHIFT = 27;
+
+  private final TimeSetting setting;
+  private final boolean direct;
+  private final int chunkShift;
+  /*
+   * a column on the heap has exactly one chunk. A column off-heap has either one chunk of at most
+   * 2^chunkShift values, or several chunks of exactly 2^chunkShift values.
+   */
+  private LongBuffer[] chunks;
+  private int size;
+  private boolean sorted = true;
+
+  private SlotDateColumn(TimeSetting setting, boolean direct, int capacity, int chunkShift) {
+    this.setting = setting;
+    this.direct = direct;
+    this.chunkShift = chunkShift;
+    this.chunks = new LongBuffer[]{
+        allocate(direct, direct ? Math.min(capacity, 1 << chunkShift) : capacity)};
+    ensureCapacity(capacity);
+  }
+
+  /**
+   * creates a new, empty {@link SlotDateColumn} on the heap for the given {@link TimeSetting}.
+   *
+   * @param setting {@link TimeSetting} of the slot dates.
+   * @return the new {@link SlotDateColumn}.
+   * @throws IllegalArgumentException if the given setting is {@code null}.
+   */
+  public static SlotDateColumn create(TimeSetting setting) {
+    return create(setting, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * creates a new, empty {@link SlotDateColumn} on the heap for the given {@link TimeSetting}
+   * with the given initial {@code capacity}.
+   *
+   * @param setting  {@link TimeSetting} of the slot dates.
+   * @param capacity the initial number of slot dates for which space shall be reserved.
+   * @return the new {@link SlotDateColumn}.
+   * @throws IllegalArgumentException if the given setting is {@code null}, or the given capacity
+   *                                  is negative or too big.
+   */
+  public static SlotDateColumn create(TimeSetting setting, int capacity) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(capacity >= 0 && capacity <= MAX_CAPACITY,
+        "The given capacity must be between 0 and %s.", MAX_CAPACITY);
+    return new SlotDateColumn(setting, false, capacity, 0);
+  }
+
+  /**
+   * creates a new, empty {@link SlotDateColumn} off-heap for the given {@link TimeSetting} with
+   * the given initial {@code capacity}. The column is backed by direct buffers, and hence does
+   * not contribute to the heap size or the work of the garbage collector.
+   *
+   * @param setting  {@link TimeSetting} of the slot dates.
+   * @param capacity the initial number of slot dates for which space shall be reserved.
+   * @return the new {@link SlotDateColumn}.
+   * @throws IllegalArgumentException if the given setting is {@code null}, or the given capacity
+   *                                  is negative or too big.
+   */
+  public static SlotDateColumn allocateDirect(TimeSetting setting, int capacity) {
+    return allocateDirect(setting, capacity, DIRECT_CHUNK_SHIFT);
+  }
+
+  /**
+   * creates a new, empty {@link SlotDateColumn} off-heap, which is spread over direct buffers of
+   * {@code 2^chunkShift} slot dates each.
+   */
+  static SlotDateColumn allocateDirect(TimeSetting setting, int capacity, int chunkShift) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(capacity >= 0 && capacity <= MAX_CAPACITY,
+        "The given capacity must be between 0 and %s.", MAX_CAPACITY);
+    return new SlotDateColumn(setting, true, capacity, chunkShift);
+  }
+
+  /**
+   * creates a new {@link SlotDateColumn} on the heap for the given {@link TimeSetting} with the
+   * given {@code absoluteSlots} numbers. The given array is copied.
+   *
+   * @param setting       {@link TimeSetting} of the slot dates.
+   * @param absoluteSlots positive absolute slot numbers.
+   * @return the new {@link SlotDateColumn}.
+   * @throws IllegalArgumentException if the given setting or array is {@code null}, or one of the
+   *                                  absolute slot numbers is negative.
+   */
+  public static SlotDateColumn of(TimeSetting setting, long[] absoluteSlots) {
+    checkArgument(absoluteSlots != null, "The given absolute slot numbers must not be null.");
+    SlotDateColumn column = create(setting, absoluteSlots.length);
+    column.addAll(absoluteSlots);
+    return column;
+  }
+
+  private static LongBuffer allocate(boolean direct, int capacity) {
+    if (direct) {
+      return ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder())
+          .asLongBuffer();
+    }
+    return LongBuffer.wrap(new long[capacity]);
+  }
+
+  /**
+   * gets the {@link TimeSetting} of the slot dates in this column.
+   *
+   * @return {@link TimeSetting} of the slot dates in this column.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * checks whether this column is stored off-heap.
+   *
+   * @return {@code true}, if this column is stored off-heap, otherwise {@code false}.
+   */
+  public boolean isDirect() {
+    return direct;
+  }
+
+  /**
+   * gets the number of slot dates in this column.
+   *
+   * @return the number of slot dates in this column.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * checks whether this column contains no slot date.
+   *
+   * @return {@code true}, if this column is empty, otherwise {@code false}.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * adds the slot date with the given {@code absoluteSlot} number to the end of this column.
+   *
+   * @param absoluteSlot positive absolute slot number.
+   * @return this column.
+   * @throws IllegalArgumentException if the given absolute slot number is negative.
+   * @throws IllegalStateException    if the column has reached its maximum capacity.
+   */
+  public SlotDateColumn add(long absoluteSlot) {
+    checkArgument(absoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    ensureCapacity(size + 1L);
+    if (size > 0 && slotAt(size - 1) > absoluteSlot) {
+      sorted = false;
+    }
+    putSlot(size++, absoluteSlot);
+    return this;
+  }
+
+  /**
+   * adds the given slot {@code date} to the end of this column.
+   *
+   * @param date {@link CompleteSlotDate} that shall be added.
+   * @return this column.
+   * @throws IllegalArgumentException if the given date is {@code null}, has another time setting
+   *                                  than this column, or its absolute slot number does not fit
+   *                                  into a {@code long}.
+   * @throws IllegalStateException    if the column has reached its maximum capacity.
+   */
+  public SlotDateColumn add(CompleteSlotDate date) {
+    checkArgument(date != null, "The given slot date must not be null.");
+    checkArgument(setting.equals(date.getTimeSetting()),
+        "The given slot date must have the time setting of this column.");
+    try {
+      return add(date.getAbsoluteSlotExact());
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException(
+          "The absolute slot number of the given slot date must fit into a long.", e);
+    }
+  }
+
+  /**
+   * adds the slot dates with the given {@code absoluteSlots} numbers to the end of this column.
+   *
+   * @param absoluteSlots positive absolute slot numbers.
+   * @return this column.
+   * @throws IllegalArgumentException if the given array is {@code null}, or one of the absolute
+   *                                  slot numbers is negative. In this case, no slot date has
+   *                                  been added.
+   * @throws IllegalStateException    if the column would exceed its maximum capacity.
+   */
+  public SlotDateColumn addAll(long[] absoluteSlots) {
+    checkArgument(absoluteSlots != null, "The given absolute slot numbers must not be null.");
+    long previous = size > 0 ? slotAt(size - 1) : 0L;
+    boolean ascending = true;
+    for (long absoluteSlot : absoluteSlots) {
+      checkArgument(absoluteSlot >= 0, "The given absolute slot number must not be negative.");
+      ascending &= previous <= absoluteSlot;
+      previous = absoluteSlot;
+    }
+    ensureCapacity((long) size + absoluteSlots.length);
+    int end = size + absoluteSlots.length;
+    for (int written = 0; written < absoluteSlots.length; ) {
+      LongBuffer target = segment(size + written, end);
+      int count = target.remaining();
+      target.put(absoluteSlots, written, count);
+      written += count;
+    }
+    size = end;
+    sorted &= ascending;
+    return this;
+  }
+
+  private void ensureCapacity(long capacity) {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalStateException(
+          "The column must not hold more than " + MAX_CAPACITY + " slot dates.");
+    }
+    LongBuffer first = chunks[0];
+    long currentCapacity = chunks.length == 1 ? first.capacity()
+        : (long) chunks.length << chunkShift;
+    if (capacity <= currentCapacity) {
+      return;
+    }
+    int chunkSize = 1 << chunkShift;
+    if (!direct || capacity <= chunkSize) {
+      int maxCapacity = direct ? chunkSize : MAX_CAPACITY;
+      int newCapacity = (int) Math.min(maxCapacity,
+          Math.max(capacity, first.capacity() + (first.capacity() >> 1) + 1L));
+      LongBuffer grown = allocate(direct, newCapacity);
+      LongBuffer source = first.duplicate();
+      ((Buffer) source).limit(size);
+      grown.put(source);
+      ((Buffer) grown).clear();
+      chunks[0] = grown;
+      return;
+    }
+    if (first.capacity() < chunkSize) {
+      ensureCapacity(chunkSize);
+    }
+    int chunkCount = (int) ((capacity + chunkSize - 1) >>> chunkShift);
+    if (chunkCount > chunks.length) {
+      int oldCount = chunks.length;
+      chunks = Arrays.copyOf(chunks, chunkCount);
+      for (int i = oldCount; i < chunkCount; i++) {
+        chunks[i] = allocate(true, chunkSize);
+      }
+    }
+  }
+
+  private long slotAt(int index) {
+    return chunks.length == 1 ? chunks[0].get(index)
+        : chunks[index >>> chunkShift].get(index & ((1 << chunkShift) - 1));
+  }
+
+  private void putSlot(int index, long absoluteSlot) {
+    if (chunks.length == 1) {
+      chunks[0].put(index, absoluteSlot);
+    } else {
+      chunks[index >>> chunkShift].put(index & ((1 << chunkShift) - 1), absoluteSlot);
+    }
+  }
+
+  /**
+   * gets a view of the values from the given {@code index} up to the given {@code end} or the
+   * end of the chunk of the index, whichever comes first.
+   */
+  private LongBuffer segment(int index, int end) {
+    int chunk = chunks.length == 1 ? 0 : index >>> chunkShift;
+    int offset = chunks.length == 1 ? index : index & ((1 << chunkShift) - 1);
+    LongBuffer segment = chunks[chunk].duplicate();
+    ((Buffer) segment).limit((int) Math.min(segment.capacity(), (long) offset + end - index))
+        .position(offset);
+    return segment;
+  }
+
+  /**
+   * gets the absolute slot number of the slot date at the given {@code index}.
+   *
+   * @param index position of the slot date.
+   * @return the absolute slot number of the slot date.
+   * @throws IndexOutOfBoundsException if the given index is not in this column.
+   */
+  public long getAbsoluteSlot(int index) {
+    checkIndex(index);
+    return slotAt(index);
+  }
+
+  /**
+   * gets a view of the slot date at the given {@code index}, which is created on access.
+   *
+   * @param index position of the slot date.
+   * @return {@link CompleteSlotDate} at the given position.
+   * @throws IndexOutOfBoundsException if the given index is not in this column.
+   */
+  public CompleteSlotDate get(int index) {
+    return setting.getSlotDateForAbsoluteSlot(getAbsoluteSlot(index));
+  }
+
+  /**
+   * replaces the slot date at the given {@code index} with the slot date with the given {@code
+   * absoluteSlot} number.
+   *
+   * @param index        position of the slot date.
+   * @param absoluteSlot positive absolute slot number.
+   * @throws IndexOutOfBoundsException if the given index is not in this column.
+   * @throws IllegalArgumentException  if the given absolute slot number is negative.
+   */
+  public void set(int index, long absoluteSlot) {
+    checkIndex(index);
+    checkArgument(absoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    putSlot(index, absoluteSlot);
+    sorted = false;
+  }
+
+  /**
+   * removes all slot dates from this column, but keeps the reserved space.
+   */
+  public void clear() {
+    size = 0;
+    sorted = true;
+  }
+
+  /**
+   * checks whether the slot dates in this column are in ascending order.
+   *
+   * @return {@code true}, if the slot dates are sorted, otherwise {@code false}.
+   */
+  public boolean isSorted() {
+    if (!sorted) {
+      sorted = true;
+      for (int i = 1; i < size && sorted; i++) {
+        sorted = slotAt(i - 1) <= slotAt(i);
+      }
+    }
+    return sorted;
+  }
+
+  /**
+   * sorts the slot dates in this column in ascending order.
+   *
+   * @return this column.
+   */
+  public SlotDateColumn sort() {
+    if (!isSorted()) {
+      LongBuffer first = chunks[0];
+      if (first.hasArray()) {
+        Arrays.sort(first.array(), first.arrayOffset(), first.arrayOffset() + size);
+      } else {
+        heapSort();
+      }
+      sorted = true;
+    }
+    return this;
+  }
+
+  /**
+   * sorts the values of this column in place without allocating memory.
+   */
+  private void heapSort() {
+    for (int i = size / 2 - 1; i >= 0; i--) {
+      siftDown(i, size);
+    }
+    for (int end = size - 1; end > 0; end--) {
+      long max = slotAt(0);
+      putSlot(0, slotAt(end));
+      putSlot(end, max);
+      siftDown(0, end);
+    }
+  }
+
+  private void siftDown(int node, int size) {
+    long value = slotAt(node);
+    int child;
+    while ((child = 2 * node + 1) < size && child > 0) {
+      if (child + 1 < size && slotAt(child + 1) > slotAt(child)) {
+        child++;
+      }
+      long childValue = slotAt(child);
+      if (childValue <= value) {
+        break;
+      }
+      putSlot(node, childValue);
+      node = child;
+    }
+    putSlot(node, value);
+  }
+
+  /**
+   * searches the slot date with the given {@code absoluteSlot} number in this column, which must
+   * be sorted. If the column contains the slot date more than once, the position of the first
+   * occurrence is returned.
+   *
+   * @param absoluteSlot absolute slot number of the slot date that shall be searched.
+   * @return the position of the slot date, if it is contained, otherwise {@code (-(insertion
+   * point) - 1)} like {@link Arrays#binarySearch(long[], long)}.
+   * @throws IllegalStateException if this column is not sorted.
+   */
+  public int binarySearch(long absoluteSlot) {
+    if (!isSorted()) {
+      throw new IllegalStateException("The column must be sorted for a binary search.");
+    }
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (slotAt(mid) < absoluteSlot) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low < size && slotAt(low) == absoluteSlot ? low : -(low + 1);
+  }
+
+  /**
+   * searches the given slot {@code date} in this column, which must be sorted.
+   *
+   * @param date {@link CompleteSlotDate} that shall be searched.
+   * @return the position of the slot date, if it is contained, otherwise {@code (-(insertion
+   * point) - 1)}.
+   * @throws IllegalArgumentException if the given date is {@code null}, or has another time
+   *                                  setting than this column.
+   * @throws IllegalStateException    if this column is not sorted.
+   * @see #binarySearch(long)
+   */
+  public int binarySearch(CompleteSlotDate date) {
+    checkArgument(date != null, "The given slot date must not be null.");
+    checkArgument(setting.equals(date.getTimeSetting()),
+        "The given slot date must have the time setting of this column.");
+    try {
+      return binarySearch(date.getAbsoluteSlotExact());
+    } catch (ArithmeticException e) {
+      if (!isSorted()) {
+        throw new IllegalStateException("The column must be sorted for a binary search.");
+      }
+      return -(size + 1);
+    }
+  }
+
+  /**
+   * computes the start times of all slot dates in this column in bulk, and writes them in
+   * milliseconds since the epoch 1970-01-01T00:00:00Z into the given {@code epochMillis} array.
+   * Start times with a sub-millisecond precision are rounded down to the millisecond.
+   *
+   * @param epochMillis target array for the start times, which must be at least as long as this
+   *                    column.
+   * @throws IllegalArgumentException if the given array is {@code null} or too short.
+   * @throws ArithmeticException      if a start time cannot be represented in milliseconds since
+   *                                  the epoch.
+   */
+  public void getStartTimes(long[] epochMillis) {
+    checkArgument(epochMillis != null && epochMillis.length >= size,
+        "The given target array must not be null or shorter than the column.");
+    LongBuffer target = LongBuffer.wrap(epochMillis);
+    for (int index = 0; index < size; ) {
+      LongBuffer source = segment(index, size);
+      index += source.remaining();
+      setting.getStartTimesFor(source, target);
+    }
+  }
+
+  /**
+   * copies the absolute slot numbers of this column into a new array.
+   *
+   * @return a new array with the absolute slot numbers of this column.
+   */
+  public long[] toArray() {
+    long[] array = new long[size];
+    for (int index = 0; index < size; ) {
+      LongBuffer source = segment(index, size);
+      int count = source.remaining();
+      source.get(array, index, count);
+      index += count;
+    }
+    return array;
+  }
+
+  /**
+   * gets an unmodifiable list view over the slot dates of this column, whose elements are created
+   * on access. The view reflects later changes of this column.
+   *
+   * @return an unmodifiable {@link List} view over the slot dates of this column.
+   */
+  public List<CompleteSlotDate> asList() {
+    return new SlotDateList();
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("The given index must be between 0 and " + size);
+    }
+  }
+
+  /**
+   * An unmodifiable list view over the slot dates of a column.
+   */
+  private final class SlotDateList extends AbstractList<CompleteSlotDate> implements
+      RandomAccess {
+
+    @Override
+    public CompleteSlotDate get(int index) {
+      return SlotDateColumn.this.get(index);
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  }
+}
@@ -2,10 +2,12 @@ package com.outofbits.staking.cardano.time;
 
 import java.math.BigInteger;
 
-import static com.google.common.base.Preconditions.checkArgument;
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
 
 /**
- * A factory for creating instances of {@link PlainSlotDate}.
+ * A factory for creating instances of {@link PlainSlotDate}. Slot dates with an epoch and slot
+ * number that fit into a {@code long} are backed by primitive values, and only bigger numbers
+ * fall back to a {@link BigInteger} representation.
  *
  * @author Kevin Haller
  * @version 1.0.0
@@ -13,6 +15,17 @@ import static com.google.common.base.Preconditions.checkArgument;
  */
 public final class SlotDateFactory {
 
+  /**
+   * name of the system property with which the capacity of the cache for recently created slot
+   * dates can be configured. A capacity of zero or less disables the cache, and a capacity above
+   * 2^30 is reduced to 2^30.
+   */
+  public static final String CACHE_CAPACITY_PROPERTY =
+      "com.outofbits.staking.cardano.time.cacheCapacity";
+
+  private static final SlotDateCache CACHE = cacheOf(
+      Integer.getInteger(CACHE_CAPACITY_PROPERTY, 4096));
+
   /**
    * creates a new {@link PlainSlotDate} with the given {@code epoch} and {@code slot} number. Both
    * of those numbers must be positive or zero, or otherwise an {@link IllegalArgumentException}
@@ -29,9 +42,28 @@ public final class SlotDateFactory {
         "The given epoch number must not be null or negative.");
     checkArgument(slot != null && slot.compareTo(BigInteger.ZERO) >= 0,
         "The given slot number must not be null or negative.");
+    if (epoch.bitLength() < Long.SIZE && slot.bitLength() < Long.SIZE) {
+      return new CompactPlainSlotDateImpl(epoch.longValue(), slot.longValue());
+    }
     return new PlainSlotDateImpl(epoch, slot);
   }
 
+  /**
+   * creates a new {@link PlainSlotDate} with the given {@code epoch} and {@code slot} number. Both
+   * of those numbers must be positive or zero, or otherwise an {@link IllegalArgumentException}
+   * will be thrown.
+   *
+   * @param epoch positive epoch number of the {@link PlainSlotDate}.
+   * @param slot  positive slot number of the {@link PlainSlotDate}.
+   * @return {@link PlainSlotDate} for the given {@code epoch} and {@code slot} number.
+   * @throws IllegalArgumentException if the {@code epoch} or {@code slot} number was negative.
+   */
+  public static PlainSlotDate plainInstance(long epoch, long slot) {
+    checkArgument(epoch >= 0, "The given epoch number must not be negative.");
+    checkArgument(slot >= 0, "The given slot number must not be negative.");
+    return new CompactPlainSlotDateImpl(epoch, slot);
+  }
+
   /**
    * creates a new {@link CompleteSlotDate} with the given {@code epoch} and {@code slot} number as
    * well as the {@code setting} ({@link TimeSetting}). Both of those numbers must be positive or
@@ -48,10 +80,138 @@ public final class SlotDateFactory {
    */
   public static CompleteSlotDate completeInstance(BigInteger epoch, BigInteger slot,
       TimeSetting setting) {
+    if (Instrumentation.ENABLED) {
+      return Instrumentation.timed(TimeOperation.COMPLETE_INSTANCE,
+          () -> createCompleteInstance(epoch, slot, setting));
+    }
+    return createCompleteInstance(epoch, slot, setting);
+  }
+
+  private static CompleteSlotDate createCompleteInstance(BigInteger epoch, BigInteger slot,
+      TimeSetting setting) {
     checkArgument(setting != null, "The given time setting must not be null.");
     PlainSlotDate plainSlotDate = plainInstance(epoch, slot);
     checkArgument(setting.valid(plainSlotDate),
         "The given slot date must be valid for the given time setting.");
     return new CompleteSlotDateImpl(plainSlotDate, setting);
   }
+
+  /**
+   * creates a new {@link CompleteSlotDate} with the given {@code epoch} and {@code slot} number as
+   * well as the {@code setting} ({@link TimeSetting}). Both of those numbers must be positive or
+   * zero, or otherwise an {@link IllegalArgumentException} will be thrown. Moreover, the slot
+   * number must be valid for the given {@code setting}.
+   *
+   * @param epoch   positive epoch number of the {@link CompleteSlotDate}.
+   * @param slot    positive slot number of the {@link CompleteSlotDate}.
+   * @param setting {@link TimeSetting} of the block chain.
+   * @return {@link CompleteSlotDate} for the given details.
+   * @throws IllegalArgumentException if the {@code epoch} or {@code slot} number was negative.
+   *                                  Moreover, if the given {@code setting} is {@code null}.
+   */
+  public static CompleteSlotDate completeInstance(long epoch, long slot, TimeSetting setting) {
+    if (Instrumentation.ENABLED) {
+      return Instrumentation.timed(TimeOperation.COMPLETE_INSTANCE,
+          () -> createCompleteInstance(epoch, slot, setting));
+    }
+    return createCompleteInstance(epoch, slot, setting);
+  }
+
+  private static CompleteSlotDate createCompleteInstance(long epoch, long slot,
+      TimeSetting setting) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    PlainSlotDate plainSlotDate = plainInstance(epoch, slot);
+    checkArgument(setting.valid(plainSlotDate),
+        "The given slot date must be valid for the given time setting.");
+    return new CompleteSlotDateImpl(plainSlotDate, setting);
+  }
+
+  /**
+   * creates the {@link CompleteSlotDate}s for the rows of the given {@code epochs} and {@code
+   * slots} columns as well as the {@code setting} ({@link TimeSetting}) in bulk. The rows are
+   * validated in parallel in the common fork-join pool, and a row that is not valid for the given
+   * {@code setting} does not abort the creation of the others, but is marked in the bitmap of
+   * invalid rows of the returned {@link SlotDateBatch}. The slot dates are kept as a primitive
+   * column of absolute slot numbers, and are only materialized on access.
+   *
+   * @param epochs  column of epoch numbers.
+   * @param slots   column of slot numbers, which must have the same length as the epoch numbers.
+   * @param setting {@link TimeSetting} of the block chain.
+   * @return {@link SlotDateBatch} with the slot dates and the invalid rows.
+   * @throws IllegalArgumentException if one of the given columns or the given {@code setting} is
+   *                                  {@code null}, or the columns have different lengths.
+   */
+  public static SlotDateBatch completeInstances(long[] epochs, long[] slots,
+      TimeSetting setting) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(epochs != null && slots != null && epochs.length == slots.length,
+        "The given epoch and slot numbers must not be null and must have the same length.");
+    return SlotDateBatch.validate(epochs, slots, setting);
+  }
+
+  /**
+   * gets a {@link CompleteSlotDate} with the given {@code epoch} and {@code slot} number as well as
+   * the {@code setting} ({@link TimeSetting}) from a bounded cache of recently requested slot
+   * dates, or creates a new one, if it isn't cached. The returned slot date is equivalent to the
+   * one returned by {@link #completeInstance(long, long, TimeSetting)}, but frequently requested
+   * slot dates (e.g. of the current epoch) are not created over and over again. The capacity of
+   * the cache can be configured with the system property {@link #CACHE_CAPACITY_PROPERTY}.
+   *
+   * @param epoch   positive epoch number of the {@link CompleteSlotDate}.
+   * @param slot    positive slot number of the {@link CompleteSlotDate}.
+   * @param setting {@link TimeSetting} of the block chain.
+   * @return {@link CompleteSlotDate} for the given details.
+   * @throws IllegalArgumentException if the {@code epoch} or {@code slot} number was negative, the
+   *                                  slot date is not valid for the given {@code setting}, or the
+   *                                  given {@code setting} is {@code null}.
+   * @throws ArithmeticException      if the absolute slot number of the slot date does not fit
+   *                                  into a {@code long}.
+   */
+  public static CompleteSlotDate cachedCompleteInstance(long epoch, long slot,
+      TimeSetting setting) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(epoch >= 0, "The given epoch number must not be negative.");
+    checkArgument(slot >= 0, "The given slot number must not be negative.");
+    checkArgument(setting.valid(epoch, slot),
+        "The given slot date must be valid for the given time setting.");
+    return cached(setting.absoluteSlotOf(epoch, slot), setting);
+  }
+
+  /**
+   * gets a {@link CompleteSlotDate} with the given {@code absoluteSlot} number and the {@code
+   * setting} ({@link TimeSetting}) from a bounded cache of recently requested slot dates, or
+   * creates a new one, if it isn't cached.
+   *
+   * @param absoluteSlot positive absolute slot number of the {@link CompleteSlotDate}.
+   * @param setting      {@link TimeSetting} of the block chain.
+   * @return {@link CompleteSlotDate} for the given details.
+   * @throws IllegalArgumentException if the {@code absoluteSlot} number was negative, or the given
+   *                                  {@code setting} is {@code null}.
+   * @see #cachedCompleteInstance(long, long, TimeSetting)
+   */
+  public static CompleteSlotDate cachedCompleteInstance(long absoluteSlot, TimeSetting setting) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(absoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    return cached(absoluteSlot, setting);
+  }
+
+  private static CompleteSlotDate cached(long absoluteSlot, TimeSetting setting) {
+    if (CACHE == null) {
+      return setting.getSlotDateForAbsoluteSlot(absoluteSlot);
+    }
+    return CACHE.get(absoluteSlot, setting);
+  }
+
+  /**
+   * creates the cache with the given {@code capacity}, which is limited to the maximum capacity of
+   * a cache.
+   *
+   * @return the cache, or {@code null}, if the given capacity is not positive.
+   */
+  static SlotDateCache cacheOf(int capacity) {
+    if (capacity <= 0) {
+      return null;
+    }
+    return new SlotDateCache(Math.min(capacity, SlotDateCache.MAX_CAPACITY));
+  }
 }
@@ -0,0 +1,209 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+/**
+ * A slot index is an immutable, sorted collection of absolute slot numbers (e.g. of the blocks of a
+ * block chain) with optional payload columns (e.g. block sizes or fees). The slot numbers and
+ * payloads are stored in primitive arrays, and hence the index holds no object per element. Range
+ * queries such as "all entries in epoch N" or "first entry after slot X" are answered with a binary
+ * search and return positions in this index.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotIndex {
+
+  private final TimeSetting setting;
+  private final long[] absoluteSlots;
+  private final long[][] payloadColumns;
+
+  private SlotIndex(TimeSetting setting, long[] absoluteSlots, long[][] payloadColumns) {
+    this.setting = setting;
+    this.absoluteSlots = absoluteSlots;
+    this.payloadColumns = payloadColumns;
+  }
+
+  /**
+   * creates a new {@link SlotIndex} for the given {@code absoluteSlots} numbers and the given
+   * {@code payloadColumns}. The i-th value of each payload column belongs to the i-th absolute slot
+   * number. The given arrays are copied and sorted by the absolute slot number, whereby entries
+   * with the same slot number keep their order.
+   *
+   * @param setting        {@link TimeSetting} of the block chain.
+   * @param absoluteSlots  positive absolute slot numbers in any order.
+   * @param payloadColumns optional payload columns, which must have the same length as the given
+   *                       {@code absoluteSlots}.
+   * @return {@link SlotIndex} for the given details.
+   * @throws IllegalArgumentException if one of the arguments is {@code null}, an absolute slot
+   *                                  number is negative, or a payload column does not have the
+   *                                  same length as the absolute slot numbers.
+   */
+  public static SlotIndex of(TimeSetting setting, long[] absoluteSlots, long[]... payloadColumns) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(absoluteSlots != null, "The given absolute slot numbers must not be null.");
+    checkArgument(payloadColumns != null, "The given payload columns must not be null.");
+    for (long absoluteSlot : absoluteSlots) {
+      checkArgument(absoluteSlot >= 0, "The given absolute slot numbers must not be negative.");
+    }
+    for (long[] payloadColumn : payloadColumns) {
+      checkArgument(payloadColumn != null && payloadColumn.length == absoluteSlots.length,
+          "The given payload columns must not be null and must match the absolute slot numbers.");
+    }
+    long[][] sortedPayloadColumns = new long[payloadColumns.length][];
+    if (SlotArrays.isSorted(absoluteSlots)) {
+      for (int i = 0; i < payloadColumns.length; i++) {
+        sortedPayloadColumns[i] = payloadColumns[i].clone();
+      }
+      return new SlotIndex(setting, absoluteSlots.clone(), sortedPayloadColumns);
+    }
+    int[] permutation = SlotArrays.sortedPermutation(absoluteSlots);
+    for (int i = 0; i < payloadColumns.length; i++) {
+      sortedPayloadColumns[i] = SlotArrays.permute(payloadColumns[i], permutation);
+    }
+    return new SlotIndex(setting, SlotArrays.permute(absoluteSlots, permutation),
+        sortedPayloadColumns);
+  }
+
+  /**
+   * gets the {@link TimeSetting} of this index.
+   *
+   * @return the {@link TimeSetting} of this index.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * gets the number of entries in this index.
+   *
+   * @return the number of entries in this index.
+   */
+  public int size() {
+    return absoluteSlots.length;
+  }
+
+  /**
+   * gets the number of payload columns of this index.
+   *
+   * @return the number of payload columns of this index.
+   */
+  public int getPayloadColumnCount() {
+    return payloadColumns.length;
+  }
+
+  /**
+   * gets the absolute slot number of the entry at the given {@code index}.
+   *
+   * @param index position of the entry in this index.
+   * @return the absolute slot number of the entry at the given {@code index}.
+   * @throws IndexOutOfBoundsException if there is no entry at the given {@code index}.
+   */
+  public long getAbsoluteSlot(int index) {
+    return absoluteSlots[index];
+  }
+
+  /**
+   * gets the value of the given payload {@code column} of the entry at the given {@code index}.
+   *
+   * @param column position of the payload column.
+   * @param index  position of the entry in this index.
+   * @return the value of the given payload {@code column} of the entry at the given {@code index}.
+   * @throws IndexOutOfBoundsException if there is no such column or entry.
+   */
+  public long getPayload(int column, int index) {
+    return payloadColumns[column][index];
+  }
+
+  /**
+   * gets the {@link CompleteSlotDate} of the entry at the given {@code index}.
+   *
+   * @param index position of the entry in this index.
+   * @return the {@link CompleteSlotDate} of the entry at the given {@code index}.
+   * @throws IndexOutOfBoundsException if there is no entry at the given {@code index}.
+   */
+  public CompleteSlotDate getSlotDate(int index) {
+    return setting.getSlotDateForAbsoluteSlot(absoluteSlots[index]);
+  }
+
+  /**
+   * gets the position of the first entry with the given {@code absoluteSlot} number.
+   *
+   * @param absoluteSlot absolute slot number for which the entry shall be found.
+   * @return the position of the first entry with the given {@code absoluteSlot} number, or
+   * {@code -1}, if there is no such entry.
+   */
+  public int indexOf(long absoluteSlot) {
+    int index = lowerBound(absoluteSlot);
+    return index < absoluteSlots.length && absoluteSlots[index] == absoluteSlot ? index : -1;
+  }
+
+  /**
+   * gets the position of the first entry that is strictly after the given {@code absoluteSlot}
+   * number.
+   *
+   * @param absoluteSlot absolute slot number after which the first entry shall be found.
+   * @return the position of the first entry that is strictly after the given {@code absoluteSlot}
+   * number, or {@code -1}, if there is no such entry.
+   */
+  public int firstIndexAfter(long absoluteSlot) {
+    int index = upperBound(absoluteSlot);
+    return index < absoluteSlots.length ? index : -1;
+  }
+
+  /**
+   * gets the position of the first entry with an absolute slot number greater than or equal to the
+   * given {@code absoluteSlot} number.
+   *
+   * @param absoluteSlot absolute slot number.
+   * @return the position of the first entry with an absolute slot number greater than or equal to
+   * the given {@code absoluteSlot} number, or {@link #size()}, if there is no such entry.
+   */
+  public int lowerBound(long absoluteSlot) {
+    return SlotArrays.lowerBound(absoluteSlots, 0, absoluteSlots.length, absoluteSlot);
+  }
+
+  /**
+   * gets the position of the first entry with an absolute slot number strictly greater than the
+   * given {@code absoluteSlot} number.
+   *
+   * @param absoluteSlot absolute slot number.
+   * @return the position of the first entry with an absolute slot number strictly greater than the
+   * given {@code absoluteSlot} number, or {@link #size()}, if there is no such entry.
+   */
+  public int upperBound(long absoluteSlot) {
+    return SlotArrays.upperBound(absoluteSlots, 0, absoluteSlots.length, absoluteSlot);
+  }
+
+  /**
+   * gets the position of the first entry in the given {@code epoch}. All entries of the epoch are
+   * between this position (inclusive) and {@link #epochEndIndex(long)} (exclusive).
+   *
+   * @param epoch positive epoch number.
+   * @return the position of the first entry in the given {@code epoch}, or the position at which
+   * such an entry would be, if there is none.
+   * @throws IllegalArgumentException if the given {@code epoch} is negative.
+   */
+  public int epochStartIndex(long epoch) {
+    checkArgument(epoch >= 0, "The given epoch number must not be negative.");
+    try {
+      return lowerBound(setting.absoluteSlotOf(epoch, 0));
+    } catch (ArithmeticException e) {
+      return absoluteSlots.length;
+    }
+  }
+
+  /**
+   * gets the position after the last entry in the given {@code epoch}.
+   *
+   * @param epoch positive epoch number.
+   * @return the position after the last entry in the given {@code epoch}.
+   * @throws IllegalArgumentException if the given {@code epoch} is negative.
+   * @see #epochStartIndex(long)
+   */
+  public int epochEndIndex(long epoch) {
+    checkArgument(epoch >= 0, "The given epoch number must not be negative.");
+    return epoch == Long.MAX_VALUE ? absoluteSlots.length : epochStartIndex(epoch + 1);
+  }
+}
@@ -0,0 +1,186 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+/**
+ * An immutable interval of absolute slot numbers between a start slot (inclusive) and an end slot
+ * (exclusive), like a reward window, a KES period or a maintenance window. In contrast to a
+ * {@link SlotRange}, an interval is a plain value that is not bound to a {@link TimeSetting}, and
+ * it can be indexed for fast containment and overlap queries with a {@link SlotIntervalIndex}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotInterval {
+
+  private final long fromAbsoluteSlot;
+  private final long toAbsoluteSlot;
+
+  private SlotInterval(long fromAbsoluteSlot, long toAbsoluteSlot) {
+    this.fromAbsoluteSlot = fromAbsoluteSlot;
+    this.toAbsoluteSlot = toAbsoluteSlot;
+  }
+
+  /**
+   * creates a new {@link SlotInterval} with all the slots between the given {@code
+   * fromAbsoluteSlot} (inclusive) and {@code toAbsoluteSlot} (exclusive).
+   *
+   * @param fromAbsoluteSlot positive absolute slot number of the first slot in the interval.
+   * @param toAbsoluteSlot   absolute slot number after the last slot in the interval.
+   * @return {@link SlotInterval} for the given details.
+   * @throws IllegalArgumentException if the given {@code fromAbsoluteSlot} is negative, or it is
+   *                                  after the given {@code toAbsoluteSlot}.
+   */
+  public static SlotInterval of(long fromAbsoluteSlot, long toAbsoluteSlot) {
+    checkArgument(fromAbsoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    checkArgument(fromAbsoluteSlot <= toAbsoluteSlot,
+        "The start of the interval must not be after its end.");
+    return new SlotInterval(fromAbsoluteSlot, toAbsoluteSlot);
+  }
+
+  /**
+   * creates a new {@link SlotInterval} with all the slots between the given {@code from}
+   * (inclusive) and {@code to} (exclusive) slot dates.
+   *
+   * @param from {@link CompleteSlotDate} of the first slot in the interval.
+   * @param to   {@link CompleteSlotDate} of the slot after the last slot in the interval.
+   * @return {@link SlotInterval} for the given details.
+   * @throws IllegalArgumentException if one of the given dates is null, their absolute slot
+   *                                  numbers do not fit into a {@code long}, or {@code from} is
+   *                                  after {@code to}.
+   */
+  public static SlotInterval of(CompleteSlotDate from, CompleteSlotDate to) {
+    checkArgument(from != null && to != null, "The given slot dates must not be null.");
+    try {
+      return of(from.getAbsoluteSlotExact(), to.getAbsoluteSlotExact());
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException(
+          "The absolute slot numbers of the given slot dates must fit into a long.", e);
+    }
+  }
+
+  /**
+   * creates a new {@link SlotInterval} with all the slots of the given {@code epoch}.
+   *
+   * @param setting {@link TimeSetting} of the block chain.
+   * @param epoch   positive epoch number.
+   * @return {@link SlotInterval} for the given epoch.
+   * @throws IllegalArgumentException if the given {@code setting} is {@code null}, the given
+   *                                  {@code epoch} is negative, or the absolute slot numbers of
+   *                                  the epoch do not fit into a {@code long}.
+   */
+  public static SlotInterval ofEpoch(TimeSetting setting, long epoch) {
+    SlotRange range = SlotRange.ofEpochs(setting, epoch, epoch);
+    return new SlotInterval(range.getFromAbsoluteSlot(), range.getToAbsoluteSlot());
+  }
+
+  /**
+   * gets the absolute slot number of the first slot in this interval.
+   *
+   * @return the absolute slot number of the first slot in this interval.
+   */
+  public long getFromAbsoluteSlot() {
+    return fromAbsoluteSlot;
+  }
+
+  /**
+   * gets the absolute slot number after the last slot in this interval.
+   *
+   * @return the absolute slot number after the last slot in this interval.
+   */
+  public long getToAbsoluteSlot() {
+    return toAbsoluteSlot;
+  }
+
+  /**
+   * gets the number of slots in this interval.
+   *
+   * @return the number of slots in this interval.
+   */
+  public long size() {
+    return toAbsoluteSlot - fromAbsoluteSlot;
+  }
+
+  /**
+   * checks whether this interval contains no slot.
+   *
+   * @return {@code true}, if this interval is empty, otherwise {@code false}.
+   */
+  public boolean isEmpty() {
+    return fromAbsoluteSlot == toAbsoluteSlot;
+  }
+
+  /**
+   * checks whether the slot with the given {@code absoluteSlot} number is in this interval.
+   *
+   * @param absoluteSlot absolute slot number that shall be checked.
+   * @return {@code true}, if the slot is in this interval, otherwise {@code false}.
+   */
+  public boolean contains(long absoluteSlot) {
+    return absoluteSlot >= fromAbsoluteSlot && absoluteSlot < toAbsoluteSlot;
+  }
+
+  /**
+   * checks whether all slots of the given {@code other} interval are in this interval.
+   *
+   * @param other {@link SlotInterval} that shall be checked.
+   * @return {@code true}, if the given interval is in this interval, otherwise {@code false}.
+   */
+  public boolean contains(SlotInterval other) {
+    return other.fromAbsoluteSlot >= fromAbsoluteSlot && other.toAbsoluteSlot <= toAbsoluteSlot;
+  }
+
+  /**
+   * checks whether this interval and the given {@code other} interval have at least one slot in
+   * common. Empty intervals never overlap with anything.
+   *
+   * @param other {@link SlotInterval} that shall be checked.
+   * @return {@code true}, if the intervals overlap, otherwise {@code false}.
+   */
+  public boolean overlaps(SlotInterval other) {
+    return overlaps(other.fromAbsoluteSlot, other.toAbsoluteSlot);
+  }
+
+  /**
+   * checks whether this interval has at least one slot in common with the slots between the given
+   * {@code fromAbsoluteSlot} (inclusive) and {@code toAbsoluteSlot} (exclusive). Empty intervals
+   * never overlap with anything.
+   *
+   * @param fromAbsoluteSlot absolute slot number of the first slot.
+   * @param toAbsoluteSlot   absolute slot number after the last slot.
+   * @return {@code true}, if the slots overlap with this interval, otherwise {@code false}.
+   */
+  public boolean overlaps(long fromAbsoluteSlot, long toAbsoluteSlot) {
+    return this.fromAbsoluteSlot < toAbsoluteSlot && fromAbsoluteSlot < this.toAbsoluteSlot
+        && fromAbsoluteSlot < toAbsoluteSlot && !isEmpty();
+  }
+
+  /**
+   * gets a {@link SlotRange} over the slots of this interval for the given {@link TimeSetting}.
+   *
+   * @param setting {@link TimeSetting} of the block chain.
+   * @return {@link SlotRange} over the slots of this interval.
+   * @throws IllegalArgumentException if the given {@code setting} is {@code null}.
+   */
+  public SlotRange toRange(TimeSetting setting) {
+    return SlotRange.of(setting, fromAbsoluteSlot, toAbsoluteSlot);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SlotInterval)) {
+      return false;
+    }
+    SlotInterval that = (SlotInterval) o;
+    return fromAbsoluteSlot == that.fromAbsoluteSlot && toAbsoluteSlot == that.toAbsoluteSlot;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(fromAbsoluteSlot) + Long.hashCode(toAbsoluteSlot);
+  }
+}
@@ -0,0 +1,293 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable index over {@link SlotInterval}s, which answers which intervals contain a given
+ * slot and which intervals overlap a given range of slots in {@code O(log n + k)} time, whereby
+ * {@code k} is the number of reported intervals. Intervals are reported by their position in the
+ * list from which the index has been created.
+ * <p/>
+ * The intervals are kept in primitive arrays sorted by their start slot, which are interpreted as
+ * an implicit balanced binary search tree. Each node of the tree is augmented with the greatest
+ * end slot in its subtree, such that subtrees without an overlapping interval can be skipped.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotIntervalIndex {
+
+  private static final int SCAN_LEVEL = 3;
+
+  private final long[] starts;
+  private final long[] ends;
+  private final long[] maxEnds;
+  private final int[] ids;
+  private final int[] positions;
+  private final int maxLevel;
+
+  private SlotIntervalIndex(long[] starts, long[] ends, int[] ids) {
+    this.starts = starts;
+    this.ends = ends;
+    this.ids = ids;
+    this.positions = new int[ids.length];
+    for (int i = 0; i < ids.length; i++) {
+      positions[ids[i]] = i;
+    }
+    this.maxEnds = ends.clone();
+    this.maxLevel = augment(starts.length, ends, maxEnds);
+  }
+
+  /**
+   * creates a new {@link SlotIntervalIndex} over the given {@code intervals}.
+   *
+   * @param intervals {@link List} of {@link SlotInterval}s that shall be indexed.
+   * @return the new {@link SlotIntervalIndex}.
+   * @throws IllegalArgumentException if the given list is null, or contains null.
+   */
+  public static SlotIntervalIndex of(List<SlotInterval> intervals) {
+    checkArgument(intervals != null, "The given list of intervals must not be null.");
+    long[] starts = new long[intervals.size()];
+    long[] ends = new long[intervals.size()];
+    for (int i = 0; i < starts.length; i++) {
+      SlotInterval interval = intervals.get(i);
+      checkArgument(interval != null, "The given list of intervals must not contain null.");
+      starts[i] = interval.getFromAbsoluteSlot();
+      ends[i] = interval.getToAbsoluteSlot();
+    }
+    return sorted(starts, ends);
+  }
+
+  /**
+   * creates a new {@link SlotIntervalIndex} over the intervals between the i-th of the given
+   * {@code fromAbsoluteSlots} (inclusive) and the i-th of the given {@code toAbsoluteSlots}
+   * (exclusive). The given arrays are not modified.
+   *
+   * @param fromAbsoluteSlots positive absolute slot numbers of the first slots of the intervals.
+   * @param toAbsoluteSlots   absolute slot numbers after the last slots of the intervals.
+   * @return the new {@link SlotIntervalIndex}.
+   * @throws IllegalArgumentException if the given arrays are null, have different lengths, or
+   *                                  describe an invalid interval.
+   */
+  public static SlotIntervalIndex of(long[] fromAbsoluteSlots, long[] toAbsoluteSlots) {
+    checkArgument(fromAbsoluteSlots != null && toAbsoluteSlots != null
+            && fromAbsoluteSlots.length == toAbsoluteSlots.length,
+        "The given arrays must not be null and must have the same length.");
+    for (int i = 0; i < fromAbsoluteSlots.length; i++) {
+      checkArgument(fromAbsoluteSlots[i] >= 0 && fromAbsoluteSlots[i] <= toAbsoluteSlots[i],
+          "The interval at position %s must have a positive start that is not after its end.", i);
+    }
+    return sorted(fromAbsoluteSlots.clone(), toAbsoluteSlots.clone());
+  }
+
+  private static SlotIntervalIndex sorted(long[] starts, long[] ends) {
+    int[] ids = SlotArrays.sortedPermutation(starts);
+    return new SlotIntervalIndex(SlotArrays.permute(starts, ids), SlotArrays.permute(ends, ids),
+        ids);
+  }
+
+  /**
+   * computes the greatest end in the subtree of each node of the implicit tree over the sorted
+   * intervals, whereby the node at position {@code i} is on the level that equals the number of
+   * trailing ones of {@code i}. Nodes of an incomplete tree, which would be at positions beyond
+   * the number of intervals, inherit the greatest end of the last interval in their subtree.
+   *
+   * @return the level of the root node.
+   */
+  private static int augment(int size, long[] ends, long[] maxEnds) {
+    if (size == 0) {
+      return 0;
+    }
+    int lastIndex = 0;
+    long lastMax = 0;
+    for (int i = 0; i < size; i += 2) {
+      lastIndex = i;
+      lastMax = ends[i];
+    }
+    int level = 1;
+    for (; 1L << level <= size; level++) {
+      int offset = 1 << (level - 1);
+      long step = (long) offset << 2;
+      for (long i = ((long) offset << 1) - 1; i < size; i += step) {
+        int node = (int) i;
+        long leftMax = maxEnds[node - offset];
+        long rightMax = node + offset < size ? maxEnds[node + offset] : lastMax;
+        maxEnds[node] = Math.max(ends[node], Math.max(leftMax, rightMax));
+      }
+      lastIndex = (lastIndex >> level & 1) != 0 ? lastIndex - offset : lastIndex + offset;
+      if (lastIndex < size && maxEnds[lastIndex] > lastMax) {
+        lastMax = maxEnds[lastIndex];
+      }
+    }
+    return level - 1;
+  }
+
+  /**
+   * gets the number of intervals in this index.
+   *
+   * @return the number of intervals in this index.
+   */
+  public int size() {
+    return starts.length;
+  }
+
+  /**
+   * gets the interval at the given {@code id}, which is its position in the list or arrays from
+   * which this index has been created.
+   *
+   * @param id position of the interval.
+   * @return the {@link SlotInterval} at the given position.
+   * @throws IndexOutOfBoundsException if the given id is not valid.
+   */
+  public SlotInterval get(int id) {
+    if (id < 0 || id >= ids.length) {
+      throw new IndexOutOfBoundsException("The given id must be between 0 and " + ids.length);
+    }
+    return SlotInterval.of(starts[positions[id]], ends[positions[id]]);
+  }
+
+  /**
+   * reports the ids of all intervals that contain the slot with the given {@code absoluteSlot}
+   * number to the given {@code consumer}, in the order of their start slots.
+   *
+   * @param absoluteSlot absolute slot number that shall be contained.
+   * @param consumer     {@link IntConsumer} to which the ids shall be reported.
+   */
+  public void forEachContaining(long absoluteSlot, IntConsumer consumer) {
+    if (absoluteSlot < Long.MAX_VALUE) {
+      forEachOverlapping(absoluteSlot, absoluteSlot + 1, consumer);
+    }
+  }
+
+  /**
+   * reports the ids of all intervals that overlap with the slots between the given {@code
+   * fromAbsoluteSlot} (inclusive) and {@code toAbsoluteSlot} (exclusive) to the given {@code
+   * consumer}. Empty intervals never overlap with anything.
+   *
+   * @param fromAbsoluteSlot absolute slot number of the first slot.
+   * @param toAbsoluteSlot   absolute slot number after the last slot.
+   * @param consumer         {@link IntConsumer} to which the ids shall be reported.
+   * @throws IllegalArgumentException if the given consumer is null.
+   */
+  public void forEachOverlapping(long fromAbsoluteSlot, long toAbsoluteSlot,
+      IntConsumer consumer) {
+    checkArgument(consumer != null, "The given consumer must not be null.");
+    int size = starts.length;
+    if (size == 0 || fromAbsoluteSlot >= toAbsoluteSlot) {
+      return;
+    }
+    long[] stack = new long[2 * (maxLevel + 2)];
+    int top = 0;
+    stack[top++] = pack((1L << maxLevel) - 1, maxLevel, false);
+    while (top > 0) {
+      long entry = stack[--top];
+      long node = entry >>> 7;
+      int level = (int) (entry >>> 1 & 0x3F);
+      boolean leftDone = (entry & 1) != 0;
+      if (level <= SCAN_LEVEL) {
+        long first = node >> level << level;
+        long last = Math.min(first + (1L << (level + 1)) - 1, size);
+        for (int i = (int) first; i < last && starts[i] < toAbsoluteSlot; i++) {
+          if (fromAbsoluteSlot < ends[i] && starts[i] < ends[i]) {
+            consumer.accept(ids[i]);
+          }
+        }
+      } else if (!leftDone) {
+        long left = node - (1L << (level - 1));
+        stack[top++] = pack(node, level, true);
+        if (left >= size || maxEnds[(int) left] > fromAbsoluteSlot) {
+          stack[top++] = pack(left, level - 1, false);
+        }
+      } else if (node < size && starts[(int) node] < toAbsoluteSlot) {
+        if (fromAbsoluteSlot < ends[(int) node] && starts[(int) node] < ends[(int) node]) {
+          consumer.accept(ids[(int) node]);
+        }
+        stack[top++] = pack(node + (1L << (level - 1)), level - 1, false);
+      }
+    }
+  }
+
+  private static long pack(long node, int level, boolean leftDone) {
+    return node << 7 | (long) level << 1 | (leftDone ? 1L : 0L);
+  }
+
+  /**
+   * gets the ids of all intervals that contain the slot with the given {@code absoluteSlot}
+   * number, in the order of their start slots.
+   *
+   * @param absoluteSlot absolute slot number that shall be contained.
+   * @return the ids of the intervals containing the given slot.
+   */
+  public int[] containing(long absoluteSlot) {
+    IdCollector collector = new IdCollector();
+    forEachContaining(absoluteSlot, collector);
+    return collector.toArray();
+  }
+
+  /**
+   * gets the ids of all intervals that overlap with the slots between the given {@code
+   * fromAbsoluteSlot} (inclusive) and {@code toAbsoluteSlot} (exclusive).
+   *
+   * @param fromAbsoluteSlot absolute slot number of the first slot.
+   * @param toAbsoluteSlot   absolute slot number after the last slot.
+   * @return the ids of the overlapping intervals.
+   */
+  public int[] overlapping(long fromAbsoluteSlot, long toAbsoluteSlot) {
+    IdCollector collector = new IdCollector();
+    forEachOverlapping(fromAbsoluteSlot, toAbsoluteSlot, collector);
+    return collector.toArray();
+  }
+
+  /**
+   * counts the intervals that overlap with the slots between the given {@code fromAbsoluteSlot}
+   * (inclusive) and {@code toAbsoluteSlot} (exclusive).
+   *
+   * @param fromAbsoluteSlot absolute slot number of the first slot.
+   * @param toAbsoluteSlot   absolute slot number after the last slot.
+   * @return the number of overlapping intervals.
+   */
+  public int countOverlapping(long fromAbsoluteSlot, long toAbsoluteSlot) {
+    Counter counter = new Counter();
+    forEachOverlapping(fromAbsoluteSlot, toAbsoluteSlot, counter);
+    return counter.count;
+  }
+
+  /**
+   * An {@link IntConsumer} that counts the reported ids.
+   */
+  private static final class Counter implements IntConsumer {
+
+    private int count;
+
+    @Override
+    public void accept(int id) {
+      count++;
+    }
+  }
+
+  /**
+   * An {@link IntConsumer} that collects the reported ids in a growing array.
+   */
+  private static final class IdCollector implements IntConsumer {
+
+    private int[] ids = new int[8];
+    private int size;
+
+    @Override
+    public void accept(int id) {
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size << 1);
+      }
+      ids[size++] = id;
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(ids, size);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * The outcomes of comparing an expected slot with the observed slots in a {@link SlotMergeJoin}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum SlotJoinEvent {
+
+  /**
+   * the slot has been expected and observed, e.g. an assigned leader slot with an adopted block.
+   */
+  MATCHED,
+
+  /**
+   * the slot has been expected, but not observed, e.g. an assigned leader slot without a block.
+   */
+  MISSED,
+
+  /**
+   * the slot has been observed, but not expected, e.g. a block in a slot that was not assigned.
+   */
+  UNEXPECTED
+}
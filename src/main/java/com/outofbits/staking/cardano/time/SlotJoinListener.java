@@ -0,0 +1,21 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * A listener to which a {@link SlotMergeJoin} reports the outcome for each slot.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface SlotJoinListener {
+
+  /**
+   * is called for each slot in ascending order of the absolute slot numbers.
+   *
+   * @param event        {@link SlotJoinEvent} of the slot.
+   * @param epoch        epoch number of the slot.
+   * @param absoluteSlot absolute slot number of the slot.
+   */
+  void onSlot(SlotJoinEvent event, long epoch, long absoluteSlot);
+}
@@ -0,0 +1,66 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * The number of matched, missed and unexpected slots of a {@link SlotMergeJoin}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotJoinSummary {
+
+  private final long matchedCount;
+  private final long missedCount;
+  private final long unexpectedCount;
+
+  SlotJoinSummary(long matchedCount, long missedCount, long unexpectedCount) {
+    this.matchedCount = matchedCount;
+    this.missedCount = missedCount;
+    this.unexpectedCount = unexpectedCount;
+  }
+
+  /**
+   * gets the number of slots that have been expected and observed.
+   *
+   * @return the number of matched slots.
+   */
+  public long getMatchedCount() {
+    return matchedCount;
+  }
+
+  /**
+   * gets the number of slots that have been expected, but not observed.
+   *
+   * @return the number of missed slots.
+   */
+  public long getMissedCount() {
+    return missedCount;
+  }
+
+  /**
+   * gets the number of slots that have been observed, but not expected.
+   *
+   * @return the number of unexpected slots.
+   */
+  public long getUnexpectedCount() {
+    return unexpectedCount;
+  }
+
+  /**
+   * gets the number of slots that have been expected.
+   *
+   * @return the number of expected slots.
+   */
+  public long getExpectedCount() {
+    return matchedCount + missedCount;
+  }
+
+  /**
+   * gets the number of slots that have been observed.
+   *
+   * @return the number of observed slots.
+   */
+  public long getObservedCount() {
+    return matchedCount + unexpectedCount;
+  }
+}
@@ -0,0 +1,135 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * A streaming merge-join of expected slots (e.g. the assigned leader slots of a stake pool) with
+ * observed slots (e.g. the slots of the adopted blocks of the pool), which detects missed and
+ * unexpected slots. Both sources must provide absolute slot numbers in strictly ascending order,
+ * and they are joined in a single pass, which only keeps the current slot of each source in
+ * memory. Hence, sources of arbitrary length (like the full history of a block chain) can be
+ * joined in linear time.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotMergeJoin {
+
+  private static final long EXHAUSTED = -1L;
+
+  private SlotMergeJoin() {
+  }
+
+  /**
+   * joins the given {@code expected} slots with the given {@code observed} slots, and reports the
+   * outcome for each slot in ascending order to the given {@code listener}.
+   *
+   * @param setting  {@link TimeSetting} of the slots.
+   * @param expected absolute slot numbers of the expected slots in strictly ascending order.
+   * @param observed absolute slot numbers of the observed slots in strictly ascending order.
+   * @param listener {@link SlotJoinListener} to which the outcomes are reported.
+   * @return {@link SlotJoinSummary} with the number of matched, missed and unexpected slots.
+   * @throws IllegalArgumentException if one of the arguments is {@code null}, or one of the
+   *                                  sources provides a negative absolute slot number or is not
+   *                                  in strictly ascending order. The outcomes for the slots
+   *                                  before this violation have already been reported.
+   */
+  public static SlotJoinSummary join(TimeSetting setting, PrimitiveIterator.OfLong expected,
+      PrimitiveIterator.OfLong observed, SlotJoinListener listener) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(expected != null && observed != null, "The given slot sources must not be null.");
+    checkArgument(listener != null, "The given listener must not be null.");
+    EpochTracker epochs = new EpochTracker(setting);
+    long matched = 0;
+    long missed = 0;
+    long unexpected = 0;
+    long expectedSlot = next(expected, EXHAUSTED);
+    long observedSlot = next(observed, EXHAUSTED);
+    while (expectedSlot != EXHAUSTED || observedSlot != EXHAUSTED) {
+      if (observedSlot == EXHAUSTED
+          || (expectedSlot != EXHAUSTED && expectedSlot < observedSlot)) {
+        listener.onSlot(SlotJoinEvent.MISSED, epochs.epochOf(expectedSlot), expectedSlot);
+        missed++;
+        expectedSlot = next(expected, expectedSlot);
+      } else if (expectedSlot == EXHAUSTED || observedSlot < expectedSlot) {
+        listener.onSlot(SlotJoinEvent.UNEXPECTED, epochs.epochOf(observedSlot), observedSlot);
+        unexpected++;
+        observedSlot = next(observed, observedSlot);
+      } else {
+        listener.onSlot(SlotJoinEvent.MATCHED, epochs.epochOf(expectedSlot), expectedSlot);
+        matched++;
+        expectedSlot = next(expected, expectedSlot);
+        observedSlot = next(observed, observedSlot);
+      }
+    }
+    return new SlotJoinSummary(matched, missed, unexpected);
+  }
+
+  /**
+   * joins the given {@code expected} slots with the given {@code observed} slots, and reports the
+   * outcome for each slot in ascending order to the given {@code listener}.
+   *
+   * @param setting  {@link TimeSetting} of the slots.
+   * @param expected absolute slot numbers of the expected slots in strictly ascending order.
+   * @param observed absolute slot numbers of the observed slots in strictly ascending order.
+   * @param listener {@link SlotJoinListener} to which the outcomes are reported.
+   * @return {@link SlotJoinSummary} with the number of matched, missed and unexpected slots.
+   * @throws IllegalArgumentException if one of the arguments is {@code null}, or one of the
+   *                                  streams provides a negative absolute slot number or is not
+   *                                  in strictly ascending order.
+   * @see #join(TimeSetting, PrimitiveIterator.OfLong, PrimitiveIterator.OfLong, SlotJoinListener)
+   */
+  public static SlotJoinSummary join(TimeSetting setting, LongStream expected,
+      LongStream observed, SlotJoinListener listener) {
+    checkArgument(expected != null && observed != null, "The given slot sources must not be null.");
+    return join(setting, expected.iterator(), observed.iterator(), listener);
+  }
+
+  /**
+   * gets the next absolute slot number of the given {@code source}, which must be strictly after
+   * the given {@code previous} one, or {@link #EXHAUSTED}, if the source has no more slots.
+   */
+  private static long next(PrimitiveIterator.OfLong source, long previous) {
+    if (!source.hasNext()) {
+      return EXHAUSTED;
+    }
+    long absoluteSlot = source.nextLong();
+    checkArgument(absoluteSlot >= 0, "The absolute slot number %s must not be negative.",
+        absoluteSlot);
+    checkArgument(absoluteSlot > previous,
+        "The absolute slot number %s must be strictly after the previous one %s.", absoluteSlot,
+        previous);
+    return absoluteSlot;
+  }
+
+  /**
+   * Remembers the slot bounds of the last epoch, such that the epoch of ascending slots is only
+   * computed, when a slot of another epoch is reached.
+   */
+  private static final class EpochTracker {
+
+    private final TimeSetting setting;
+    private long epoch = -1L;
+    private long firstSlot = Long.MAX_VALUE;
+    private long endSlot = -1L;
+
+    private EpochTracker(TimeSetting setting) {
+      this.setting = setting;
+    }
+
+    private long epochOf(long absoluteSlot) {
+      if (absoluteSlot < firstSlot || absoluteSlot >= endSlot) {
+        epoch = setting.epochOfAbsoluteSlot(absoluteSlot);
+        firstSlot = absoluteSlot - setting.slotOfAbsoluteSlot(absoluteSlot);
+        long slotsPerEpoch = setting.slotsPerEpochOf(epoch);
+        endSlot = firstSlot <= Long.MAX_VALUE - slotsPerEpoch ? firstSlot + slotsPerEpoch
+            : Long.MAX_VALUE;
+      }
+      return epoch;
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A slot range is a lazy, immutable sequence of consecutive slots of a block chain with a specific
+ * {@link TimeSetting}. The {@link CompleteSlotDate}s of the range are only created when they are
+ * iterated, and they skip the validation of the {@link SlotDateFactory}, because they are valid by
+ * construction. The range can be split into balanced parts, and hence its streams can be processed
+ * in parallel.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotRange implements Iterable<CompleteSlotDate> {
+
+  private final TimeSetting setting;
+  private final long fromAbsoluteSlot;
+  private final long toAbsoluteSlot;
+
+  private SlotRange(TimeSetting setting, long fromAbsoluteSlot, long toAbsoluteSlot) {
+    this.setting = setting;
+    this.fromAbsoluteSlot = fromAbsoluteSlot;
+    this.toAbsoluteSlot = toAbsoluteSlot;
+  }
+
+  /**
+   * creates a new {@link SlotRange} with all the slots between the given {@code fromAbsoluteSlot}
+   * (inclusive) and {@code toAbsoluteSlot} (exclusive).
+   *
+   * @param setting          {@link TimeSetting} of the block chain.
+   * @param fromAbsoluteSlot positive absolute slot number of the first slot in the range.
+   * @param toAbsoluteSlot   absolute slot number after the last slot in the range.
+   * @return {@link SlotRange} for the given details.
+   * @throws IllegalArgumentException if the given {@code setting} is {@code null}, the given
+   *                                  {@code fromAbsoluteSlot} is negative, or it is after the given
+   *                                  {@code toAbsoluteSlot}.
+   */
+  public static SlotRange of(TimeSetting setting, long fromAbsoluteSlot, long toAbsoluteSlot) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(fromAbsoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    checkArgument(fromAbsoluteSlot <= toAbsoluteSlot,
+        "The start of the range must not be after its end.");
+    return new SlotRange(setting, fromAbsoluteSlot, toAbsoluteSlot);
+  }
+
+  /**
+   * creates a new {@link SlotRange} with all the slots of the epochs between the given {@code
+   * firstEpoch} and {@code lastEpoch} (both inclusive).
+   *
+   * @param setting    {@link TimeSetting} of the block chain.
+   * @param firstEpoch positive number of the first epoch in the range.
+   * @param lastEpoch  number of the last epoch in the range.
+   * @return {@link SlotRange} for the given details.
+   * @throws IllegalArgumentException if the given {@code setting} is {@code null}, the given
+   *                                  {@code firstEpoch} is negative or after the {@code
+   *                                  lastEpoch}, or the range exceeds the range of absolute slot
+   *                                  numbers that fit into a {@code long}.
+   */
+  public static SlotRange ofEpochs(TimeSetting setting, long firstEpoch, long lastEpoch) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(firstEpoch >= 0, "The given epoch number must not be negative.");
+    checkArgument(firstEpoch <= lastEpoch, "The first epoch must not be after the last epoch.");
+    try {
+      return new SlotRange(setting, setting.absoluteSlotOf(firstEpoch, 0),
+          setting.absoluteSlotOf(Math.addExact(lastEpoch, 1), 0));
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException(
+          "The absolute slot numbers of the given epochs must fit into a long.", e);
+    }
+  }
+
+  /**
+   * gets the {@link TimeSetting} of this range.
+   *
+   * @return the {@link TimeSetting} of this range.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * gets the absolute slot number of the first slot in this range.
+   *
+   * @return the absolute slot number of the first slot in this range.
+   */
+  public long getFromAbsoluteSlot() {
+    return fromAbsoluteSlot;
+  }
+
+  /**
+   * gets the absolute slot number after the last slot in this range.
+   *
+   * @return the absolute slot number after the last slot in this range.
+   */
+  public long getToAbsoluteSlot() {
+    return toAbsoluteSlot;
+  }
+
+  /**
+   * gets the number of slots in this range.
+   *
+   * @return the number of slots in this range.
+   */
+  public long size() {
+    return toAbsoluteSlot - fromAbsoluteSlot;
+  }
+
+  /**
+   * checks whether the slot with the given {@code absoluteSlot} number is in this range.
+   *
+   * @param absoluteSlot absolute slot number that shall be checked.
+   * @return {@code true}, if the slot is in this range, otherwise {@code false}.
+   */
+  public boolean contains(long absoluteSlot) {
+    return absoluteSlot >= fromAbsoluteSlot && absoluteSlot < toAbsoluteSlot;
+  }
+
+  /**
+   * gets a {@link LongStream} of the absolute slot numbers in this range, which can be turned
+   * into a parallel stream with balanced splits.
+   *
+   * @return a sequential {@link LongStream} of the absolute slot numbers in this range.
+   */
+  public LongStream absoluteSlots() {
+    return LongStream.range(fromAbsoluteSlot, toAbsoluteSlot);
+  }
+
+  /**
+   * gets a sequential {@link Stream} of the {@link CompleteSlotDate}s in this range.
+   *
+   * @return a sequential {@link Stream} of the {@link CompleteSlotDate}s in this range.
+   */
+  public Stream<CompleteSlotDate> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * gets a parallel {@link Stream} of the {@link CompleteSlotDate}s in this range.
+   *
+   * @return a parallel {@link Stream} of the {@link CompleteSlotDate}s in this range.
+   */
+  public Stream<CompleteSlotDate> parallelStream() {
+    return StreamSupport.stream(spliterator(), true);
+  }
+
+  @Override
+  public Iterator<CompleteSlotDate> iterator() {
+    return new SlotDateIterator(setting, fromAbsoluteSlot, toAbsoluteSlot);
+  }
+
+  @Override
+  public Spliterator<CompleteSlotDate> spliterator() {
+    return new SlotDateSpliterator(setting, fromAbsoluteSlot, toAbsoluteSlot);
+  }
+
+  /**
+   * walks through consecutive slots of a time setting, and keeps track of the epoch and slot
+   * number such that they don't have to be computed from the absolute slot number for each slot.
+   */
+  private static class SlotDateWalker {
+
+    final TimeSetting setting;
+    long absoluteSlot;
+    final long toAbsoluteSlot;
+    private long epoch;
+    private long slot;
+    private long slotsPerEpoch;
+
+    SlotDateWalker(TimeSetting setting, long fromAbsoluteSlot, long toAbsoluteSlot) {
+      this.setting = setting;
+      this.absoluteSlot = fromAbsoluteSlot;
+      this.toAbsoluteSlot = toAbsoluteSlot;
+      this.epoch = -1;
+    }
+
+    void jumpTo(long absoluteSlot) {
+      this.absoluteSlot = absoluteSlot;
+      this.epoch = -1;
+    }
+
+    CompleteSlotDate next() {
+      if (epoch < 0) {
+        epoch = setting.epochOfAbsoluteSlot(absoluteSlot);
+        slot = setting.slotOfAbsoluteSlot(absoluteSlot);
+        slotsPerEpoch = setting.slotsPerEpochOf(epoch);
+      } else if (++slot == slotsPerEpoch) {
+        epoch++;
+        slot = 0;
+        slotsPerEpoch = setting.slotsPerEpochOf(epoch);
+      }
+      return new CompleteSlotDateImpl(new CompactPlainSlotDateImpl(epoch, slot), setting,
+          absoluteSlot++);
+    }
+  }
+
+  private static final class SlotDateIterator extends SlotDateWalker implements
+      Iterator<CompleteSlotDate> {
+
+    SlotDateIterator(TimeSetting setting, long fromAbsoluteSlot, long toAbsoluteSlot) {
+      super(setting, fromAbsoluteSlot, toAbsoluteSlot);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return absoluteSlot < toAbsoluteSlot;
+    }
+
+    @Override
+    public CompleteSlotDate next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return super.next();
+    }
+  }
+
+  private static final class SlotDateSpliterator extends SlotDateWalker implements
+      Spliterator<CompleteSlotDate> {
+
+    SlotDateSpliterator(TimeSetting setting, long fromAbsoluteSlot, long toAbsoluteSlot) {
+      super(setting, fromAbsoluteSlot, toAbsoluteSlot);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CompleteSlotDate> action) {
+      if (absoluteSlot < toAbsoluteSlot) {
+        action.accept(next());
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super CompleteSlotDate> action) {
+      while (absoluteSlot < toAbsoluteSlot) {
+        action.accept(next());
+      }
+    }
+
+    @Override
+    public Spliterator<CompleteSlotDate> trySplit() {
+      long mid = absoluteSlot + ((toAbsoluteSlot - absoluteSlot) >>> 1);
+      if (mid <= absoluteSlot) {
+        return null;
+      }
+      SlotDateSpliterator prefix = new SlotDateSpliterator(setting, absoluteSlot, mid);
+      jumpTo(mid);
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return toAbsoluteSlot - absoluteSlot;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED | DISTINCT | SORTED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super CompleteSlotDate> getComparator() {
+      return null;
+    }
+  }
+}
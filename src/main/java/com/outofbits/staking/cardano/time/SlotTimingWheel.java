@@ -0,0 +1,478 @@
+package com.outofbits.staking.cardano.time;
+
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
+import static com.outofbits.staking.cardano.time.Preconditions.checkState;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A hierarchical timing wheel, which runs tasks at the start of future slots of a block chain
+ * with a specific {@link TimeSetting}. In contrast to a {@link ScheduledExecutorService}, the
+ * costs of scheduling and cancelling a task do not depend on the number of pending tasks.
+ * <p/>
+ * The wheel has two levels. The slot level is a ring with one bucket per slot, which covers the
+ * slots of the current and the next epoch. Tasks for later slots are kept in one bucket per epoch
+ * on the epoch level, and they are moved to the slot level, as soon as the epoch before theirs
+ * starts. Hence, scheduling and cancelling a task takes constant time, and all tasks of a slot
+ * are fired in one batch in the order in which they have been scheduled.
+ * <p/>
+ * Like a {@link SlotClock}, the wheel sleeps until the start of the next slot, and reads the
+ * (injectable) {@link Clock} each time it wakes up. If an executor is given, the fired tasks are
+ * handed over to it (e.g. one that runs each task in a virtual thread, see {@link
+ * #newVirtualThreadExecutor()}), and otherwise they are run one after another on the single
+ * thread of the wheel. Slots that passed while the wheel wasn't able to run are not skipped, i.e.
+ * their tasks are fired late. A task that throws is reported to the uncaught exception handler of
+ * the thread that fired it, and does not affect the other tasks or the wheel.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SlotTimingWheel implements AutoCloseable {
+
+  private static final int MAX_RING_SIZE = 1 << 24;
+  private static final long RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final TimeSetting setting;
+  private final Clock clock;
+  private final Executor executor;
+  private final Bucket[] ring;
+  private final int mask;
+  private final Map<Long, Bucket> epochBuckets = new HashMap<>();
+
+  private long cursor;
+  private long cursorEpoch;
+  private long nextEpochStart;
+  private long slotLevelEnd;
+  private int slotLevelCount;
+  private int size;
+  private boolean closed;
+  private ScheduledExecutorService scheduler;
+
+  private SlotTimingWheel(TimeSetting setting, Clock clock, Executor executor, int ringSize) {
+    this.setting = setting;
+    this.clock = clock;
+    this.executor = executor;
+    this.ring = new Bucket[ringSize];
+    this.mask = ringSize - 1;
+    long currentSlot = currentSlot(clock.instant());
+    this.cursor = currentSlot < 0 ? 0L : currentSlot + 1;
+    this.cursorEpoch = setting.epochOfAbsoluteSlot(cursor);
+    this.nextEpochStart = firstSlotOf(cursorEpoch + 1);
+    this.slotLevelEnd = firstSlotOf(cursorEpoch + 2);
+  }
+
+  /**
+   * creates a new {@link SlotTimingWheel} for the given {@code setting}, which reads the current
+   * time from the given {@code clock}, and hands the fired tasks over to the given {@code
+   * executor}. The wheel does not fire any task until it has been started with {@link #start()}.
+   *
+   * @param setting  {@link TimeSetting} of the block chain.
+   * @param clock    {@link Clock} from which the current time shall be read.
+   * @param executor {@link Executor} that shall run the fired tasks, or {@code null}, if they
+   *                 shall be run on the thread of the wheel.
+   * @return {@link SlotTimingWheel} for the given details.
+   * @throws IllegalArgumentException if the given {@code setting} or {@code clock} is {@code
+   *                                  null}, or the epochs of the given setting have more than
+   *                                  2^23 slots.
+   */
+  public static SlotTimingWheel create(TimeSetting setting, Clock clock, Executor executor) {
+    checkArgument(setting != null, "The given time setting must not be null.");
+    checkArgument(clock != null, "The given clock must not be null.");
+    long maxSlotsPerEpoch = 1L;
+    for (Era era : setting.getEras()) {
+      maxSlotsPerEpoch = Math.max(maxSlotsPerEpoch, era.getSlotsPerEpoch());
+    }
+    checkArgument(maxSlotsPerEpoch <= MAX_RING_SIZE / 2,
+        "The epochs of the given time setting must not have more than %s slots.",
+        MAX_RING_SIZE / 2);
+    int ringSize = Integer.highestOneBit((int) (2 * maxSlotsPerEpoch - 1)) << 1;
+    return new SlotTimingWheel(setting, clock, executor, ringSize);
+  }
+
+  /**
+   * creates a new {@link SlotTimingWheel} for the given {@code setting}, which reads the current
+   * time from the given {@code clock}, and runs the fired tasks on its own thread.
+   *
+   * @param setting {@link TimeSetting} of the block chain.
+   * @param clock   {@link Clock} from which the current time shall be read.
+   * @return {@link SlotTimingWheel} for the given details.
+   * @throws IllegalArgumentException if the given {@code setting} or {@code clock} is {@code
+   *                                  null}, or the epochs of the given setting have more than
+   *                                  2^23 slots.
+   * @see #create(TimeSetting, Clock, Executor)
+   */
+  public static SlotTimingWheel create(TimeSetting setting, Clock clock) {
+    return create(setting, clock, null);
+  }
+
+  /**
+   * creates a new {@link ExecutorService} that runs each task in a new virtual thread. Virtual
+   * threads are only available on Java 21 and later.
+   *
+   * @return a new {@link ExecutorService} with virtual threads.
+   * @throws UnsupportedOperationException if the running JVM does not support virtual threads.
+   */
+  public static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+      throw new UnsupportedOperationException(
+          "Virtual threads are not supported by the running JVM.", e);
+    }
+  }
+
+  /**
+   * gets the {@link TimeSetting} of this wheel.
+   *
+   * @return the {@link TimeSetting} of this wheel.
+   */
+  public TimeSetting getTimeSetting() {
+    return setting;
+  }
+
+  /**
+   * gets the number of tasks that are scheduled, but have not been fired or cancelled yet.
+   *
+   * @return the number of pending tasks.
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * schedules the given {@code task} at the start of the slot with the given {@code
+   * absoluteSlot} number. If the slot has already started, the task is fired immediately.
+   *
+   * @param absoluteSlot positive absolute slot number.
+   * @param task         {@link Runnable} that shall be run at the start of the slot.
+   * @return {@link ScheduledSlotTask} with which the task can be cancelled.
+   * @throws IllegalArgumentException if the given absolute slot number is negative, or the given
+   *                                  task is {@code null}.
+   * @throws IllegalStateException    if this wheel has been closed.
+   */
+  public ScheduledSlotTask schedule(long absoluteSlot, Runnable task) {
+    checkArgument(absoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    checkArgument(task != null, "The given task must not be null.");
+    ScheduledSlotTask scheduled = new ScheduledSlotTask(this, absoluteSlot, task);
+    synchronized (this) {
+      checkState(!closed, "The timing wheel has already been closed.");
+      if (absoluteSlot >= cursor) {
+        insert(scheduled);
+        size++;
+        return scheduled;
+      }
+      scheduled.state = ScheduledSlotTask.FIRED;
+    }
+    fire(scheduled);
+    return scheduled;
+  }
+
+  /**
+   * schedules the given {@code task} at the start of the given slot {@code date}.
+   *
+   * @param date {@link CompleteSlotDate} of the slot.
+   * @param task {@link Runnable} that shall be run at the start of the slot.
+   * @return {@link ScheduledSlotTask} with which the task can be cancelled.
+   * @throws IllegalArgumentException if the given date is {@code null}, has another time setting
+   *                                  than this wheel, or the given task is {@code null}.
+   * @throws IllegalStateException    if this wheel has been closed.
+   * @see #schedule(long, Runnable)
+   */
+  public ScheduledSlotTask schedule(CompleteSlotDate date, Runnable task) {
+    checkArgument(date != null, "The given slot date must not be null.");
+    checkArgument(setting.equals(date.getTimeSetting()),
+        "The given slot date must have the time setting of this wheel.");
+    long absoluteSlot;
+    try {
+      absoluteSlot = date.getAbsoluteSlotExact();
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException(
+          "The absolute slot number of the given slot date must fit into a long.", e);
+    }
+    return schedule(absoluteSlot, task);
+  }
+
+  /**
+   * starts this wheel on its own scheduler thread.
+   *
+   * @throws IllegalStateException if this wheel has already been started or closed.
+   */
+  public synchronized void start() {
+    checkState(scheduler == null && !closed, "The timing wheel has already been started.");
+    scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "slot-timing-wheel");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.execute(this::run);
+  }
+
+  /**
+   * stops this wheel, if it has been started. Pending tasks are not fired anymore afterwards.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  /**
+   * ticks this wheel, and schedules the next run. If the tick fails, the failure is reported to
+   * the uncaught exception handler of the scheduler thread, and the tick is retried shortly after,
+   * such that the wheel never stops silently.
+   */
+  private void run() {
+    long delayNanos = RETRY_DELAY_NANOS;
+    try {
+      delayNanos = tick();
+    } catch (Throwable e) {
+      report(e);
+    }
+    try {
+      scheduler.schedule(this::run, delayNanos, TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      // the timing wheel has been closed in the meantime.
+    }
+  }
+
+  /**
+   * reads the current time, fires the tasks of all slots that started since the last tick, and
+   * computes the time until the next slot starts.
+   *
+   * @return the number of nanoseconds until the next slot starts.
+   */
+  long tick() {
+    Instant now = clock.instant();
+    long offsetNanos;
+    try {
+      offsetNanos = setting.offsetNanosOf(now);
+    } catch (ArithmeticException e) {
+      offsetNanos = Long.MAX_VALUE;
+    }
+    if (offsetNanos < 0) {
+      return -offsetNanos;
+    }
+    long currentSlot = setting.absoluteSlotOfOffsetNanos(offsetNanos);
+    ScheduledSlotTask fired;
+    synchronized (this) {
+      if (closed) {
+        return Long.MAX_VALUE;
+      }
+      fired = advanceTo(currentSlot);
+    }
+    for (ScheduledSlotTask task = fired; task != null; ) {
+      ScheduledSlotTask next = task.next;
+      task.next = null;
+      fire(task);
+      task = next;
+    }
+    try {
+      return Math.max(0L, setting.startOffsetNanosOf(currentSlot + 1) - offsetNanos);
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * cancels the given {@code task}, if it is still pending.
+   */
+  synchronized boolean cancel(ScheduledSlotTask task) {
+    if (task.state != ScheduledSlotTask.PENDING) {
+      return false;
+    }
+    Bucket bucket = (Bucket) task.bucket;
+    bucket.unlink(task);
+    if (bucket.head == null) {
+      if (bucket.epochLevel) {
+        epochBuckets.remove(bucket.key);
+      } else {
+        ring[(int) bucket.key & mask] = null;
+      }
+    }
+    if (!bucket.epochLevel) {
+      slotLevelCount--;
+    }
+    size--;
+    task.state = ScheduledSlotTask.CANCELLED;
+    return true;
+  }
+
+  private long currentSlot(Instant now) {
+    try {
+      long offsetNanos = setting.offsetNanosOf(now);
+      return offsetNanos < 0 ? -1L : setting.absoluteSlotOfOffsetNanos(offsetNanos);
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE - 1;
+    }
+  }
+
+  private long firstSlotOf(long epoch) {
+    try {
+      return setting.absoluteSlotOf(epoch, 0L);
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  /**
+   * inserts the given pending {@code task} into the bucket of its slot, if the slot is on the
+   * slot level, or otherwise into the bucket of its epoch.
+   */
+  private void insert(ScheduledSlotTask task) {
+    long absoluteSlot = task.getAbsoluteSlot();
+    if (absoluteSlot < slotLevelEnd) {
+      int index = (int) absoluteSlot & mask;
+      Bucket bucket = ring[index];
+      if (bucket == null) {
+        bucket = new Bucket(absoluteSlot, false);
+        ring[index] = bucket;
+      }
+      bucket.append(task);
+      slotLevelCount++;
+    } else {
+      long epoch = setting.epochOfAbsoluteSlot(absoluteSlot);
+      Bucket bucket = epochBuckets.get(epoch);
+      if (bucket == null) {
+        bucket = new Bucket(epoch, true);
+        epochBuckets.put(epoch, bucket);
+      }
+      bucket.append(task);
+    }
+  }
+
+  /**
+   * moves the cursor behind the given {@code absoluteSlot}, and detaches the tasks of all passed
+   * slots. Empty stretches of slots are skipped up to the start of the next epoch.
+   *
+   * @return the first of the detached tasks, which are linked in the order in which they shall be
+   * fired, or {@code null}, if no task is due.
+   */
+  private ScheduledSlotTask advanceTo(long absoluteSlot) {
+    ScheduledSlotTask first = null;
+    ScheduledSlotTask last = null;
+    while (cursor <= absoluteSlot) {
+      if (cursor >= nextEpochStart) {
+        enterNextEpoch();
+      }
+      int index = (int) cursor & mask;
+      Bucket bucket = ring[index];
+      if (bucket != null) {
+        ring[index] = null;
+        for (ScheduledSlotTask task = bucket.head; task != null; task = task.next) {
+          task.state = ScheduledSlotTask.FIRED;
+          task.bucket = null;
+          task.previous = null;
+          slotLevelCount--;
+          size--;
+        }
+        if (last == null) {
+          first = bucket.head;
+        } else {
+          last.next = bucket.head;
+        }
+        last = bucket.tail;
+      }
+      cursor++;
+      if (slotLevelCount == 0 && cursor <= absoluteSlot) {
+        cursor = Math.min(absoluteSlot + 1, nextEpochStart);
+      }
+    }
+    return first;
+  }
+
+  /**
+   * moves the slot level one epoch ahead, and moves the tasks of the epoch after the new one from
+   * the epoch level to the slot level.
+   */
+  private void enterNextEpoch() {
+    cursorEpoch++;
+    nextEpochStart = slotLevelEnd;
+    slotLevelEnd = firstSlotOf(cursorEpoch + 2);
+    Bucket bucket = epochBuckets.remove(cursorEpoch + 1);
+    if (bucket != null) {
+      ScheduledSlotTask task = bucket.head;
+      while (task != null) {
+        ScheduledSlotTask next = task.next;
+        task.previous = null;
+        task.next = null;
+        insert(task);
+        task = next;
+      }
+    }
+  }
+
+  private void fire(ScheduledSlotTask task) {
+    try {
+      if (executor != null) {
+        executor.execute(task.task);
+      } else {
+        task.task.run();
+      }
+    } catch (Throwable e) {
+      report(e);
+    }
+  }
+
+  private static void report(Throwable e) {
+    Thread thread = Thread.currentThread();
+    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+  }
+
+  /**
+   * A doubly linked list of the tasks of a slot or an epoch.
+   */
+  private static final class Bucket {
+
+    private final long key;
+    private final boolean epochLevel;
+    private ScheduledSlotTask head;
+    private ScheduledSlotTask tail;
+
+    private Bucket(long key, boolean epochLevel) {
+      this.key = key;
+      this.epochLevel = epochLevel;
+    }
+
+    private void append(ScheduledSlotTask task) {
+      task.bucket = this;
+      task.previous = tail;
+      task.next = null;
+      if (tail == null) {
+        head = task;
+      } else {
+        tail.next = task;
+      }
+      tail = task;
+    }
+
+    private void unlink(ScheduledSlotTask task) {
+      if (task.previous == null) {
+        head = task.next;
+      } else {
+        task.previous.next = task.next;
+      }
+      if (task.next == null) {
+        tail = task.previous;
+      } else {
+        task.next.previous = task.previous;
+      }
+      task.bucket = null;
+      task.previous = null;
+      task.next = null;
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * The units in which the amount of time between two slot dates can be measured.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum SlotUnit {
+
+  /**
+   * a single slot, whose duration depends on the era of the {@link TimeSetting}.
+   */
+  SLOTS,
+
+  /**
+   * a single epoch, whose number of slots depends on the era of the {@link TimeSetting}.
+   */
+  EPOCHS
+}
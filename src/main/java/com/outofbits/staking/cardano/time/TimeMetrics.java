@@ -0,0 +1,63 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * A hook for recording how often and how long the hot paths of this module (see {@link
+ * TimeOperation}) are executed, and how often they fail. A no-op implementation is installed by
+ * default, and {@link SimpleTimeMetrics} is a simple implementation that keeps counters and
+ * latency histograms in memory.
+ * <p/>
+ * The instrumentation is only compiled into the hot paths, if the system property {@link
+ * #ENABLED_PROPERTY} is set to {@code true} when this module is loaded. Otherwise, the JIT
+ * compiler removes the instrumentation entirely, and installed metrics are never called.
+ * Implementations must be thread-safe and should be cheap, because they are called on the
+ * thread executing the operation.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface TimeMetrics {
+
+  /**
+   * name of the system property with which the instrumentation of the hot paths is enabled.
+   */
+  String ENABLED_PROPERTY = "com.outofbits.staking.cardano.time.metrics";
+
+  /**
+   * records one execution of the given {@code operation}.
+   *
+   * @param operation     {@link TimeOperation} that has been executed.
+   * @param durationNanos the duration of the execution in nanoseconds.
+   * @param failed        {@code true}, if the execution failed with an exception, otherwise
+   *                      {@code false}.
+   */
+  void record(TimeOperation operation, long durationNanos, boolean failed);
+
+  /**
+   * installs the given {@code metrics}, to which all executions of instrumented operations are
+   * reported from now on. Passing {@code null} installs the no-op metrics again.
+   *
+   * @param metrics {@link TimeMetrics} that shall be installed.
+   */
+  static void install(TimeMetrics metrics) {
+    Instrumentation.install(metrics);
+  }
+
+  /**
+   * gets the currently installed {@link TimeMetrics}.
+   *
+   * @return the currently installed {@link TimeMetrics}.
+   */
+  static TimeMetrics installed() {
+    return Instrumentation.installed();
+  }
+
+  /**
+   * checks whether the instrumentation of the hot paths is enabled.
+   *
+   * @return {@code true}, if the instrumentation is enabled, otherwise {@code false}.
+   */
+  static boolean enabled() {
+    return Instrumentation.ENABLED;
+  }
+}
@@ -0,0 +1,27 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * The operations of this module that are reported to the installed {@link TimeMetrics}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum TimeOperation {
+
+  /**
+   * computing the slot date for a time with {@link TimeSetting#getSlotDateFor(java.time.Instant)}.
+   */
+  SLOT_DATE_FOR_TIME,
+
+  /**
+   * creating and validating a complete slot date with one of the {@code completeInstance} methods
+   * of {@link SlotDateFactory}.
+   */
+  COMPLETE_INSTANCE,
+
+  /**
+   * computing the start time of a slot date with {@link CompleteSlotDate#getStartTime()}.
+   */
+  START_TIME
+}
@@ -1,15 +1,26 @@
 package com.outofbits.staking.cardano.time;
 
 import java.math.BigInteger;
+import java.nio.LongBuffer;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
-import static com.google.common.base.Preconditions.checkArgument;
+import static com.outofbits.staking.cardano.time.Preconditions.checkArgument;
 
 /**
  * Instances of this class encapsulate the important time details for a specific Cardano block
  * chain.
+ * <p/>
+ * A time setting consists of one or more {@link Era}s. Each hard fork that changes the number of
+ * slots per epoch or the duration of a slot starts a new era, which can be added with {@link
+ * #withEra(long, long, Duration)}. The conversions between slot dates and times resolve the era
+ * with a binary search over primitive boundary tables, and hence stay logarithmic in the number of
+ * eras.
  *
  * @author Kevin Haller
  * @version 1.0.0
@@ -17,23 +28,130 @@ import static com.google.common.base.Preconditions.checkArgument;
  */
 public final class TimeSetting {
 
+  /*
+   * the time settings of the known networks, which is only modified during the initialization of
+   * this class.
+   */
+  private static final Map<TimeSetting, TimeSetting> NETWORKS = new HashMap<>();
+
+  /**
+   * time setting of the Cardano main net with the Byron era (20 second slots, 21600 slots per
+   * epoch) and the following Shelley era starting with epoch 208 (1 second slots, 432000 slots per
+   * epoch).
+   */
+  public static final TimeSetting MAIN_NET = TimeSetting
+      .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+      .withEra(208L, 432000L, Duration.ofSeconds(1));
+
+  /**
+   * time setting of the Cardano pre-production test net with the Byron era (20 second slots, 21600
+   * slots per epoch) and the following Shelley era starting with epoch 4 (1 second slots, 432000
+   * slots per epoch).
+   */
+  public static final TimeSetting PRE_PRODUCTION_TEST_NET = TimeSetting
+      .with(Instant.parse("2022-06-01T00:00:00Z"), 21600L, Duration.ofSeconds(20))
+      .withEra(4L, 432000L, Duration.ofSeconds(1));
+
+  /**
+   * time setting of the Cardano preview test net, which started directly with the Shelley era (1
+   * second slots, 86400 slots per epoch).
+   */
+  public static final TimeSetting PREVIEW_TEST_NET = TimeSetting
+      .with(Instant.parse("2022-10-25T00:00:00Z"), 86400L, Duration.ofSeconds(1));
+
+  /**
+   * time setting of the Cardano incentivized test net (2 second slots, 43200 slots per epoch).
+   */
+  public static final TimeSetting INCENTIVIZED_TEST_NET = TimeSetting
+      .with(Instant.parse("2019-12-13T19:13:37Z"), 43200L, Duration.ofSeconds(2));
+
+  static {
+    for (TimeSetting network : new TimeSetting[]{MAIN_NET, PRE_PRODUCTION_TEST_NET,
+        PREVIEW_TEST_NET, INCENTIVIZED_TEST_NET}) {
+      NETWORKS.put(network, network);
+    }
+  }
+
   private final Instant genesisBlockCreation;
-  private final long slotsPerEpoch;
-  private final Duration slotDuration;
+  private final Era[] eras;
 
-  private TimeSetting(Instant genesisBlockCreation, long slotsPerEpoch, Duration slotDuration) {
+  private final long[] eraStartEpochs;
+  private final long[] eraStartSlots;
+  private final long[] eraStartOffsetNanos;
+  private final long[] eraSlotsPerEpoch;
+  private final long[] eraSlotDurationNanos;
+  private final FixedPointDivisor[] eraSlotsPerEpochDivisors;
+  private final FixedPointDivisor[] eraSlotDurationDivisors;
+  private final int lastEra;
+
+  private final long genesisEpochMilli;
+  private final long genesisNanoOfMilli;
+  private final int hashCode;
+
+  private TimeSetting(Instant genesisBlockCreation, long[] startEpochs, long[] slotsPerEpoch,
+      Duration[] slotDurations) {
     checkArgument(genesisBlockCreation != null, "The given creation time must not be null.");
-    checkArgument(slotsPerEpoch > 0,
-        "The given number of slots per epoch must be positive and not zero.");
-    checkArgument(slotDuration != null && !slotDuration.isNegative() && !slotDuration.isZero(),
-        "The given slot duration must not be zero or negative.");
+    int eraCount = startEpochs.length;
     this.genesisBlockCreation = genesisBlockCreation;
-    this.slotsPerEpoch = slotsPerEpoch;
-    this.slotDuration = slotDuration;
+    this.eras = new Era[eraCount];
+    this.eraStartEpochs = startEpochs;
+    this.eraStartSlots = new long[eraCount];
+    this.eraStartOffsetNanos = new long[eraCount];
+    this.eraSlotsPerEpoch = slotsPerEpoch;
+    this.eraSlotDurationNanos = new long[eraCount];
+    this.eraSlotsPerEpochDivisors = new FixedPointDivisor[eraCount];
+    this.eraSlotDurationDivisors = new FixedPointDivisor[eraCount];
+    this.lastEra = eraCount - 1;
+    for (int i = 0; i < eraCount; i++) {
+      checkArgument(slotsPerEpoch[i] > 0,
+          "The given number of slots per epoch must be positive and not zero.");
+      checkArgument(slotDurations[i] != null && !slotDurations[i].isNegative() && !slotDurations[i]
+          .isZero(), "The given slot duration must not be zero or negative.");
+      checkArgument(slotDurations[i].compareTo(Duration.ofNanos(Long.MAX_VALUE)) <= 0,
+          "The given slot duration must be representable in nanoseconds.");
+      eraSlotDurationNanos[i] = slotDurations[i].toNanos();
+      eraSlotsPerEpochDivisors[i] = new FixedPointDivisor(slotsPerEpoch[i]);
+      eraSlotDurationDivisors[i] = new FixedPointDivisor(eraSlotDurationNanos[i]);
+      if (i > 0) {
+        checkArgument(startEpochs[i] > startEpochs[i - 1],
+            "The given start epoch must be strictly after the start epoch of the previous era.");
+        try {
+          eraStartSlots[i] = Math.addExact(eraStartSlots[i - 1],
+              Math.multiplyExact(startEpochs[i] - startEpochs[i - 1], slotsPerEpoch[i - 1]));
+          eraStartOffsetNanos[i] = Math.addExact(eraStartOffsetNanos[i - 1],
+              Math.multiplyExact(eraStartSlots[i] - eraStartSlots[i - 1],
+                  eraSlotDurationNanos[i - 1]));
+        } catch (ArithmeticException e) {
+          throw new IllegalArgumentException(
+              "The start of the given era must be representable in nanoseconds.", e);
+        }
+      }
+      eras[i] = new Era(startEpochs[i], eraStartSlots[i],
+          genesisBlockCreation.plusNanos(eraStartOffsetNanos[i]), slotsPerEpoch[i],
+          slotDurations[i]);
+    }
+    this.genesisEpochMilli = genesisBlockCreation.toEpochMilli();
+    this.genesisNanoOfMilli = genesisBlockCreation.getNano() % 1_000_000;
+    this.hashCode = 31 * (31 * (31 * genesisBlockCreation.hashCode() + Arrays
+        .hashCode(eraStartEpochs)) + Arrays.hashCode(eraSlotsPerEpoch)) + Arrays
+        .hashCode(eraSlotDurationNanos);
   }
 
   /**
-   * constructs a {@link TimeSetting} instance with the given details.
+   * gets the canonical instance of the given {@code setting}, which is the constant of the known
+   * network, if the given setting equals one of them, and otherwise the given setting itself. Only
+   * the known networks are interned, such that building time settings from input does not retain
+   * them forever.
+   */
+  private static TimeSetting canonical(TimeSetting setting) {
+    TimeSetting network = NETWORKS.get(setting);
+    return network != null ? network : setting;
+  }
+
+  /**
+   * constructs a {@link TimeSetting} instance with the given details. If the details
+   * are the ones of a known network (e.g. {@link #MAIN_NET}), the constant of this network is
+   * returned.
    *
    * @param genesisBlockCreation {@link Instant} pointing to the creation time of the genesis
    *                             block.
@@ -44,7 +162,35 @@ public final class TimeSetting {
    */
   public static TimeSetting with(Instant genesisBlockCreation, long slotsPerEpoch,
       Duration slotDuration) {
-    return new TimeSetting(genesisBlockCreation, slotsPerEpoch, slotDuration);
+    return canonical(new TimeSetting(genesisBlockCreation, new long[]{0L},
+        new long[]{slotsPerEpoch}, new Duration[]{slotDuration}));
+  }
+
+  /**
+   * constructs a new {@link TimeSetting} that has all the eras of this time setting, followed by a
+   * new {@link Era} that starts with the given {@code startEpoch} and has the given details. The
+   * start slot and start time of the new era are computed from the eras before it.
+   *
+   * @param startEpoch    the number of the first epoch of the new era, which must be strictly
+   *                      after the start epoch of the latest era of this time setting.
+   * @param slotsPerEpoch number of slots per epoch in the new era.
+   * @param slotDuration  the duration of a slot in the new era.
+   * @return {@link TimeSetting} with the additional era.
+   * @throws IllegalArgumentException if the given details are not valid.
+   */
+  public TimeSetting withEra(long startEpoch, long slotsPerEpoch, Duration slotDuration) {
+    int eraCount = eras.length + 1;
+    long[] startEpochs = Arrays.copyOf(eraStartEpochs, eraCount);
+    long[] slotsPerEpochs = Arrays.copyOf(eraSlotsPerEpoch, eraCount);
+    Duration[] slotDurations = new Duration[eraCount];
+    for (int i = 0; i < eras.length; i++) {
+      slotDurations[i] = eras[i].getSlotDuration();
+    }
+    startEpochs[eras.length] = startEpoch;
+    slotsPerEpochs[eras.length] = slotsPerEpoch;
+    slotDurations[eras.length] = slotDuration;
+    return canonical(
+        new TimeSetting(genesisBlockCreation, startEpochs, slotsPerEpochs, slotDurations));
   }
 
   /**
@@ -57,21 +203,32 @@ public final class TimeSetting {
   }
 
   /**
-   * gets the number of slots per epoch for this block chain {@link TimeSetting}.
+   * gets the number of slots per epoch for this block chain {@link TimeSetting}. If this time
+   * setting has several eras, then the number of slots per epoch of the latest era is returned.
    *
    * @return the number of slots per epoch for this block chain {@link TimeSetting}.
    */
   public long getSlotsPerEpoch() {
-    return slotsPerEpoch;
+    return eraSlotsPerEpoch[lastEra];
   }
 
   /**
-   * gets the slot duration for this block chain {@link TimeSetting}.
+   * gets the slot duration for this block chain {@link TimeSetting}. If this time setting has
+   * several eras, then the slot duration of the latest era is returned.
    *
    * @return the slot duration for this block chain {@link TimeSetting}.
    */
   public Duration getSlotDuration() {
-    return slotDuration;
+    return eras[lastEra].getSlotDuration();
+  }
+
+  /**
+   * gets the {@link Era}s of this block chain {@link TimeSetting} ordered by their start.
+   *
+   * @return an unmodifiable list of the {@link Era}s of this time setting.
+   */
+  public List<Era> getEras() {
+    return Collections.unmodifiableList(Arrays.asList(eras));
   }
 
   /**
@@ -82,27 +239,510 @@ public final class TimeSetting {
    * {@code false}.
    */
   public boolean valid(PlainSlotDate date) {
-    return BigInteger.valueOf(slotsPerEpoch).compareTo(date.getSlot()) > 0;
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(date);
+    if (compactDate != null) {
+      return valid(compactDate.getEpochAsLong(), compactDate.getSlotAsLong());
+    }
+    return BigInteger.valueOf(eraSlotsPerEpoch[eraOfEpoch(date.getEpoch())])
+        .compareTo(date.getSlot()) > 0;
+  }
+
+  /**
+   * gets the absolute slot number of the given {@code date} ({@link PlainSlotDate}), which is the
+   * number of slots that passed between the genesis block and the given {@code date}.
+   *
+   * @param date {@link PlainSlotDate} for which the absolute slot number shall be computed.
+   * @return the absolute slot number of the given {@code date}.
+   * @throws IllegalArgumentException if the given {@code date} is {@code null} or not valid for
+   *                                  this time setting.
+   */
+  public BigInteger getAbsoluteSlot(PlainSlotDate date) {
+    checkArgument(date != null, "The given slot date must not be null.");
+    checkArgument(valid(date), "The given slot date must be valid for this time setting.");
+    CompactPlainSlotDateImpl compactDate = CompactPlainSlotDateImpl.unwrap(date);
+    if (compactDate != null) {
+      try {
+        return BigInteger
+            .valueOf(absoluteSlotOf(compactDate.getEpochAsLong(), compactDate.getSlotAsLong()));
+      } catch (ArithmeticException e) {
+        // falls back to the BigInteger computation below.
+      }
+    }
+    return absoluteSlotOf(date.getEpoch(), date.getSlot());
+  }
+
+  /**
+   * gets the {@link CompleteSlotDate} for the given {@code absoluteSlot} number, which is the
+   * number of slots that passed since the genesis block.
+   *
+   * @param absoluteSlot positive absolute slot number.
+   * @return the {@link CompleteSlotDate} for the given {@code absoluteSlot} number.
+   * @throws IllegalArgumentException if the given {@code absoluteSlot} is negative.
+   */
+  public CompleteSlotDate getSlotDateForAbsoluteSlot(long absoluteSlot) {
+    checkArgument(absoluteSlot >= 0, "The given absolute slot number must not be negative.");
+    int era = eraOfAbsoluteSlot(absoluteSlot);
+    long slotsInEra = absoluteSlot - eraStartSlots[era];
+    return new CompleteSlotDateImpl(new CompactPlainSlotDateImpl(
+        eraStartEpochs[era] + slotsInEra / eraSlotsPerEpoch[era],
+        slotsInEra % eraSlotsPerEpoch[era]), this, absoluteSlot);
+  }
+
+  /**
+   * gets the {@link CompleteSlotDate} for the given {@code absoluteSlot} number, which is the
+   * number of slots that passed since the genesis block.
+   *
+   * @param absoluteSlot positive absolute slot number.
+   * @return the {@link CompleteSlotDate} for the given {@code absoluteSlot} number.
+   * @throws IllegalArgumentException if the given {@code absoluteSlot} is {@code null} or
+   *                                  negative.
+   */
+  public CompleteSlotDate getSlotDateForAbsoluteSlot(BigInteger absoluteSlot) {
+    checkArgument(absoluteSlot != null && absoluteSlot.signum() >= 0,
+        "The given absolute slot number must not be null or negative.");
+    if (absoluteSlot.bitLength() < Long.SIZE) {
+      return getSlotDateForAbsoluteSlot(absoluteSlot.longValue());
+    }
+    BigInteger[] epochAndSlot = absoluteSlot.subtract(BigInteger.valueOf(eraStartSlots[lastEra]))
+        .divideAndRemainder(BigInteger.valueOf(eraSlotsPerEpoch[lastEra]));
+    return new CompleteSlotDateImpl(SlotDateFactory.plainInstance(
+        epochAndSlot[0].add(BigInteger.valueOf(eraStartEpochs[lastEra])), epochAndSlot[1]), this);
+  }
+
+  /**
+   * computes the slot dates for the given {@code epochMillis} (milliseconds since the epoch
+   * 1970-01-01T00:00:00Z) in bulk. The absolute slot number, the epoch number and the slot number
+   * within the epoch of the i-th time are written at the i-th position of the given {@code
+   * absoluteSlots}, {@code epochs} and {@code slots} arrays respectively. Each of the target
+   * arrays can be {@code null}, if the corresponding numbers are not of interest, and otherwise
+   * must be at least as long as the given {@code epochMillis}. No objects are allocated per
+   * element.
+   *
+   * @param epochMillis   times in milliseconds since the epoch 1970-01-01T00:00:00Z, which must
+   *                      not be strictly before the creation time of the genesis block.
+   * @param absoluteSlots target array for the absolute slot numbers or {@code null}.
+   * @param epochs        target array for the epoch numbers or {@code null}.
+   * @param slots         target array for the slot numbers within the epoch or {@code null}.
+   * @throws IllegalArgumentException if the given {@code epochMillis} are {@code null}, a target
+   *                                  array is too short, or one of the given times is strictly
+   *                                  before the creation time of the genesis block.
+   * @throws ArithmeticException      if one of the given times is too far away from the creation
+   *                                  time of the genesis block to be computed in nanoseconds.
+   */
+  public void getSlotDatesFor(long[] epochMillis, long[] absoluteSlots, long[] epochs,
+      long[] slots) {
+    checkArgument(epochMillis != null, "The given times must not be null.");
+    int length = epochMillis.length;
+    checkArgument(absoluteSlots == null || absoluteSlots.length >= length,
+        "The given target array for absolute slot numbers must not be shorter than the times.");
+    checkArgument(epochs == null || epochs.length >= length,
+        "The given target array for epoch numbers must not be shorter than the times.");
+    checkArgument(slots == null || slots.length >= length,
+        "The given target array for slot numbers must not be shorter than the times.");
+    SlotConverter converter = newSlotConverter();
+    for (int i = 0; i < length; i++) {
+      long absoluteSlot = converter.convert(epochMillis[i]);
+      if (absoluteSlots != null) {
+        absoluteSlots[i] = absoluteSlot;
+      }
+      if (epochs != null) {
+        epochs[i] = converter.getEpoch();
+      }
+      if (slots != null) {
+        slots[i] = converter.getSlot();
+      }
+    }
+  }
+
+  /**
+   * computes the slot dates for the remaining {@code epochMillis} (milliseconds since the epoch
+   * 1970-01-01T00:00:00Z) in bulk, and puts the absolute slot number, the epoch number and the
+   * slot number within the epoch into the given {@code absoluteSlots}, {@code epochs} and {@code
+   * slots} buffers respectively. This method behaves like {@link #getSlotDatesFor(long[], long[],
+   * long[], long[])}, but reads from and writes to the current positions of the given (heap or
+   * direct) buffers, which are advanced accordingly.
+   *
+   * @param epochMillis   times in milliseconds since the epoch 1970-01-01T00:00:00Z, which must
+   *                      not be strictly before the creation time of the genesis block.
+   * @param absoluteSlots target buffer for the absolute slot numbers or {@code null}.
+   * @param epochs        target buffer for the epoch numbers or {@code null}.
+   * @param slots         target buffer for the slot numbers within the epoch or {@code null}.
+   * @throws IllegalArgumentException if the given {@code epochMillis} are {@code null}, a target
+   *                                  buffer has not enough space remaining, or one of the given
+   *                                  times is strictly before the creation time of the genesis
+   *                                  block.
+   * @throws ArithmeticException      if one of the given times is too far away from the creation
+   *                                  time of the genesis block to be computed in nanoseconds.
+   */
+  public void getSlotDatesFor(LongBuffer epochMillis, LongBuffer absoluteSlots,
+      LongBuffer epochs, LongBuffer slots) {
+    checkArgument(epochMillis != null, "The given times must not be null.");
+    int length = epochMillis.remaining();
+    checkArgument(absoluteSlots == null || absoluteSlots.remaining() >= length,
+        "The given target buffer for absolute slot numbers must not be shorter than the times.");
+    checkArgument(epochs == null || epochs.remaining() >= length,
+        "The given target buffer for epoch numbers must not be shorter than the times.");
+    checkArgument(slots == null || slots.remaining() >= length,
+        "The given target buffer for slot numbers must not be shorter than the times.");
+    for (int i = 0; i < length; i++) {
+      long absoluteSlot = absoluteSlotOfEpochMilli(epochMillis.get());
+      if (absoluteSlots != null) {
+        absoluteSlots.put(absoluteSlot);
+      }
+      if (epochs != null || slots != null) {
+        int era = eraOfAbsoluteSlot(absoluteSlot);
+        long slotsInEra = absoluteSlot - eraStartSlots[era];
+        if (epochs != null) {
+          epochs.put(eraStartEpochs[era] + slotsInEra / eraSlotsPerEpoch[era]);
+        }
+        if (slots != null) {
+          slots.put(slotsInEra % eraSlotsPerEpoch[era]);
+        }
+      }
+    }
+  }
+
+  /**
+   * computes the start times of the slots with the given {@code absoluteSlots} numbers in bulk,
+   * and writes them in milliseconds since the epoch 1970-01-01T00:00:00Z into the given {@code
+   * epochMillis} array. Start times with a sub-millisecond precision are rounded down to the
+   * millisecond. No objects are allocated per element.
+   *
+   * @param absoluteSlots positive absolute slot numbers.
+   * @param epochMillis   target array for the start times, which must be at least as long as the
+   *                      given {@code absoluteSlots}.
+   * @throws IllegalArgumentException if one of the given arrays is {@code null}, the target array
+   *                                  is too short, or an absolute slot number is negative.
+   * @throws ArithmeticException      if a start time cannot be represented in milliseconds since
+   *                                  the epoch.
+   */
+  public void getStartTimesFor(long[] absoluteSlots, long[] epochMillis) {
+    checkArgument(absoluteSlots != null, "The given absolute slot numbers must not be null.");
+    checkArgument(epochMillis != null && epochMillis.length >= absoluteSlots.length,
+        "The given target array must not be null or shorter than the absolute slot numbers.");
+    for (int i = 0; i < absoluteSlots.length; i++) {
+      epochMillis[i] = startEpochMilliOf(absoluteSlots[i]);
+    }
+  }
+
+  /**
+   * computes the start times of the slots with the remaining {@code absoluteSlots} numbers in
+   * bulk, and puts them in milliseconds since the epoch 1970-01-01T00:00:00Z into the given {@code
+   * epochMillis} buffer. This method behaves like {@link #getStartTimesFor(long[], long[])}, but
+   * reads from and writes to the current positions of the given (heap or direct) buffers, which
+   * are advanced accordingly.
+   *
+   * @param absoluteSlots positive absolute slot numbers.
+   * @param epochMillis   target buffer for the start times.
+   * @throws IllegalArgumentException if one of the given buffers is {@code null}, the target
+   *                                  buffer has not enough space remaining, or an absolute slot
+   *                                  number is negative.
+   * @throws ArithmeticException      if a start time cannot be represented in milliseconds since
+   *                                  the epoch.
+   */
+  public void getStartTimesFor(LongBuffer absoluteSlots, LongBuffer epochMillis) {
+    checkArgument(absoluteSlots != null, "The given absolute slot numbers must not be null.");
+    checkArgument(epochMillis != null && epochMillis.remaining() >= absoluteSlots.remaining(),
+        "The given target buffer must not be null or shorter than the absolute slot numbers.");
+    while (absoluteSlots.hasRemaining()) {
+      epochMillis.put(startEpochMilliOf(absoluteSlots.get()));
+    }
+  }
+
+  /**
+   * computes the start times of the slot dates with the given {@code epochs} and {@code slots}
+   * numbers in bulk, and writes them in milliseconds since the epoch 1970-01-01T00:00:00Z into
+   * the given {@code epochMillis} array. Start times with a sub-millisecond precision are rounded
+   * down to the millisecond. No objects are allocated per element.
+   *
+   * @param epochs      positive epoch numbers.
+   * @param slots       positive slot numbers that must be valid for this time setting.
+   * @param epochMillis target array for the start times, which must be at least as long as the
+   *                    given {@code epochs}.
+   * @throws IllegalArgumentException if one of the given arrays is {@code null}, the arrays do
+   *                                  not have matching lengths, or one of the slot dates is not
+   *                                  valid for this time setting.
+   * @throws ArithmeticException      if a start time cannot be represented in milliseconds since
+   *                                  the epoch.
+   */
+  public void getStartTimesFor(long[] epochs, long[] slots, long[] epochMillis) {
+    checkArgument(epochs != null && slots != null && epochs.length == slots.length,
+        "The given epoch and slot numbers must not be null and must have the same length.");
+    checkArgument(epochMillis != null && epochMillis.length >= epochs.length,
+        "The given target array must not be null or shorter than the epoch numbers.");
+    for (int i = 0; i < epochs.length; i++) {
+      long epoch = epochs[i];
+      long slot = slots[i];
+      if (epoch < 0 || slot < 0 || !valid(epoch, slot)) {
+        throw new IllegalArgumentException(
+            "The slot date at index " + i + " must be valid for this time setting.");
+      }
+      epochMillis[i] = startEpochMilliOf(absoluteSlotOf(epoch, slot));
+    }
+  }
+
+  /**
+   * creates a new {@link SlotConverter}, which maps times to slots of this time setting without
+   * divisions, and which is fastest for (mostly) ascending times. A converter is not thread-safe,
+   * and hence each thread shall use its own.
+   *
+   * @return a new {@link SlotConverter} for this time setting.
+   */
+  public SlotConverter newSlotConverter() {
+    return new SlotConverter(this, genesisBlockCreation, eraStartEpochs, eraStartSlots,
+        eraStartOffsetNanos, eraSlotDurationNanos, eraSlotsPerEpochDivisors,
+        eraSlotDurationDivisors);
+  }
+
+  /**
+   * checks whether the slot date with the given positive {@code epoch} and {@code slot} number is
+   * valid for this time setting.
+   */
+  boolean valid(long epoch, long slot) {
+    return slot < eraSlotsPerEpoch[eraOfEpoch(epoch)];
+  }
+
+  /**
+   * gets the number of slots in the given positive {@code epoch}.
+   */
+  long slotsPerEpochOf(long epoch) {
+    return eraSlotsPerEpoch[eraOfEpoch(epoch)];
+  }
+
+  /**
+   * gets the epoch number of the slot with the given positive {@code absoluteSlot} number.
+   */
+  long epochOfAbsoluteSlot(long absoluteSlot) {
+    int era = eraOfAbsoluteSlot(absoluteSlot);
+    return eraStartEpochs[era] + (absoluteSlot - eraStartSlots[era]) / eraSlotsPerEpoch[era];
+  }
+
+  /**
+   * gets the slot number within the epoch of the slot with the given positive {@code
+   * absoluteSlot} number.
+   */
+  long slotOfAbsoluteSlot(long absoluteSlot) {
+    int era = eraOfAbsoluteSlot(absoluteSlot);
+    return (absoluteSlot - eraStartSlots[era]) % eraSlotsPerEpoch[era];
+  }
+
+  /**
+   * gets the index of the era to which the given {@code epoch} belongs.
+   */
+  int eraOfEpoch(long epoch) {
+    return lastEra == 0 ? 0 : floorIndex(eraStartEpochs, epoch);
+  }
+
+  int eraOfEpoch(BigInteger epoch) {
+    return epoch.bitLength() < Long.SIZE ? eraOfEpoch(epoch.longValue()) : lastEra;
+  }
+
+  /**
+   * gets the index of the era to which the slot with the given {@code absoluteSlot} number
+   * belongs.
+   */
+  int eraOfAbsoluteSlot(long absoluteSlot) {
+    return lastEra == 0 ? 0 : floorIndex(eraStartSlots, absoluteSlot);
+  }
+
+  int eraOfAbsoluteSlot(BigInteger absoluteSlot) {
+    return absoluteSlot.bitLength() < Long.SIZE ? eraOfAbsoluteSlot(absoluteSlot.longValue())
+        : lastEra;
+  }
+
+  /**
+   * gets the index of the era to which the given offset in nanoseconds to the genesis block
+   * belongs.
+   */
+  int eraOfOffsetNanos(long offsetNanos) {
+    return lastEra == 0 ? 0 : floorIndex(eraStartOffsetNanos, offsetNanos);
+  }
+
+  /**
+   * gets the index of the greatest bound in the given ascending {@code bounds} that is less than
+   * or equal to the given {@code key}. The first bound must be less than or equal to the key.
+   */
+  private static int floorIndex(long[] bounds, long key) {
+    int low = 0;
+    int high = bounds.length - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (bounds[mid] <= key) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * computes the absolute slot number for the given {@code epoch} and {@code slot} number.
+   *
+   * @throws ArithmeticException if the absolute slot number does not fit into a {@code long}.
+   */
+  long absoluteSlotOf(long epoch, long slot) {
+    int era = eraOfEpoch(epoch);
+    return Math.addExact(Math.addExact(eraStartSlots[era],
+        Math.multiplyExact(epoch - eraStartEpochs[era], eraSlotsPerEpoch[era])), slot);
+  }
+
+  BigInteger absoluteSlotOf(BigInteger epoch, BigInteger slot) {
+    int era = eraOfEpoch(epoch);
+    return epoch.subtract(BigInteger.valueOf(eraStartEpochs[era]))
+        .multiply(BigInteger.valueOf(eraSlotsPerEpoch[era]))
+        .add(BigInteger.valueOf(eraStartSlots[era])).add(slot);
+  }
+
+  /**
+   * computes the offset in nanoseconds between the creation of the genesis block and the start
+   * time of the slot with the given {@code absoluteSlot} number.
+   *
+   * @throws ArithmeticException if the offset does not fit into a {@code long}.
+   */
+  long startOffsetNanosOf(long absoluteSlot) {
+    int era = eraOfAbsoluteSlot(absoluteSlot);
+    return Math.addExact(eraStartOffsetNanos[era],
+        Math.multiplyExact(absoluteSlot - eraStartSlots[era], eraSlotDurationNanos[era]));
+  }
+
+  /**
+   * computes the start time of the slot with the given {@code absoluteSlot} number.
+   *
+   * @throws ArithmeticException if the computation exceeds the range of a {@code long}.
+   */
+  Instant startTimeOf(long absoluteSlot) {
+    return Instant.ofEpochSecond(genesisBlockCreation.getEpochSecond(),
+        Math.addExact(genesisBlockCreation.getNano(), startOffsetNanosOf(absoluteSlot)));
+  }
+
+  /**
+   * computes the start time of the slot with the given {@code absoluteSlot} number.
+   *
+   * @throws ArithmeticException if the start time cannot be represented as an {@link Instant}.
+   */
+  Instant startTimeOf(BigInteger absoluteSlot) {
+    int era = eraOfAbsoluteSlot(absoluteSlot);
+    BigInteger[] offset = absoluteSlot.subtract(BigInteger.valueOf(eraStartSlots[era]))
+        .multiply(BigInteger.valueOf(eraSlotDurationNanos[era]))
+        .add(BigInteger.valueOf(eraStartOffsetNanos[era]))
+        .divideAndRemainder(BigInteger.valueOf(1_000_000_000L));
+    return Instant.ofEpochSecond(
+        Math.addExact(genesisBlockCreation.getEpochSecond(), offset[0].longValueExact()),
+        genesisBlockCreation.getNano() + offset[1].longValue());
+  }
+
+  /**
+   * computes the offset in nanoseconds between the creation of the genesis block and the given
+   * {@code time}. The offset is negative, if the given time is before the genesis block.
+   *
+   * @throws ArithmeticException if the offset does not fit into a {@code long}.
+   */
+  long offsetNanosOf(Instant time) {
+    return Math.addExact(Math.multiplyExact(
+        time.getEpochSecond() - genesisBlockCreation.getEpochSecond(), 1_000_000_000L),
+        time.getNano() - genesisBlockCreation.getNano());
+  }
+
+  /**
+   * computes the absolute slot number of the slot that contains the given offset in nanoseconds
+   * to the creation of the genesis block, which must not be negative.
+   */
+  long absoluteSlotOfOffsetNanos(long offsetNanos) {
+    int era = eraOfOffsetNanos(offsetNanos);
+    return eraStartSlots[era]
+        + eraSlotDurationDivisors[era].divide(offsetNanos - eraStartOffsetNanos[era]);
+  }
+
+  BigInteger absoluteSlotOfOffsetNanos(BigInteger offsetNanos) {
+    if (offsetNanos.bitLength() < Long.SIZE) {
+      return BigInteger.valueOf(absoluteSlotOfOffsetNanos(offsetNanos.longValue()));
+    }
+    return offsetNanos.subtract(BigInteger.valueOf(eraStartOffsetNanos[lastEra]))
+        .divide(BigInteger.valueOf(eraSlotDurationNanos[lastEra]))
+        .add(BigInteger.valueOf(eraStartSlots[lastEra]));
+  }
+
+  /**
+   * computes the absolute slot number of the slot containing the given {@code epochMilli}.
+   *
+   * @throws IllegalArgumentException if the given time is strictly before the genesis block.
+   * @throws ArithmeticException      if the offset to the genesis block does not fit into a
+   *                                  {@code long} of nanoseconds.
+   */
+  long absoluteSlotOfEpochMilli(long epochMilli) {
+    long offsetNanos = Math.multiplyExact(Math.subtractExact(epochMilli, genesisEpochMilli),
+        1_000_000L) - genesisNanoOfMilli;
+    if (offsetNanos < 0) {
+      throw new IllegalArgumentException(
+          "The given time must not be strictly before the genesis block creation time.");
+    }
+    return absoluteSlotOfOffsetNanos(offsetNanos);
+  }
+
+  /**
+   * computes the start time of the slot with the given {@code absoluteSlot} number in
+   * milliseconds since the epoch, rounded down to the millisecond.
+   *
+   * @throws IllegalArgumentException if the given absolute slot number is negative.
+   * @throws ArithmeticException      if the start time does not fit into a {@code long}.
+   */
+  long startEpochMilliOf(long absoluteSlot) {
+    if (absoluteSlot < 0) {
+      throw new IllegalArgumentException("The given absolute slot number must not be negative.");
+    }
+    return Math.addExact(genesisEpochMilli, Math.floorDiv(
+        Math.addExact(startOffsetNanosOf(absoluteSlot), genesisNanoOfMilli), 1_000_000L));
   }
 
   /**
    * gets the {@link CompleteSlotDate} for the given {@code time}. The given {@code time} must not
    * be before the creation time of the genesis block, otherwise an {@link IllegalArgumentException}
-   * will be thrown.
+   * will be thrown. The slot is computed with a precision of nanoseconds, and hence slot durations
+   * below a second are supported.
    *
    * @param time {@link Instant} for which the {@link CompleteSlotDate} shall be computed.
    * @return the {@link CompleteSlotDate} for the given {@code time}.
    */
   public CompleteSlotDate getSlotDateFor(Instant time) {
+    if (Instrumentation.ENABLED) {
+      return Instrumentation.timed(TimeOperation.SLOT_DATE_FOR_TIME, () -> slotDateFor(time));
+    }
+    return slotDateFor(time);
+  }
+
+  private CompleteSlotDate slotDateFor(Instant time) {
     checkArgument(time != null, "The passed time must not be null.");
     checkArgument(genesisBlockCreation.isBefore(time) || genesisBlockCreation.equals(time),
         "The given time must not be strictly before the genesis block creation time.");
-    //TODO: not future safe, due to long value.
-    long durationInS = genesisBlockCreation.until(time, ChronoUnit.SECONDS);
-    BigInteger totalSlots = BigInteger.valueOf(durationInS / slotDuration.getSeconds());
-    BigInteger epoch = totalSlots.divide(BigInteger.valueOf(slotsPerEpoch));
-    BigInteger slots = totalSlots.mod(BigInteger.valueOf(slotsPerEpoch));
-    return SlotDateFactory.completeInstance(epoch, slots, this);
+    try {
+      return getSlotDateForAbsoluteSlot(absoluteSlotOfOffsetNanos(offsetNanosOf(time)));
+    } catch (ArithmeticException e) {
+      return getSlotDateForAbsoluteSlot(absoluteSlotOfOffsetNanos(
+          BigInteger.valueOf(time.getEpochSecond() - genesisBlockCreation.getEpochSecond())
+              .multiply(BigInteger.valueOf(1_000_000_000L))
+              .add(BigInteger.valueOf(time.getNano() - genesisBlockCreation.getNano()))));
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TimeSetting)) {
+      return false;
+    }
+    TimeSetting that = (TimeSetting) o;
+    return hashCode == that.hashCode && genesisBlockCreation.equals(that.genesisBlockCreation)
+        && Arrays.equals(eraStartEpochs, that.eraStartEpochs)
+        && Arrays.equals(eraSlotsPerEpoch, that.eraSlotsPerEpoch)
+        && Arrays.equals(eraSlotDurationNanos, that.eraSlotDurationNanos);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
   }
 
 }
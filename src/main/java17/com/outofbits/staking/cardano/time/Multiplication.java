@@ -0,0 +1,24 @@
+package com.outofbits.staking.cardano.time;
+
+/**
+ * Arithmetic helpers for the division-free conversion kernel. This variant is picked from the
+ * multi-release JAR on Java 17 and later, and uses the intrinsified {@link Math#multiplyHigh(long,
+ * long)}.
+ *
+ * @author Kevin Haller
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Multiplication {
+
+  private Multiplication() {
+  }
+
+  /**
+   * computes the most significant 64 bits of the 128-bit product of the two given signed {@code
+   * long} values.
+   */
+  static long multiplyHigh(long x, long y) {
+    return Math.multiplyHigh(x, y);
+  }
+}
@@ -10,7 +10,10 @@ import java.time.Duration;
 import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * This class tests {@link CompleteSlotDate}.
@@ -82,4 +85,106 @@ public class CompleteSlotDateTest {
     assertEquals(-81900L, a.difference(b).longValue());
   }
 
+  @Test
+  void testDifferenceExceedingLong_mustReturnCorrectDifference() {
+    CompleteSlotDate a = SlotDateFactory
+        .completeInstance(Long.MAX_VALUE, 0L, defaultTimeSetting);
+    CompleteSlotDate b = SlotDateFactory.completeInstance(0L, 0L, defaultTimeSetting);
+    assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(43200L)),
+        a.difference(b));
+  }
+
+  @Test
+  void testGetAbsoluteSlot_mustReturnCorrectAbsoluteSlot() {
+    CompleteSlotDate date = SlotDateFactory
+        .completeInstance(BigInteger.valueOf(17), BigInteger.valueOf(10653), defaultTimeSetting);
+    assertEquals(BigInteger.valueOf(745053L), date.getAbsoluteSlot());
+    assertEquals(745053L, date.getAbsoluteSlotExact());
+  }
+
+  @Test
+  void testGetAbsoluteSlotExceedingLong_mustThrowArithmeticExceptionForExact() {
+    CompleteSlotDate date = SlotDateFactory
+        .completeInstance(Long.MAX_VALUE, 1L, defaultTimeSetting);
+    assertEquals(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(43200L))
+        .add(BigInteger.ONE), date.getAbsoluteSlot());
+    assertThrows(ArithmeticException.class, date::getAbsoluteSlotExact);
+  }
+
+  @Test
+  void testCompareCompleteDates_mustReturnCorrectOrder() {
+    CompleteSlotDate a = SlotDateFactory.completeInstance(8L, 40100L, defaultTimeSetting);
+    CompleteSlotDate b = SlotDateFactory.completeInstance(10L, 35600L, defaultTimeSetting);
+    CompleteSlotDate c = defaultTimeSetting.getSlotDateForAbsoluteSlot(a.getAbsoluteSlotExact());
+    assertTrue(a.before(b));
+    assertTrue(b.after(a));
+    assertTrue(a.sameAs(c));
+    assertFalse(a.after(c));
+    assertTrue(a.compareTo(b) < 0);
+    assertTrue(b.compareTo(a) > 0);
+    assertEquals(0, a.compareTo(c));
+  }
+
+  @Test
+  void testPlusSlots_mustRollOverEpochs() {
+    CompleteSlotDate date = SlotDateFactory.completeInstance(10L, 43190L, defaultTimeSetting);
+    CompleteSlotDate later = date.plusSlots(15L);
+    assertEquals(BigInteger.valueOf(11L), later.getEpoch());
+    assertEquals(BigInteger.valueOf(5L), later.getSlot());
+    assertEquals(date, later.minusSlots(15L));
+    assertEquals(date, later.plusSlots(-15L));
+    assertThrows(IllegalArgumentException.class, () -> date.minusSlots(432001L * 2));
+  }
+
+  @Test
+  void testPlusSlotsExceedingLong_mustReturnCorrectDate() {
+    CompleteSlotDate date = SlotDateFactory
+        .completeInstance(BigInteger.valueOf(Long.MAX_VALUE), BigInteger.ZERO, defaultTimeSetting);
+    CompleteSlotDate later = date.plusSlots(43201L);
+    assertEquals(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE), later.getEpoch());
+    assertEquals(BigInteger.ONE, later.getSlot());
+    assertEquals(date, later.minusSlots(43201L));
+  }
+
+  @Test
+  void testPlusEpochsAcrossEras_mustClampSlotToLastSlotOfEpoch() {
+    TimeSetting mainNet = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+    CompleteSlotDate date = SlotDateFactory.completeInstance(208L, 400000L, mainNet);
+    CompleteSlotDate earlier = date.plusEpochs(-1L);
+    assertEquals(BigInteger.valueOf(207L), earlier.getEpoch());
+    assertEquals(BigInteger.valueOf(21599L), earlier.getSlot());
+    assertEquals(SlotDateFactory.completeInstance(231L, 400000L, mainNet), date.plusEpochs(23L));
+    assertEquals(1L, earlier.until(date, SlotUnit.EPOCHS));
+    assertEquals(-1L, date.until(earlier, SlotUnit.EPOCHS));
+    assertEquals(-400001L, date.until(earlier, SlotUnit.SLOTS));
+    assertThrows(IllegalArgumentException.class, () -> date.plusEpochs(-209L));
+  }
+
+  @Test
+  void testUntil_mustCountCompleteEpochs() {
+    CompleteSlotDate a = SlotDateFactory.completeInstance(10L, 100L, defaultTimeSetting);
+    CompleteSlotDate b = SlotDateFactory.completeInstance(12L, 99L, defaultTimeSetting);
+    CompleteSlotDate c = SlotDateFactory.completeInstance(12L, 100L, defaultTimeSetting);
+    assertEquals(1L, a.until(b, SlotUnit.EPOCHS));
+    assertEquals(2L, a.until(c, SlotUnit.EPOCHS));
+    assertEquals(-1L, b.until(a, SlotUnit.EPOCHS));
+    assertEquals(43200L * 2 - 1, a.until(b, SlotUnit.SLOTS));
+    assertEquals(a.difference(b).negate().longValue(), a.until(b, SlotUnit.SLOTS));
+    assertEquals(-(43200L * 2 - 1), b.until(SlotDateFactory.plainInstance(10L, 100L),
+        SlotUnit.SLOTS));
+  }
+
+  @Test
+  void testFirstAndLastSlotOfEpoch_mustReturnBoundariesOfEpoch() {
+    CompleteSlotDate date = SlotDateFactory.completeInstance(10L, 100L, defaultTimeSetting);
+    CompleteSlotDate first = date.firstSlotOfEpoch();
+    CompleteSlotDate last = date.lastSlotOfEpoch();
+    assertEquals(SlotDateFactory.completeInstance(10L, 0L, defaultTimeSetting), first);
+    assertEquals(SlotDateFactory.completeInstance(10L, 43199L, defaultTimeSetting), last);
+    assertEquals(43199L, first.until(last, SlotUnit.SLOTS));
+    assertEquals(last.getEndTime(), date.plusEpochs(1L).firstSlotOfEpoch().getStartTime());
+  }
+
 }
@@ -0,0 +1,100 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * This class tests the {@link EpochCalendar}.
+ */
+public class EpochCalendarTest {
+
+  private TimeSetting mainNetTimeSetting;
+
+  @BeforeEach
+  void setUp() {
+    mainNetTimeSetting = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void testOf_mustMatchTimeSetting() {
+    EpochCalendar calendar = EpochCalendar.of(mainNetTimeSetting, 500);
+    assertEquals(0L, calendar.getFirstAbsoluteSlot(0L));
+    assertEquals(4492800L, calendar.getFirstAbsoluteSlot(208L));
+    assertEquals(4492799L, calendar.getLastAbsoluteSlot(207L));
+    assertEquals(Instant.parse("2020-07-29T21:44:51Z"), calendar.getStartTime(208L));
+    assertEquals(Instant.parse("2020-07-29T21:44:51Z"), calendar.getEndTime(207L));
+    for (long epoch : new long[]{0L, 100L, 207L, 208L, 231L, 499L}) {
+      CompleteSlotDate firstSlot = SlotDateFactory.completeInstance(epoch, 0L, mainNetTimeSetting);
+      assertEquals(firstSlot.getAbsoluteSlotExact(), calendar.getFirstAbsoluteSlot(epoch));
+      assertEquals(firstSlot.getStartTime().toEpochMilli(), calendar.getStartEpochMilli(epoch));
+    }
+  }
+
+  @Test
+  void testEpochOf_mustFindEpochAtBoundaries() {
+    EpochCalendar calendar = EpochCalendar.of(mainNetTimeSetting, 500);
+    assertEquals(0L, calendar.epochOf(Instant.parse("2017-09-23T21:44:51Z")));
+    assertEquals(207L, calendar.epochOf(Instant.parse("2020-07-29T21:44:50.999999999Z")));
+    assertEquals(208L, calendar.epochOf(Instant.parse("2020-07-29T21:44:51Z")));
+    assertEquals(208L, calendar.epochOfEpochMilli(calendar.getEndEpochMilli(207L)));
+    assertEquals(230L, calendar.epochOfAbsoluteSlot(14428799L));
+    assertEquals(231L, calendar.epochOfAbsoluteSlot(14428800L));
+    assertEquals(499L, calendar.epochOfAbsoluteSlot(calendar.getLastAbsoluteSlot(499L)));
+  }
+
+  @Test
+  void testEpochOf_uncoveredTimeMustThrowException() {
+    EpochCalendar calendar = EpochCalendar.of(mainNetTimeSetting, 10);
+    assertThrows(IllegalArgumentException.class,
+        () -> calendar.epochOf(Instant.parse("2017-09-23T21:44:50Z")));
+    assertThrows(IllegalArgumentException.class,
+        () -> calendar.epochOf(Instant.parse("2030-01-01T00:00:00Z")));
+    assertThrows(IllegalArgumentException.class, () -> calendar.getStartEpochMilli(10L));
+    assertFalse(calendar.covers(-1L));
+  }
+
+  @Test
+  void testMap_mustShareAndRecomputeFile(@TempDir Path directory) throws IOException {
+    Path file = directory.resolve("mainnet.epochs");
+    EpochCalendar calendar = EpochCalendar.map(mainNetTimeSetting, 500, file);
+    assertEquals(4492800L, calendar.getFirstAbsoluteSlot(208L));
+    long size = Files.size(file);
+    EpochCalendar sharedCalendar = EpochCalendar.map(mainNetTimeSetting, 500, file);
+    assertEquals(calendar.getStartEpochMilli(231L), sharedCalendar.getStartEpochMilli(231L));
+    assertEquals(size, Files.size(file));
+    EpochCalendar otherCalendar = EpochCalendar.map(TimeSetting.INCENTIVIZED_TEST_NET, 50, file);
+    assertEquals(43200L, otherCalendar.getFirstAbsoluteSlot(1L));
+    assertTrue(Files.size(file) < size);
+  }
+
+  @Test
+  void testMapOtherDetails_mustNotModifyFileOfExistingCalendar(@TempDir Path directory)
+      throws IOException {
+    Path file = directory.resolve("shared.epochs");
+    EpochCalendar calendar = EpochCalendar.map(mainNetTimeSetting, 500, file);
+    for (int i = 0; i < 3; i++) {
+      EpochCalendar otherCalendar = EpochCalendar.map(TimeSetting.INCENTIVIZED_TEST_NET, 10 + i,
+          file);
+      assertEquals(43200L, otherCalendar.getFirstAbsoluteSlot(1L));
+      assertEquals(4492800L, calendar.getFirstAbsoluteSlot(208L));
+      assertEquals(Instant.parse("2020-07-29T21:44:51Z"), calendar.getStartTime(208L));
+    }
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(1L, files.count());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link Instrumentation} of the hot paths. The build runs it in a separate
+ * JVM, in which the instrumentation is enabled.
+ */
+public class InstrumentationTest {
+
+  @AfterEach
+  void tearDown() {
+    TimeMetrics.install(null);
+  }
+
+  @Test
+  void testInstall_mustRecordInstrumentedOperations() {
+    assertTrue(TimeMetrics.enabled());
+    SimpleTimeMetrics metrics = SimpleTimeMetrics.create();
+    TimeMetrics.install(metrics);
+    assertSame(metrics, TimeMetrics.installed());
+    CompleteSlotDate date = TimeSetting.MAIN_NET
+        .getSlotDateFor(Instant.parse("2020-12-01T12:34:56Z"));
+    date.getStartTime();
+    SlotDateFactory.completeInstance(231L, 1L, TimeSetting.MAIN_NET);
+    assertThrows(IllegalArgumentException.class,
+        () -> SlotDateFactory.completeInstance(231L, 432000L, TimeSetting.MAIN_NET));
+    assertEquals(1L, metrics.getCount(TimeOperation.SLOT_DATE_FOR_TIME));
+    assertEquals(1L, metrics.getCount(TimeOperation.START_TIME));
+    assertEquals(2L, metrics.getCount(TimeOperation.COMPLETE_INSTANCE));
+    assertEquals(1L, metrics.getFailureCount(TimeOperation.COMPLETE_INSTANCE));
+    assertEquals(0L, metrics.getFailureCount(TimeOperation.SLOT_DATE_FOR_TIME));
+  }
+
+  @Test
+  void testInstallNull_mustStopRecording() {
+    SimpleTimeMetrics metrics = SimpleTimeMetrics.create();
+    TimeMetrics.install(metrics);
+    TimeMetrics.install(null);
+    SlotDateFactory.completeInstance(231L, 1L, TimeSetting.MAIN_NET);
+    assertEquals(0L, metrics.getCount(TimeOperation.COMPLETE_INSTANCE));
+  }
+}
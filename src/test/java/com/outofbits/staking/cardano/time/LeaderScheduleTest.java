@@ -0,0 +1,84 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link LeaderSchedule}.
+ */
+public class LeaderScheduleTest {
+
+  private TimeSetting mainNetTimeSetting;
+  private LeaderSchedule schedule;
+
+  @BeforeEach
+  void setUp() {
+    mainNetTimeSetting = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+    schedule = LeaderSchedule.create(mainNetTimeSetting);
+    // epoch 250 starts at the absolute slot 22636800.
+    schedule.putEpoch(250L, new long[]{22636800L + 4000L, 22636800L + 100L, 22636800L + 431999L});
+    schedule.putEpoch(251L, new long[]{23068800L + 7L});
+  }
+
+  private long startOf(long absoluteSlot) {
+    return mainNetTimeSetting.getSlotDateForAbsoluteSlot(absoluteSlot).getStartTime()
+        .toEpochMilli();
+  }
+
+  @Test
+  void testNextSlotAfter_mustFindFirstSlotStartingAfterTime() {
+    assertEquals(22636900L, schedule.nextSlotAfter(0L));
+    assertEquals(22640800L, schedule.nextSlotAfter(startOf(22636900L)));
+    assertEquals(22640800L, schedule.nextSlotAfter(startOf(22636900L) + 500L));
+    assertEquals(23068807L, schedule.nextSlotAfter(Instant.ofEpochMilli(startOf(23068799L))));
+    assertEquals(-1L, schedule.nextSlotAfter(startOf(23068807L)));
+  }
+
+  @Test
+  void testMillisUntilNext_mustMeasureToNextStart() {
+    long now = startOf(22636900L) + 250L;
+    assertEquals(startOf(22640800L) - now, schedule.millisUntilNext(now));
+    assertEquals(1000L, schedule.millisUntilNext(startOf(23068806L)));
+    assertEquals(-1L, schedule.millisUntilNext(Instant.ofEpochMilli(startOf(23068807L))));
+  }
+
+  @Test
+  void testSlotsBetween_mustIncludeBothBounds() {
+    assertArrayEquals(new long[]{22640800L, 23068799L}, schedule.slotsBetween(
+        Instant.ofEpochMilli(startOf(22640800L)), Instant.ofEpochMilli(startOf(23068799L))));
+    assertEquals(4, schedule.countBetween(0L, Long.MAX_VALUE));
+    assertEquals(0, schedule.countBetween(startOf(23068799L) + 1, startOf(23068807L) - 1));
+    List<Long> slots = new ArrayList<>();
+    schedule.forEachBetween(startOf(23068799L), startOf(23068807L), slots::add);
+    assertEquals(2, slots.size());
+  }
+
+  @Test
+  void testPutEpoch_mustReplaceSlotsOfEpoch() {
+    schedule.putEpoch(250L, new long[]{22636800L + 5L, 22636800L + 5L});
+    assertArrayEquals(new long[]{22636805L}, schedule.getSlots(250L));
+    assertArrayEquals(new long[]{23068807L}, schedule.getSlots(251L));
+    assertEquals(2, schedule.size());
+    schedule.removeEpochsBefore(251L);
+    assertArrayEquals(new long[0], schedule.getSlots(250L));
+    assertEquals(1, schedule.size());
+  }
+
+  @Test
+  void testPutEpochWithSlotOfOtherEpoch_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class,
+        () -> schedule.putEpoch(250L, new long[]{23068800L}));
+    assertThrows(IllegalArgumentException.class, () -> schedule.putEpoch(250L, null));
+    assertEquals(4, schedule.size());
+  }
+}
@@ -4,6 +4,10 @@ import com.outofbits.staking.cardano.time.PlainSlotDate;
 import com.outofbits.staking.cardano.time.SlotDateFactory;
 import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -80,4 +84,53 @@ public class PlainSlotDateTest {
     assertFalse(thisDate.after(otherDate));
   }
 
+  @Test
+  void testPlainInstanceWithLongNumbers_mustBeSameAsBigIntegerInstance() {
+    PlainSlotDate thisDate = SlotDateFactory.plainInstance(42L, 14L);
+    PlainSlotDate otherDate = SlotDateFactory
+        .plainInstance(BigInteger.valueOf(42), BigInteger.valueOf(14));
+    assertTrue(thisDate.sameAs(otherDate));
+    assertTrue(otherDate.sameAs(thisDate));
+  }
+
+  @Test
+  void testCompareDatesExceedingLongWithCompactDate_mustReturnCorrectOrder() {
+    BigInteger hugeEpoch = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+    PlainSlotDate hugeDate = SlotDateFactory.plainInstance(hugeEpoch, BigInteger.valueOf(12));
+    PlainSlotDate compactDate = SlotDateFactory.plainInstance(Long.MAX_VALUE, 12L);
+    assertEquals(hugeEpoch, hugeDate.getEpoch());
+    assertTrue(hugeDate.after(compactDate));
+    assertTrue(compactDate.before(hugeDate));
+    assertFalse(compactDate.after(hugeDate));
+    assertFalse(compactDate.sameAs(hugeDate));
+    assertFalse(hugeDate.sameAs(compactDate));
+  }
+
+  @Test
+  void testEqualsAndHashCodeForSameDates_mustBeEqual() {
+    PlainSlotDate thisDate = SlotDateFactory.plainInstance(42L, 14L);
+    PlainSlotDate otherDate = new PlainSlotDateImpl(BigInteger.valueOf(42),
+        BigInteger.valueOf(14));
+    assertEquals(thisDate, otherDate);
+    assertEquals(otherDate, thisDate);
+    assertEquals(thisDate.hashCode(), otherDate.hashCode());
+    assertNotEquals(thisDate, SlotDateFactory.plainInstance(42L, 15L));
+  }
+
+  @Test
+  void testSortDates_mustSortByEpochAndSlot() {
+    List<PlainSlotDate> dates = new ArrayList<>(Arrays.asList(
+        SlotDateFactory.plainInstance(42L, 14L),
+        SlotDateFactory.plainInstance(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+            BigInteger.ZERO),
+        SlotDateFactory.plainInstance(41L, 20L),
+        SlotDateFactory.plainInstance(42L, 13L)));
+    Collections.sort(dates);
+    assertEquals(41L, dates.get(0).getEpoch().longValue());
+    assertEquals(13L, dates.get(1).getSlot().longValue());
+    assertEquals(14L, dates.get(2).getSlot().longValue());
+    assertTrue(dates.get(3).getEpoch().bitLength() >= Long.SIZE);
+    assertEquals(0, dates.get(0).compareTo(SlotDateFactory.plainInstance(41L, 20L)));
+  }
+
 }
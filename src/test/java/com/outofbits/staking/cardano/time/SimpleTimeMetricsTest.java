@@ -0,0 +1,58 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SimpleTimeMetrics}, and that the hot paths are not instrumented by
+ * default.
+ */
+public class SimpleTimeMetricsTest {
+
+  @AfterEach
+  void tearDown() {
+    TimeMetrics.install(null);
+  }
+
+  @Test
+  void testInstallWithoutInstrumentation_mustNotRecord() {
+    assertFalse(TimeMetrics.enabled());
+    SimpleTimeMetrics metrics = SimpleTimeMetrics.create();
+    TimeMetrics.install(metrics);
+    TimeSetting.MAIN_NET.getSlotDateFor(Instant.parse("2020-12-01T12:34:56Z")).getStartTime();
+    SlotDateFactory.completeInstance(231L, 1L, TimeSetting.MAIN_NET);
+    for (TimeOperation operation : TimeOperation.values()) {
+      assertEquals(0L, metrics.getCount(operation));
+    }
+  }
+
+  @Test
+  void testHistogram_percentilesMustBeWithinRelativeError() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 1; value <= 10_000; value++) {
+      histogram.record(value * 100);
+    }
+    assertEquals(10_000L, histogram.getCount());
+    assertEquals(1_000_000L, histogram.getMax());
+    assertEquals(500_050.0, histogram.getMean(), 0.001);
+    long median = histogram.getValueAtPercentile(50.0);
+    assertTrue(median >= 500_000L && median <= 500_000L * 1.04, "median was " + median);
+    long p99 = histogram.getValueAtPercentile(99.0);
+    assertTrue(p99 >= 990_000L && p99 <= 990_000L * 1.04, "p99 was " + p99);
+    assertEquals(1_000_000L, histogram.getValueAtPercentile(100.0));
+  }
+
+  @Test
+  void testHistogram_bucketsMustCoverWholeRange() {
+    for (long value : new long[]{0L, 31L, 32L, 65L, 1L << 40, Long.MAX_VALUE}) {
+      int index = LatencyHistogram.indexOf(value);
+      assertTrue(LatencyHistogram.upperBoundOf(index) >= value);
+      assertTrue(index == 0 || LatencyHistogram.upperBoundOf(index - 1) < value);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotAggregator}.
+ */
+public class SlotAggregatorTest {
+
+  private static final int COUNT = 0;
+  private static final int SIZE = 1;
+
+  @Test
+  void testAdd_mustAggregateValuesPerSlot() {
+    SlotAggregator aggregator = SlotAggregator.create(TimeSetting.MAIN_NET, 100, 2);
+    assertEquals(128, aggregator.getWindowSlots());
+    assertTrue(aggregator.add(4492800L, COUNT, 1L));
+    assertTrue(aggregator.add(4492800L, COUNT, 1L));
+    assertTrue(aggregator.add(4492800L, SIZE, 2048L));
+    assertTrue(aggregator.addAt(Instant.parse("2020-07-29T21:44:52.5Z"), SIZE, 512L));
+    assertEquals(2L, aggregator.get(4492800L, COUNT));
+    assertEquals(2048L, aggregator.get(4492800L, SIZE));
+    assertEquals(512L, aggregator.get(4492801L, SIZE));
+    assertEquals(0L, aggregator.get(4492802L, SIZE));
+    assertEquals(4492801L, aggregator.getLatestSlot());
+  }
+
+  @Test
+  void testAdd_slotsLeavingWindowMustBeRolledIntoEpochSummary() {
+    SlotAggregator aggregator = SlotAggregator.create(TimeSetting.MAIN_NET, 16, 2);
+    for (long slot = 4492790L; slot < 4492810L; slot++) {
+      aggregator.add(slot, COUNT, 1L);
+      aggregator.add(slot, SIZE, slot - 4492790L);
+    }
+    assertFalse(aggregator.add(4492790L, COUNT, 1L));
+    assertEquals(1L, aggregator.getRejectedCount());
+    assertEquals(0L, aggregator.get(4492790L, COUNT));
+    EpochSummary byronSummary = aggregator.getEpochSummary(207L);
+    assertEquals(10L, byronSummary.getActiveSlots());
+    assertEquals(10L, byronSummary.getTotal(COUNT));
+    assertEquals(45L, byronSummary.getTotal(SIZE));
+    assertEquals(9L, byronSummary.getMaxPerSlot(SIZE));
+    EpochSummary shelleySummary = aggregator.getEpochSummary(208L);
+    assertEquals(10L, shelleySummary.getActiveSlots());
+    assertEquals(19L, shelleySummary.getMaxPerSlot(SIZE));
+    aggregator.removeEpochSummariesBefore(208L);
+    assertEquals(6L, aggregator.getEpochSummary(207L).getTotal(COUNT));
+  }
+
+  @Test
+  void testAdd_concurrentUpdatesMustNotBeLost() throws Exception {
+    SlotAggregator aggregator = SlotAggregator.create(TimeSetting.MAIN_NET, 1024, 1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int thread = 0; thread < 8; thread++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 100_000; i++) {
+            aggregator.add(4492800L + i % 1000, COUNT, 1L);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(800_000L, aggregator.getEpochSummary(208L).getTotal(COUNT));
+    assertEquals(800L, aggregator.get(4492800L, COUNT));
+  }
+
+  @Test
+  void testAdd_invalidMetricMustThrowException() {
+    SlotAggregator aggregator = SlotAggregator.create(TimeSetting.MAIN_NET, 16, 1);
+    assertThrows(IllegalArgumentException.class, () -> aggregator.add(0L, 1, 1L));
+    assertThrows(IllegalArgumentException.class, () -> aggregator.add(-1L, 0, 1L));
+  }
+
+  @Test
+  void testGetEpochSummary_mustNotRetainEpochsThatAreOnlyRead() {
+    SlotAggregator aggregator = SlotAggregator.create(TimeSetting.MAIN_NET, 4, 1);
+    for (long epoch = 0; epoch < 1000; epoch++) {
+      assertEquals(0L, aggregator.getEpochSummary(epoch).getActiveSlots());
+    }
+    assertEquals(0, aggregator.getRetainedEpochCount());
+  }
+
+  @Test
+  void testRemoveEpochSummariesBefore_mustNotRecreateRemovedEpochs() {
+    SlotAggregator aggregator = SlotAggregator.create(TimeSetting.MAIN_NET, 4, 1);
+    for (long slot = 4492796L; slot < 4492800L; slot++) {
+      aggregator.add(slot, COUNT, 1L);
+    }
+    aggregator.removeEpochSummariesBefore(208L);
+    for (long slot = 4492800L; slot < 4492810L; slot++) {
+      aggregator.add(slot, COUNT, 1L);
+    }
+    assertEquals(0L, aggregator.getEpochSummary(207L).getActiveSlots());
+    assertEquals(10L, aggregator.getEpochSummary(208L).getTotal(COUNT));
+    assertEquals(1, aggregator.getRetainedEpochCount());
+  }
+
+  @Test
+  void testGetEpochSummary_mustNotMissSlotsLeavingWindowConcurrently() throws Exception {
+    SlotAggregator aggregator = SlotAggregator.create(TimeSetting.MAIN_NET, 8, 1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<?> writer = executor.submit(() -> {
+        for (long slot = 4492800L; slot < 4492800L + 200_000L; slot++) {
+          aggregator.add(slot, COUNT, 1L);
+        }
+      });
+      long previous = 0L;
+      while (!writer.isDone()) {
+        EpochSummary summary = aggregator.getEpochSummary(208L);
+        assertTrue(summary.getActiveSlots() >= previous,
+            summary.getActiveSlots() + " < " + previous);
+        previous = summary.getActiveSlots();
+      }
+      writer.get();
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(200_000L, aggregator.getEpochSummary(208L).getActiveSlots());
+  }
+}
@@ -0,0 +1,192 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotClock}.
+ */
+public class SlotClockTest {
+
+  private TimeSetting defaultTimeSetting;
+  private MutableClock clock;
+  private SlotClock slotClock;
+  private List<CompleteSlotDate> slots;
+  private List<CompleteSlotDate> epochs;
+
+  @BeforeEach
+  void setUp() {
+    defaultTimeSetting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 43200L,
+        Duration.ofSeconds(2));
+    clock = new MutableClock(Instant.parse("2019-12-13T19:13:47.50Z"));
+    slotClock = SlotClock.create(defaultTimeSetting, clock);
+    slots = new ArrayList<>();
+    epochs = new ArrayList<>();
+    slotClock.addSlotListener(slots::add);
+    slotClock.addEpochListener(epochs::add);
+  }
+
+  @Test
+  void testTick_mustReturnTimeUntilNextSlot() {
+    assertEquals(Duration.ofMillis(1500).toNanos(), slotClock.tick());
+    assertTrue(slots.isEmpty());
+  }
+
+  @Test
+  void testTickAfterNewSlot_mustNotifySlotListeners() {
+    slotClock.tick();
+    clock.advance(Duration.ofMillis(1000));
+    assertEquals(Duration.ofMillis(500).toNanos(), slotClock.tick());
+    assertTrue(slots.isEmpty());
+    clock.advance(Duration.ofMillis(500));
+    assertEquals(Duration.ofSeconds(2).toNanos(), slotClock.tick());
+    assertEquals(1, slots.size());
+    assertEquals(6L, slots.get(0).getSlot().longValue());
+    assertTrue(epochs.isEmpty());
+  }
+
+  @Test
+  void testTickAfterNewEpoch_mustNotifyEpochListeners() {
+    slotClock.tick();
+    clock.set(Instant.parse("2019-12-14T19:13:37.00Z"));
+    slotClock.tick();
+    assertEquals(1, slots.size());
+    assertEquals(1, epochs.size());
+    assertEquals(1L, epochs.get(0).getEpoch().longValue());
+    assertEquals(0L, epochs.get(0).getSlot().longValue());
+  }
+
+  @Test
+  void testTickBeforeGenesis_mustWaitForGenesisAndNotifyFirstSlot() {
+    clock.set(Instant.parse("2019-12-13T19:13:36.00Z"));
+    assertEquals(Duration.ofSeconds(1).toNanos(), slotClock.tick());
+    clock.advance(Duration.ofSeconds(1));
+    slotClock.tick();
+    assertEquals(1, slots.size());
+    assertEquals(1, epochs.size());
+    assertEquals(0L, epochs.get(0).getAbsoluteSlotExact());
+  }
+
+  @Test
+  void testFailingListener_mustNotPreventOtherListeners() {
+    slotClock.addSlotListener(date -> {
+      throw new IllegalStateException("failing listener");
+    });
+    List<CompleteSlotDate> otherSlots = new ArrayList<>();
+    slotClock.addSlotListener(otherSlots::add);
+    Thread thread = Thread.currentThread();
+    Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+    thread.setUncaughtExceptionHandler((t, e) -> {
+    });
+    try {
+      slotClock.tick();
+      clock.advance(Duration.ofSeconds(2));
+      slotClock.tick();
+    } finally {
+      thread.setUncaughtExceptionHandler(handler);
+    }
+    assertEquals(1, otherSlots.size());
+  }
+
+  @Test
+  void testStart_mustNotifyListenersOnSchedulerThread() throws InterruptedException {
+    TimeSetting setting = TimeSetting.with(Instant.now(), 10L, Duration.ofMillis(20));
+    CountDownLatch latch = new CountDownLatch(3);
+    try (SlotClock realClock = SlotClock.create(setting)) {
+      realClock.addSlotListener(date -> latch.countDown());
+      realClock.start();
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+      assertThrows(IllegalStateException.class, realClock::start);
+    }
+  }
+
+  @Test
+  void testStartWithFailingTicksAndListeners_mustKeepNotifying() throws InterruptedException {
+    TimeSetting setting = TimeSetting.with(Instant.now(), 10L, Duration.ofMillis(20));
+    AtomicInteger clockFailures = new AtomicInteger(3);
+    Clock failingClock = new Clock() {
+      @Override
+      public ZoneId getZone() {
+        return ZoneOffset.UTC;
+      }
+
+      @Override
+      public Clock withZone(ZoneId zone) {
+        return this;
+      }
+
+      @Override
+      public Instant instant() {
+        if (clockFailures.getAndDecrement() > 0) {
+          throw new IllegalStateException("failing clock");
+        }
+        return Instant.now();
+      }
+    };
+    List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(3);
+    Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+    Thread.setDefaultUncaughtExceptionHandler((t, e) -> failures.add(e));
+    try (SlotClock realClock = SlotClock.create(setting, failingClock)) {
+      realClock.addSlotListener(date -> {
+        throw new AssertionError("failing listener");
+      });
+      realClock.addSlotListener(date -> latch.countDown());
+      realClock.start();
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } finally {
+      Thread.setDefaultUncaughtExceptionHandler(handler);
+    }
+    assertTrue(failures.size() >= 5);
+  }
+
+  /**
+   * A {@link Clock} that only moves when the test sets it.
+   */
+  private static final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void set(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      this.instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotConverter}.
+ */
+public class SlotConverterTest {
+
+  private TimeSetting mainNetTimeSetting;
+
+  @BeforeEach
+  void setUp() {
+    mainNetTimeSetting = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void testDivide_mustMatchLongDivision() {
+    Random random = new Random(7L);
+    long[] divisors = {1L, 2L, 3L, 7L, 1024L, 21600L, 432000L, 333_000_000L, 20_000_000_000L,
+        (1L << 62) + 1, Long.MAX_VALUE};
+    for (long divisor : divisors) {
+      FixedPointDivisor fixedPointDivisor = new FixedPointDivisor(divisor);
+      assertEquals(Long.MAX_VALUE / divisor, fixedPointDivisor.divide(Long.MAX_VALUE));
+      assertEquals(0L, fixedPointDivisor.divide(0L));
+      assertEquals(1L, fixedPointDivisor.divide(divisor));
+      assertEquals(0L, fixedPointDivisor.divide(divisor - 1));
+      for (int i = 0; i < 10_000; i++) {
+        long dividend = (random.nextLong() >>> 1) >>> random.nextInt(63);
+        assertEquals(dividend / divisor, fixedPointDivisor.divide(dividend));
+      }
+    }
+  }
+
+  @Test
+  void testMultiplyHigh_mustMatchBigIntegerProduct() {
+    Random random = new Random(11L);
+    for (int i = 0; i < 10_000; i++) {
+      long x = random.nextLong();
+      long y = random.nextLong();
+      assertEquals(BigInteger.valueOf(x).multiply(BigInteger.valueOf(y))
+          .shiftRight(64).longValue(), Multiplication.multiplyHigh(x, y));
+    }
+  }
+
+  @Test
+  void testConvert_mustMatchTimeSettingForUnsortedTimes() {
+    SlotConverter converter = mainNetTimeSetting.newSlotConverter();
+    Random random = new Random(42L);
+    long genesis = mainNetTimeSetting.getGenesisBlockCreationTime().toEpochMilli();
+    for (int i = 0; i < 100_000; i++) {
+      long epochMilli = genesis + (random.nextLong() >>> 25);
+      long absoluteSlot = converter.convert(epochMilli);
+      CompleteSlotDate expected = mainNetTimeSetting
+          .getSlotDateFor(Instant.ofEpochMilli(epochMilli));
+      assertEquals(expected.getAbsoluteSlotExact(), absoluteSlot);
+      assertEquals(expected.getEpoch().longValueExact(), converter.getEpoch());
+      assertEquals(expected.getSlot().longValueExact(), converter.getSlot());
+    }
+  }
+
+  @Test
+  void testConvert_mustMatchTimeSettingForAscendingTimes() {
+    TimeSetting setting = TimeSetting
+        .with(Instant.parse("2020-07-29T21:44:51.123456789Z"), 7L, Duration.ofMillis(333))
+        .withEra(3L, 10L, Duration.ofNanos(7L))
+        .withEra(5L, 5L, Duration.ofSeconds(2));
+    SlotConverter converter = setting.newSlotConverter();
+    Instant time = setting.getGenesisBlockCreationTime();
+    for (int i = 0; i < 20_000; i++) {
+      assertEquals(setting.getSlotDateFor(time), setting
+          .getSlotDateForAbsoluteSlot(converter.convert(time)));
+      assertEquals(setting.getSlotDateFor(time), converter.getSlotDate());
+      time = time.plusNanos(i % 3 == 0 ? 5L : 1_234_567L);
+    }
+  }
+
+  @Test
+  void testConvertBulk_mustMatchSingleConversions() {
+    long genesis = mainNetTimeSetting.getGenesisBlockCreationTime().toEpochMilli();
+    long[] epochMillis = new long[1000];
+    Random random = new Random(3L);
+    for (int i = 0; i < epochMillis.length; i++) {
+      epochMillis[i] = genesis + Math.floorMod(random.nextLong(), 200_000_000_000L);
+    }
+    long[] absoluteSlots = new long[epochMillis.length];
+    mainNetTimeSetting.newSlotConverter().convert(epochMillis, absoluteSlots);
+    long[] expected = new long[epochMillis.length];
+    mainNetTimeSetting.getSlotDatesFor(epochMillis, expected, null, null);
+    for (int i = 0; i < epochMillis.length; i++) {
+      assertEquals(mainNetTimeSetting.absoluteSlotOfEpochMilli(epochMillis[i]), expected[i]);
+    }
+    assertArrayEquals(expected, absoluteSlots);
+  }
+
+  @Test
+  void testConvert_mustRejectTimesBeforeGenesis() {
+    SlotConverter converter = mainNetTimeSetting.newSlotConverter();
+    long genesis = mainNetTimeSetting.getGenesisBlockCreationTime().toEpochMilli();
+    assertEquals(0L, converter.convert(genesis));
+    assertThrows(IllegalArgumentException.class, () -> converter.convert(genesis - 1));
+    assertThrows(IllegalArgumentException.class, () -> converter.convert((Instant) null));
+    assertThrows(ArithmeticException.class, () -> converter.convert(Long.MAX_VALUE));
+  }
+
+  @Test
+  void testGetSlotDate_mustFailBeforeFirstConversion() {
+    assertThrows(IllegalStateException.class,
+        () -> mainNetTimeSetting.newSlotConverter().getSlotDate());
+  }
+}
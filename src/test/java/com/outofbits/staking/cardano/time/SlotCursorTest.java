@@ -0,0 +1,103 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotCursor}.
+ */
+public class SlotCursorTest {
+
+  private TimeSetting mainNetTimeSetting;
+
+  @BeforeEach
+  void setUp() {
+    mainNetTimeSetting = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void testAdvance_mustRollOverEpochsAcrossEras() {
+    SlotCursor cursor = SlotCursor.of(mainNetTimeSetting).seek(207L, 21590L);
+    cursor.advance(9L);
+    assertEquals(207L, cursor.getEpoch());
+    assertEquals(21599L, cursor.getSlot());
+    cursor.advance(1L);
+    assertEquals(208L, cursor.getEpoch());
+    assertEquals(0L, cursor.getSlot());
+    assertEquals(432000L, cursor.getSlotsInEpoch());
+    assertEquals(4492800L, cursor.getAbsoluteSlot());
+    cursor.advance(-2L);
+    assertEquals(207L, cursor.getEpoch());
+    assertEquals(21598L, cursor.getSlot());
+    cursor.advance(432000L * 23 + 2L);
+    assertEquals(231L, cursor.getEpoch());
+    assertEquals(0L, cursor.getSlot());
+  }
+
+  @Test
+  void testNext_mustVisitSameSlotsAsRange() {
+    SlotCursor cursor = SlotCursor.of(mainNetTimeSetting).seek(4492790L);
+    for (CompleteSlotDate date : SlotRange.of(mainNetTimeSetting, 4492790L, 4492810L)) {
+      assertTrue(cursor.sameAs(date));
+      assertEquals(date.getAbsoluteSlotExact(), cursor.getAbsoluteSlot());
+      cursor.next();
+    }
+  }
+
+  @Test
+  void testNextEpoch_mustMoveToFirstSlotOfNextEpoch() {
+    SlotCursor cursor = SlotCursor.of(mainNetTimeSetting).seek(207L, 12345L).nextEpoch();
+    assertEquals(208L, cursor.getEpoch());
+    assertEquals(0L, cursor.getSlot());
+    assertEquals(4492800L, cursor.getAbsoluteSlot());
+    assertEquals(4924800L, cursor.nextEpoch().getAbsoluteSlot());
+  }
+
+  @Test
+  void testSeek_timeMustMatchTimeSetting() {
+    Instant time = Instant.parse("2020-12-01T12:34:56.789Z");
+    SlotCursor cursor = SlotCursor.of(mainNetTimeSetting).seek(time);
+    CompleteSlotDate expected = mainNetTimeSetting.getSlotDateFor(time);
+    assertTrue(cursor.sameAs(expected));
+    assertEquals(expected, cursor.snapshot());
+    assertEquals(cursor.getAbsoluteSlot(),
+        cursor.seekEpochMilli(time.toEpochMilli()).getAbsoluteSlot());
+    assertThrows(IllegalArgumentException.class,
+        () -> cursor.seek(Instant.parse("2017-09-23T21:44:50Z")));
+  }
+
+  @Test
+  void testCompareTo_mustCompareWithAnyPlainSlotDate() {
+    SlotCursor cursor = SlotCursor.of(mainNetTimeSetting).seek(231L, 100L);
+    assertTrue(cursor.before(SlotDateFactory.plainInstance(231L, 101L)));
+    assertTrue(cursor.after(SlotDateFactory.plainInstance(230L, 431999L)));
+    assertTrue(cursor.before(SlotDateFactory.plainInstance(BigInteger.ONE.shiftLeft(70),
+        BigInteger.ZERO)));
+  }
+
+  @Test
+  void testSnapshot_mustBeIndependentOfCursor() {
+    SlotCursor cursor = SlotCursor.of(mainNetTimeSetting).seek(231L, 100L);
+    CompleteSlotDate snapshot = cursor.snapshot();
+    cursor.advance(1000L);
+    assertEquals(BigInteger.valueOf(100L), snapshot.getSlot());
+    assertSame(mainNetTimeSetting, snapshot.getTimeSetting());
+  }
+
+  @Test
+  void testAdvance_beforeFirstSlotMustThrowException() {
+    SlotCursor cursor = SlotCursor.of(mainNetTimeSetting).seek(0L, 5L);
+    assertThrows(IllegalArgumentException.class, () -> cursor.advance(-6L));
+    assertThrows(IllegalArgumentException.class, () -> cursor.advance(Long.MAX_VALUE));
+  }
+}
@@ -0,0 +1,119 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotDateCodec}.
+ */
+public class SlotDateCodecTest {
+
+  private TimeSetting mainNetTimeSetting;
+
+  @BeforeEach
+  void setUp() {
+    mainNetTimeSetting = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void testPlainSlotDate_mustBeReadAsWritten() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    PlainSlotDate compactDate = SlotDateFactory.plainInstance(231L, 12345L);
+    PlainSlotDate hugeDate = SlotDateFactory.plainInstance(BigInteger.ONE.shiftLeft(80),
+        BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.TEN));
+    SlotDateCodec.writePlainSlotDate(buffer, compactDate);
+    assertEquals(4, buffer.position());
+    SlotDateCodec.writePlainSlotDate(buffer, hugeDate);
+    buffer.flip();
+    assertTrue(compactDate.sameAs(SlotDateCodec.readPlainSlotDate(buffer)));
+    assertTrue(hugeDate.sameAs(SlotDateCodec.readPlainSlotDate(buffer)));
+    assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void testCompleteSlotDate_mustBeReadAsWritten() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+    CompleteSlotDate date = SlotDateFactory.completeInstance(231L, 12345L, mainNetTimeSetting);
+    SlotDateCodec.writeCompleteSlotDate(buffer, date);
+    buffer.flip();
+    assertEquals(date, SlotDateCodec.readCompleteSlotDate(buffer, mainNetTimeSetting));
+  }
+
+  @Test
+  void testTimeSetting_mustBeReadAsCanonicalInstance() {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    SlotDateCodec.writeTimeSetting(buffer, mainNetTimeSetting);
+    SlotDateCodec.writeTimeSetting(buffer, TimeSetting.INCENTIVIZED_TEST_NET);
+    buffer.flip();
+    assertSame(TimeSetting.MAIN_NET, SlotDateCodec.readTimeSetting(buffer));
+    assertSame(TimeSetting.INCENTIVIZED_TEST_NET, SlotDateCodec.readTimeSetting(buffer));
+  }
+
+  @Test
+  void testAbsoluteSlots_sortedSlotsMustTakeAtMostTwoBytesPerSlot() {
+    long[] absoluteSlots = new long[1000];
+    absoluteSlots[0] = 39745001L;
+    for (int i = 1; i < absoluteSlots.length; i++) {
+      absoluteSlots[i] = absoluteSlots[i - 1] + 1 + (i * 7919L) % 300;
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(4096);
+    SlotDateCodec.writeAbsoluteSlots(buffer, absoluteSlots, 0, absoluteSlots.length);
+    assertTrue(buffer.position() <= 2 + 4 + 2 * (absoluteSlots.length - 1));
+    buffer.flip();
+    assertArrayEquals(absoluteSlots, SlotDateCodec.readAbsoluteSlots(buffer));
+  }
+
+  @Test
+  void testAbsoluteSlots_unsortedSlotsMustBeReadIntoTarget() {
+    long[] absoluteSlots = {500L, 20L, Long.MAX_VALUE, 0L};
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    SlotDateCodec.writeAbsoluteSlots(buffer, absoluteSlots, 1, 4);
+    buffer.flip();
+    long[] target = new long[4];
+    assertEquals(3, SlotDateCodec.readAbsoluteSlots(buffer, target, 1));
+    assertArrayEquals(new long[]{0L, 20L, Long.MAX_VALUE, 0L}, target);
+  }
+
+  @Test
+  void testAbsoluteSlots_negativeSlotMustThrowException() {
+    assertThrows(IllegalArgumentException.class, () -> SlotDateCodec
+        .writeAbsoluteSlots(ByteBuffer.allocate(64), new long[]{-1L}, 0, 1));
+  }
+
+  @Test
+  void testAbsoluteSlots_countBeyondBufferMustThrowUnderflowWithoutAllocating() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    SlotDateCodec.writeVarLong(buffer, Integer.MAX_VALUE);
+    buffer.put((byte) 2);
+    ((Buffer) buffer).flip();
+    assertThrows(BufferUnderflowException.class,
+        () -> SlotDateCodec.readAbsoluteSlots(buffer.duplicate()));
+    assertThrows(BufferUnderflowException.class,
+        () -> SlotDateCodec.readAbsoluteSlots(buffer.duplicate(), new long[0], 0));
+  }
+
+  @Test
+  void testAbsoluteSlots_negativeReadSlotMustThrowException() {
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    SlotDateCodec.writeVarLong(buffer, 2L);
+    SlotDateCodec.writeVarLong(buffer, SlotDateCodec.zigzag(10L));
+    SlotDateCodec.writeVarLong(buffer, SlotDateCodec.zigzag(-11L));
+    ((Buffer) buffer).flip();
+    assertThrows(IllegalArgumentException.class, () -> SlotDateCodec.readAbsoluteSlots(buffer));
+  }
+}
@@ -0,0 +1,147 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotDateColumn}.
+ */
+public class SlotDateColumnTest {
+
+  private TimeSetting mainNetTimeSetting;
+
+  @BeforeEach
+  void setUp() {
+    mainNetTimeSetting = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void testAdd_mustGrowAndProvideViews() {
+    SlotDateColumn column = SlotDateColumn.create(mainNetTimeSetting, 0);
+    for (long i = 0; i < 1000; i++) {
+      column.add(i * 4493L);
+    }
+    column.add(mainNetTimeSetting.getSlotDateForAbsoluteSlot(12L));
+    assertEquals(1001, column.size());
+    assertEquals(4493L * 999, column.getAbsoluteSlot(999));
+    assertEquals(mainNetTimeSetting.getSlotDateForAbsoluteSlot(4493L * 999), column.get(999));
+    assertEquals(SlotDateFactory.completeInstance(0L, 12L, mainNetTimeSetting), column.get(1000));
+    List<CompleteSlotDate> dates = column.asList();
+    assertEquals(1001, dates.size());
+    assertEquals(column.get(500), dates.get(500));
+    assertThrows(IndexOutOfBoundsException.class, () -> column.get(1001));
+    assertThrows(IllegalArgumentException.class, () -> column.add(-1L));
+  }
+
+  @Test
+  void testAddWithOtherTimeSetting_mustThrowIllegalArgumentException() {
+    SlotDateColumn column = SlotDateColumn.create(mainNetTimeSetting);
+    TimeSetting otherSetting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 43200L,
+        Duration.ofSeconds(2));
+    assertThrows(IllegalArgumentException.class,
+        () -> column.add(otherSetting.getSlotDateForAbsoluteSlot(1L)));
+  }
+
+  @Test
+  void testSortAndBinarySearch_mustMatchArrays() {
+    for (boolean direct : new boolean[]{false, true}) {
+      Random random = new Random(13L);
+      long[] values = new long[5000];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextInt(20000);
+      }
+      SlotDateColumn column = direct ? SlotDateColumn.allocateDirect(mainNetTimeSetting, 10)
+          : SlotDateColumn.create(mainNetTimeSetting);
+      column.addAll(values);
+      assertEquals(direct, column.isDirect());
+      assertFalse(column.isSorted());
+      assertThrows(IllegalStateException.class, () -> column.binarySearch(5L));
+      column.sort();
+      long[] sorted = values.clone();
+      Arrays.sort(sorted);
+      assertArrayEquals(sorted, column.toArray());
+      assertTrue(column.isSorted());
+      for (long key = -1; key < 20010; key++) {
+        int index = column.binarySearch(key);
+        int expected = Arrays.binarySearch(sorted, key);
+        if (expected >= 0) {
+          assertEquals(key, column.getAbsoluteSlot(index));
+          assertTrue(index == 0 || column.getAbsoluteSlot(index - 1) < key);
+        } else {
+          assertEquals(expected, index);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testGetStartTimes_mustMatchSlotDates() {
+    SlotDateColumn column = SlotDateColumn.allocateDirect(mainNetTimeSetting, 4)
+        .addAll(new long[]{0L, 4492799L, 4492800L, 12345678L});
+    long[] epochMillis = new long[column.size()];
+    column.getStartTimes(epochMillis);
+    for (int i = 0; i < column.size(); i++) {
+      assertEquals(column.get(i).getStartTime().toEpochMilli(), epochMillis[i]);
+    }
+    assertThrows(IllegalArgumentException.class, () -> column.getStartTimes(new long[3]));
+  }
+
+  @Test
+  void testDirectColumnOverSeveralChunks_mustBehaveLikeHeapColumn() {
+    Random random = new Random(7L);
+    SlotDateColumn heap = SlotDateColumn.create(mainNetTimeSetting);
+    SlotDateColumn chunked = SlotDateColumn.allocateDirect(mainNetTimeSetting, 3, 6);
+    for (int i = 0; i < 1000; i++) {
+      long absoluteSlot = random.nextInt(5_000_000);
+      heap.add(absoluteSlot);
+      chunked.add(absoluteSlot);
+    }
+    long[] values = new long[333];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = random.nextInt(5_000_000);
+    }
+    heap.addAll(values);
+    chunked.addAll(values);
+    chunked.set(700, 17L);
+    heap.set(700, 17L);
+    assertArrayEquals(heap.toArray(), chunked.toArray());
+    long[] heapStartTimes = new long[heap.size()];
+    long[] chunkedStartTimes = new long[chunked.size()];
+    heap.getStartTimes(heapStartTimes);
+    chunked.getStartTimes(chunkedStartTimes);
+    assertArrayEquals(heapStartTimes, chunkedStartTimes);
+    heap.sort();
+    chunked.sort();
+    assertArrayEquals(heap.toArray(), chunked.toArray());
+    for (int i = 0; i < heap.size(); i += 37) {
+      long key = heap.getAbsoluteSlot(i);
+      assertEquals(heap.binarySearch(key), chunked.binarySearch(key));
+      assertEquals(heap.get(i), chunked.get(i));
+    }
+    SlotDateColumn large = SlotDateColumn.allocateDirect(mainNetTimeSetting, 200, 6);
+    assertEquals(0, large.size());
+    large.addAll(values);
+    assertArrayEquals(values, large.toArray());
+  }
+
+  @Test
+  void testToColumn_mustContainValidRowsOfBatch() {
+    SlotDateBatch batch = SlotDateFactory.completeInstances(new long[]{1L, 2L, 3L},
+        new long[]{5L, 21600L, 7L}, mainNetTimeSetting);
+    SlotDateColumn column = batch.toColumn();
+    assertArrayEquals(new long[]{21605L, 3L * 21600L + 7L}, column.toArray());
+  }
+}
@@ -8,9 +8,16 @@ import java.time.Instant;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * This class tests the {@link SlotDateFactory}.
@@ -102,4 +109,135 @@ public class SlotDateFactoryTest {
     });
   }
 
+  @Test
+  void testPlainInstanceNegativeLongEpoch_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotDateFactory.plainInstance(-1L, 0L);
+    });
+  }
+
+  @Test
+  void testPlainInstanceNegativeLongSlot_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotDateFactory.plainInstance(0L, -1L);
+    });
+  }
+
+  @Test
+  void testPlainInstanceFittingIntoLong_mustReturnCompactInstance() {
+    PlainSlotDate date = SlotDateFactory
+        .plainInstance(BigInteger.valueOf(Long.MAX_VALUE), BigInteger.ONE);
+    assertTrue(date instanceof CompactPlainSlotDateImpl);
+    assertEquals(Long.MAX_VALUE, date.getEpoch().longValue());
+  }
+
+  @Test
+  void testPlainInstanceExceedingLong_mustReturnBigIntegerInstance() {
+    BigInteger epoch = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+    PlainSlotDate date = SlotDateFactory.plainInstance(epoch, BigInteger.ONE);
+    assertTrue(date instanceof PlainSlotDateImpl);
+    assertEquals(epoch, date.getEpoch());
+  }
+
+  @Test
+  void testCompleteInstanceWithInvalidLongPlainDate_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotDateFactory.completeInstance(0L, 43200L, defaultTimeSetting);
+    });
+  }
+
+  @Test
+  void testCachedCompleteInstance_mustReturnSameInstanceForSameSlot() {
+    CompleteSlotDate date = SlotDateFactory.cachedCompleteInstance(17L, 10653L, defaultTimeSetting);
+    CompleteSlotDate sameDate = SlotDateFactory
+        .cachedCompleteInstance(745053L, defaultTimeSetting);
+    assertSame(date, sameDate);
+    assertEquals(SlotDateFactory.completeInstance(17L, 10653L, defaultTimeSetting), date);
+  }
+
+  @Test
+  void testCacheOfNonPositiveCapacity_mustDisableCache() {
+    assertNull(SlotDateFactory.cacheOf(0));
+    assertNull(SlotDateFactory.cacheOf(-1));
+    assertNotNull(SlotDateFactory.cacheOf(1));
+  }
+
+  @Test
+  void testCacheWithInvalidCapacity_mustThrowIllegalArgumentException() {
+    for (int capacity : new int[]{0, -1, SlotDateCache.MAX_CAPACITY + 1, Integer.MAX_VALUE}) {
+      assertThrows(IllegalArgumentException.class, () -> new SlotDateCache(capacity));
+    }
+  }
+
+  @Test
+  void testCachedCompleteInstanceWithInvalidPlainDate_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotDateFactory.cachedCompleteInstance(0L, 43200L, defaultTimeSetting);
+    });
+  }
+
+  @Test
+  void testCachedCompleteInstanceNullTimeSetting_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotDateFactory.cachedCompleteInstance(12L, null);
+    });
+  }
+
+  @Test
+  void testCompleteInstances_mustMatchSingleInstancesAndMarkInvalidRows() {
+    int size = 3 * SlotDateBatch.SPLIT_THRESHOLD + 17;
+    long[] epochs = new long[size];
+    long[] slots = new long[size];
+    BitSet expectedInvalidRows = new BitSet();
+    for (int i = 0; i < size; i++) {
+      epochs[i] = i % 300;
+      slots[i] = (i * 7919L) % 43200L;
+      if (i % 1001 == 5) {
+        slots[i] = 43200L;
+        expectedInvalidRows.set(i);
+      } else if (i % 1777 == 3) {
+        epochs[i] = -1L;
+        expectedInvalidRows.set(i);
+      }
+    }
+    epochs[size - 1] = Long.MAX_VALUE;
+    expectedInvalidRows.set(size - 1);
+    SlotDateBatch batch = SlotDateFactory.completeInstances(epochs, slots, defaultTimeSetting);
+    assertEquals(size, batch.size());
+    assertFalse(batch.isValid());
+    assertEquals(expectedInvalidRows, batch.getInvalidRows());
+    assertEquals(expectedInvalidRows.cardinality(), batch.getInvalidCount());
+    for (int i = 0; i < size; i++) {
+      if (expectedInvalidRows.get(i)) {
+        int row = i;
+        assertEquals(-1L, batch.getAbsoluteSlot(i));
+        assertThrows(IllegalArgumentException.class, () -> batch.get(row));
+      } else {
+        assertEquals(SlotDateFactory.completeInstance(epochs[i], slots[i], defaultTimeSetting),
+            batch.get(i));
+      }
+    }
+    assertThrows(IllegalStateException.class, batch::asList);
+  }
+
+  @Test
+  void testCompleteInstancesAllValid_mustProvideListView() {
+    long[] epochs = {0L, 1L, 250L, 250L};
+    long[] slots = {0L, 43199L, 12L, 13L};
+    SlotDateBatch batch = SlotDateFactory.completeInstances(epochs, slots, defaultTimeSetting);
+    assertTrue(batch.isValid());
+    List<CompleteSlotDate> dates = batch.asList();
+    assertEquals(4, dates.size());
+    assertEquals(SlotDateFactory.completeInstance(250L, 13L, defaultTimeSetting), dates.get(3));
+    assertEquals(250L * 43200L + 12L, batch.getAbsoluteSlot(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> batch.getAbsoluteSlot(4));
+  }
+
+  @Test
+  void testCompleteInstancesWithDifferentLengths_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> SlotDateFactory
+        .completeInstances(new long[2], new long[1], defaultTimeSetting));
+    assertThrows(IllegalArgumentException.class, () -> SlotDateFactory
+        .completeInstances(new long[1], new long[1], null));
+  }
 }
@@ -0,0 +1,94 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotIndex}.
+ */
+public class SlotIndexTest {
+
+  private TimeSetting defaultTimeSetting;
+  private SlotIndex index;
+
+  @BeforeEach
+  void setUp() {
+    defaultTimeSetting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 43200L,
+        Duration.ofSeconds(2));
+    index = SlotIndex.of(defaultTimeSetting,
+        new long[]{43210L, 12L, 86400L, 43200L, 12L, 129599L},
+        new long[]{4L, 1L, 5L, 3L, 2L, 6L});
+  }
+
+  @Test
+  void testOf_mustSortEntriesWithPayload() {
+    assertEquals(6, index.size());
+    assertEquals(1, index.getPayloadColumnCount());
+    long[] expectedSlots = new long[]{12L, 12L, 43200L, 43210L, 86400L, 129599L};
+    for (int i = 0; i < expectedSlots.length; i++) {
+      assertEquals(expectedSlots[i], index.getAbsoluteSlot(i));
+      assertEquals(i + 1, index.getPayload(0, i));
+    }
+    assertEquals(1L, index.getSlotDate(3).getEpoch().longValue());
+    assertEquals(10L, index.getSlotDate(3).getSlot().longValue());
+  }
+
+  @Test
+  void testEpochIndices_mustReturnEntriesOfEpoch() {
+    assertEquals(0, index.epochStartIndex(0L));
+    assertEquals(2, index.epochEndIndex(0L));
+    assertEquals(2, index.epochStartIndex(1L));
+    assertEquals(4, index.epochEndIndex(1L));
+    assertEquals(4, index.epochStartIndex(2L));
+    assertEquals(6, index.epochEndIndex(2L));
+    assertEquals(6, index.epochStartIndex(3L));
+    assertEquals(6, index.epochEndIndex(Long.MAX_VALUE));
+  }
+
+  @Test
+  void testFirstIndexAfter_mustReturnFirstEntryStrictlyAfterSlot() {
+    assertEquals(0, index.firstIndexAfter(0L));
+    assertEquals(2, index.firstIndexAfter(12L));
+    assertEquals(-1, index.firstIndexAfter(129599L));
+    assertEquals(0, index.indexOf(12L));
+    assertEquals(-1, index.indexOf(13L));
+  }
+
+  @Test
+  void testOfWithMismatchingPayload_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotIndex.of(defaultTimeSetting, new long[]{1L, 2L}, new long[]{1L});
+    });
+  }
+
+  @Test
+  void testOfWithNegativeSlot_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotIndex.of(defaultTimeSetting, new long[]{-1L});
+    });
+  }
+
+  @Test
+  void testOfWithManyUnsortedSlots_mustSortStable() {
+    int size = 1000;
+    long[] slots = new long[size];
+    long[] payload = new long[size];
+    for (int i = 0; i < size; i++) {
+      slots[i] = (i * 7919L) % 97L;
+      payload[i] = i;
+    }
+    SlotIndex bigIndex = SlotIndex.of(defaultTimeSetting, slots, payload);
+    for (int i = 1; i < size; i++) {
+      assertTrue(bigIndex.getAbsoluteSlot(i - 1) <= bigIndex.getAbsoluteSlot(i));
+      if (bigIndex.getAbsoluteSlot(i - 1) == bigIndex.getAbsoluteSlot(i)) {
+        assertTrue(bigIndex.getPayload(0, i - 1) < bigIndex.getPayload(0, i));
+      }
+    }
+  }
+}
@@ -0,0 +1,125 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotInterval} and the {@link SlotIntervalIndex}.
+ */
+public class SlotIntervalIndexTest {
+
+  @Test
+  void testSlotInterval_mustCheckContainmentAndOverlap() {
+    SlotInterval interval = SlotInterval.of(100L, 200L);
+    assertTrue(interval.contains(100L));
+    assertFalse(interval.contains(200L));
+    assertTrue(interval.contains(SlotInterval.of(150L, 200L)));
+    assertTrue(interval.overlaps(SlotInterval.of(199L, 300L)));
+    assertFalse(interval.overlaps(SlotInterval.of(200L, 300L)));
+    assertFalse(interval.overlaps(SlotInterval.of(150L, 150L)));
+    assertEquals(SlotInterval.of(4492800L, 4924800L),
+        SlotInterval.ofEpoch(TimeSetting.MAIN_NET, 208L));
+    assertThrows(IllegalArgumentException.class, () -> SlotInterval.of(200L, 100L));
+  }
+
+  @Test
+  void testContaining_mustReportIntervalsInOrderOfStart() {
+    SlotIntervalIndex index = SlotIntervalIndex.of(Arrays.asList(
+        SlotInterval.of(50L, 150L), SlotInterval.of(0L, 100L), SlotInterval.of(120L, 130L),
+        SlotInterval.of(99L, 99L)));
+    assertArrayEquals(new int[]{1, 0}, index.containing(99L));
+    assertArrayEquals(new int[]{0, 2}, index.containing(125L));
+    assertArrayEquals(new int[0], index.containing(150L));
+    assertArrayEquals(new int[]{1, 0, 2}, index.overlapping(99L, 121L));
+    assertEquals(SlotInterval.of(120L, 130L), index.get(2));
+  }
+
+  @Test
+  void testOverlapping_mustMatchLinearScan() {
+    Random random = new Random(42L);
+    for (int size : new int[]{0, 1, 2, 7, 16, 17, 100, 1000, 4097}) {
+      List<SlotInterval> intervals = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        long start = random.nextInt(100_000);
+        long length = random.nextInt(10) == 0 ? random.nextInt(20_000) : random.nextInt(500);
+        intervals.add(SlotInterval.of(start, start + length));
+      }
+      SlotIntervalIndex index = SlotIntervalIndex.of(intervals);
+      for (int query = 0; query < 200; query++) {
+        long from = random.nextInt(110_000);
+        long to = from + random.nextInt(3) * random.nextInt(2_000) + 1;
+        boolean[] expected = new boolean[size];
+        int expectedCount = 0;
+        for (int i = 0; i < size; i++) {
+          if (intervals.get(i).overlaps(from, to)) {
+            expected[i] = true;
+            expectedCount++;
+          }
+        }
+        int[] actual = index.overlapping(from, to);
+        assertEquals(expectedCount, actual.length);
+        assertEquals(expectedCount, index.countOverlapping(from, to));
+        for (int id : actual) {
+          assertTrue(expected[id]);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testContainingLongIntervalInIncompleteTree_mustReportIt() {
+    long[] from = new long[43];
+    long[] to = new long[43];
+    for (int i = 0; i < from.length; i++) {
+      from[i] = i;
+      to[i] = i + 1;
+    }
+    to[40] = 1000L;
+    SlotIntervalIndex index = SlotIntervalIndex.of(from, to);
+    assertArrayEquals(new int[]{40}, index.containing(500L));
+    assertArrayEquals(new int[]{40}, index.overlapping(43L, 2000L));
+  }
+
+  @Test
+  void testContainingAndOverlappingWithFewLongIntervals_mustMatchLinearScan() {
+    Random random = new Random(17L);
+    for (int round = 0; round < 300; round++) {
+      int size = 1 + random.nextInt(600);
+      long[] from = new long[size];
+      long[] to = new long[size];
+      for (int i = 0; i < size; i++) {
+        from[i] = random.nextInt(2 * size);
+        to[i] = from[i] + (random.nextInt(20) == 0 ? random.nextInt(10 * size)
+            : 1 + random.nextInt(3));
+      }
+      SlotIntervalIndex index = SlotIntervalIndex.of(from, to);
+      for (int query = 0; query < 50; query++) {
+        long slot = random.nextInt(12 * size);
+        long end = slot + 1 + random.nextInt(size);
+        assertArrayEquals(linearScan(from, to, slot, slot + 1), sorted(index.containing(slot)));
+        assertArrayEquals(linearScan(from, to, slot, end), sorted(index.overlapping(slot, end)));
+      }
+    }
+  }
+
+  private static int[] linearScan(long[] from, long[] to, long fromSlot, long toSlot) {
+    return IntStream.range(0, from.length)
+        .filter(i -> from[i] < to[i] && from[i] < toSlot && fromSlot < to[i]).toArray();
+  }
+
+  private static int[] sorted(int[] ids) {
+    int[] copy = ids.clone();
+    Arrays.sort(copy);
+    return copy;
+  }
+}
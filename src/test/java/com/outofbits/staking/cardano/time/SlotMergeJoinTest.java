@@ -0,0 +1,85 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotMergeJoin}.
+ */
+public class SlotMergeJoinTest {
+
+  private TimeSetting mainNetTimeSetting;
+
+  @BeforeEach
+  void setUp() {
+    mainNetTimeSetting = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void testJoin_mustReportEventsInAscendingOrder() {
+    List<String> events = new ArrayList<>();
+    SlotJoinSummary summary = SlotMergeJoin.join(mainNetTimeSetting,
+        LongStream.of(5L, 4492799L, 4492800L, 4925000L),
+        LongStream.of(3L, 4492800L, 4925000L, 4925001L),
+        (event, epoch, absoluteSlot) -> events.add(event + ":" + epoch + ":" + absoluteSlot));
+    assertEquals(Arrays.asList("UNEXPECTED:0:3", "MISSED:0:5", "MISSED:207:4492799",
+        "MATCHED:208:4492800", "MATCHED:209:4925000", "UNEXPECTED:209:4925001"), events);
+    assertEquals(2L, summary.getMatchedCount());
+    assertEquals(2L, summary.getMissedCount());
+    assertEquals(2L, summary.getUnexpectedCount());
+    assertEquals(4L, summary.getExpectedCount());
+    assertEquals(4L, summary.getObservedCount());
+  }
+
+  @Test
+  void testJoin_mustMatchSetOperations() {
+    Random random = new Random(5L);
+    TreeSet<Long> expected = new TreeSet<>();
+    TreeSet<Long> observed = new TreeSet<>();
+    for (int i = 0; i < 20000; i++) {
+      expected.add((long) random.nextInt(1_000_000));
+      observed.add((long) random.nextInt(1_000_000));
+    }
+    long[] previous = {-1L};
+    SlotJoinSummary summary = SlotMergeJoin.join(mainNetTimeSetting,
+        expected.stream().mapToLong(Long::longValue), observed.stream().mapToLong(Long::longValue),
+        (event, epoch, absoluteSlot) -> {
+          assertEquals(mainNetTimeSetting.epochOfAbsoluteSlot(absoluteSlot), epoch);
+          assertEquals(event != SlotJoinEvent.UNEXPECTED, expected.contains(absoluteSlot));
+          assertEquals(event != SlotJoinEvent.MISSED, observed.contains(absoluteSlot));
+          assertEquals(true, absoluteSlot > previous[0]);
+          previous[0] = absoluteSlot;
+        });
+    TreeSet<Long> common = new TreeSet<>(expected);
+    common.retainAll(observed);
+    assertEquals(common.size(), summary.getMatchedCount());
+    assertEquals(expected.size() - common.size(), summary.getMissedCount());
+    assertEquals(observed.size() - common.size(), summary.getUnexpectedCount());
+  }
+
+  @Test
+  void testJoinWithUnsortedSource_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> SlotMergeJoin.join(mainNetTimeSetting,
+        LongStream.of(1L, 3L, 2L), LongStream.empty(), (event, epoch, absoluteSlot) -> {
+        }));
+    assertThrows(IllegalArgumentException.class, () -> SlotMergeJoin.join(mainNetTimeSetting,
+        LongStream.empty(), LongStream.of(1L, 1L), (event, epoch, absoluteSlot) -> {
+        }));
+    assertThrows(IllegalArgumentException.class, () -> SlotMergeJoin.join(mainNetTimeSetting,
+        LongStream.of(-1L), LongStream.empty(), (event, epoch, absoluteSlot) -> {
+        }));
+  }
+}
@@ -0,0 +1,100 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotRange}.
+ */
+public class SlotRangeTest {
+
+  private TimeSetting mainNetTimeSetting;
+
+  @BeforeEach
+  void setUp() {
+    mainNetTimeSetting = TimeSetting
+        .with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void testOfEpochs_mustContainAllSlotsOfEpochs() {
+    SlotRange range = SlotRange.ofEpochs(mainNetTimeSetting, 207L, 208L);
+    assertEquals(21600L + 432000L, range.size());
+    assertEquals(4471200L, range.getFromAbsoluteSlot());
+    assertTrue(range.contains(4492800L));
+    assertFalse(range.contains(4471200L + 21600L + 432000L));
+  }
+
+  @Test
+  void testIterator_mustRollOverEpochsAcrossEras() {
+    Iterator<CompleteSlotDate> iterator = SlotRange.of(mainNetTimeSetting, 4492799L, 4492801L)
+        .iterator();
+    CompleteSlotDate lastByronDate = iterator.next();
+    assertEquals(207L, lastByronDate.getEpoch().longValue());
+    assertEquals(21599L, lastByronDate.getSlot().longValue());
+    CompleteSlotDate firstShelleyDate = iterator.next();
+    assertEquals(208L, firstShelleyDate.getEpoch().longValue());
+    assertEquals(0L, firstShelleyDate.getSlot().longValue());
+    assertEquals(4492800L, firstShelleyDate.getAbsoluteSlotExact());
+    assertFalse(iterator.hasNext());
+  }
+
+  @Test
+  void testStream_mustMatchSlotDatesOfTimeSetting() {
+    List<CompleteSlotDate> dates = SlotRange.of(mainNetTimeSetting, 4492700L, 4492900L)
+        .stream().collect(Collectors.toList());
+    assertEquals(200, dates.size());
+    for (CompleteSlotDate date : dates) {
+      assertEquals(mainNetTimeSetting.getSlotDateForAbsoluteSlot(date.getAbsoluteSlotExact()),
+          date);
+    }
+  }
+
+  @Test
+  void testParallelStream_mustVisitEverySlotOnce() {
+    SlotRange range = SlotRange.ofEpochs(mainNetTimeSetting, 200L, 210L);
+    long expectedSum = range.absoluteSlots().sum();
+    assertEquals(expectedSum, range.parallelStream()
+        .mapToLong(CompleteSlotDate::getAbsoluteSlotExact).sum());
+    assertEquals(range.size(), range.absoluteSlots().parallel().count());
+  }
+
+  @Test
+  void testSpliterator_mustSplitIntoBalancedParts() {
+    Spliterator<CompleteSlotDate> spliterator = SlotRange.of(mainNetTimeSetting, 0L, 1000L)
+        .spliterator();
+    spliterator.tryAdvance(date -> assertEquals(0L, date.getAbsoluteSlotExact()));
+    Spliterator<CompleteSlotDate> prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertEquals(499L, prefix.estimateSize());
+    assertEquals(500L, spliterator.estimateSize());
+    spliterator.tryAdvance(date -> {
+      assertEquals(500L, date.getAbsoluteSlotExact());
+      assertEquals(0L, date.getEpoch().longValue());
+      assertEquals(500L, date.getSlot().longValue());
+    });
+  }
+
+  @Test
+  void testOfWithInvalidRange_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotRange.of(mainNetTimeSetting, 10L, 9L);
+    });
+    assertThrows(IllegalArgumentException.class, () -> {
+      SlotRange.ofEpochs(mainNetTimeSetting, 0L, Long.MAX_VALUE);
+    });
+  }
+}
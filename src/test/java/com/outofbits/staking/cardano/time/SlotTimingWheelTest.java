@@ -0,0 +1,266 @@
+package com.outofbits.staking.cardano.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class tests the {@link SlotTimingWheel}.
+ */
+public class SlotTimingWheelTest {
+
+  private TimeSetting timeSetting;
+  private MutableClock clock;
+  private SlotTimingWheel wheel;
+  private List<Long> fired;
+
+  @BeforeEach
+  void setUp() {
+    // 10 slots per epoch until epoch 5 (absolute slot 50), and 20 slots per epoch afterwards.
+    timeSetting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 10L,
+        Duration.ofSeconds(1)).withEra(5L, 20L, Duration.ofSeconds(1));
+    clock = new MutableClock(Instant.parse("2019-12-13T19:13:39.50Z"));
+    wheel = SlotTimingWheel.create(timeSetting, clock);
+    fired = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  private void scheduleRecording(long absoluteSlot) {
+    wheel.schedule(absoluteSlot, () -> fired.add(absoluteSlot));
+  }
+
+  private void moveTo(long absoluteSlot) {
+    clock.set(timeSetting.getSlotDateForAbsoluteSlot(absoluteSlot).getStartTime());
+  }
+
+  @Test
+  void testTick_mustFireTasksOfStartedSlotsInOrder() {
+    for (long slot : new long[]{4L, 3L, 3L, 12L, 49L, 75L, 1000L}) {
+      scheduleRecording(slot);
+    }
+    assertEquals(7, wheel.size());
+    assertEquals(500_000_000L, wheel.tick());
+    assertTrue(fired.isEmpty());
+    moveTo(3L);
+    assertEquals(Duration.ofSeconds(1).toNanos(), wheel.tick());
+    assertEquals(Arrays.asList(3L, 3L), fired);
+    moveTo(60L);
+    wheel.tick();
+    assertEquals(Arrays.asList(3L, 3L, 4L, 12L, 49L), fired);
+    moveTo(999L);
+    wheel.tick();
+    assertEquals(Arrays.asList(3L, 3L, 4L, 12L, 49L, 75L), fired);
+    moveTo(1000L);
+    wheel.tick();
+    assertEquals(Arrays.asList(3L, 3L, 4L, 12L, 49L, 75L, 1000L), fired);
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void testSchedulePassedSlot_mustFireImmediately() {
+    ScheduledSlotTask task = wheel.schedule(2L, () -> fired.add(2L));
+    assertTrue(task.isFired());
+    assertEquals(Collections.singletonList(2L), fired);
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void testCancel_mustRemoveTaskFromBothLevels() {
+    ScheduledSlotTask near = wheel.schedule(5L, () -> fired.add(5L));
+    ScheduledSlotTask far = wheel.schedule(500L, () -> fired.add(500L));
+    scheduleRecording(5L);
+    scheduleRecording(500L);
+    assertTrue(near.cancel());
+    assertTrue(far.cancel());
+    assertFalse(far.cancel());
+    assertTrue(far.isCancelled());
+    assertEquals(2, wheel.size());
+    moveTo(600L);
+    wheel.tick();
+    assertEquals(Arrays.asList(5L, 500L), fired);
+    assertFalse(near.isFired());
+  }
+
+  @Test
+  void testRandomSchedule_mustFireEachTaskOnceAtItsSlot() {
+    Random random = new Random(17L);
+    List<ScheduledSlotTask> tasks = new ArrayList<>();
+    List<Long> expected = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      long slot = 3 + random.nextInt(3000);
+      ScheduledSlotTask task = wheel.schedule(slot, () -> fired.add(slot));
+      if (random.nextInt(4) == 0) {
+        task.cancel();
+      } else {
+        tasks.add(task);
+        expected.add(slot);
+      }
+    }
+    Collections.sort(expected);
+    for (long slot = 3; slot < 3100; slot += 1 + random.nextInt(40)) {
+      moveTo(slot);
+      wheel.tick();
+      for (Long firedSlot : fired) {
+        assertTrue(firedSlot <= slot);
+      }
+    }
+    moveTo(3100L);
+    wheel.tick();
+    assertEquals(expected, fired);
+    for (ScheduledSlotTask task : tasks) {
+      assertTrue(task.isFired());
+    }
+  }
+
+  @Test
+  void testExecutor_mustRunFiredTasks() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(2);
+    List<String> threads = Collections.synchronizedList(new ArrayList<>());
+    SlotTimingWheel executorWheel = SlotTimingWheel.create(timeSetting, clock, runnable ->
+        new Thread(runnable, "task-thread").start());
+    for (int i = 0; i < 2; i++) {
+      executorWheel.schedule(4L, () -> {
+        threads.add(Thread.currentThread().getName());
+        latch.countDown();
+      });
+    }
+    moveTo(4L);
+    executorWheel.tick();
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("task-thread", "task-thread"), threads);
+  }
+
+  @Test
+  void testThrowingTask_mustNotPreventOtherTasks() {
+    List<Throwable> failures = new ArrayList<>();
+    scheduleRecording(4L);
+    wheel.schedule(4L, () -> {
+      throw new AssertionError("failing task");
+    });
+    wheel.schedule(4L, () -> {
+      throw new IllegalStateException("failing task");
+    });
+    scheduleRecording(4L);
+    scheduleRecording(5L);
+    Thread thread = Thread.currentThread();
+    Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+    thread.setUncaughtExceptionHandler((t, e) -> failures.add(e));
+    try {
+      moveTo(5L);
+      wheel.tick();
+    } finally {
+      thread.setUncaughtExceptionHandler(handler);
+    }
+    assertEquals(Arrays.asList(4L, 4L, 5L), fired);
+    assertEquals(2, failures.size());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  void testStartWithFailingTicks_mustKeepFiring() throws InterruptedException {
+    TimeSetting setting = TimeSetting.with(Instant.now(), 10L, Duration.ofMillis(20));
+    FailingClock failingClock = new FailingClock();
+    List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(1);
+    Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+    Thread.setDefaultUncaughtExceptionHandler((t, e) -> failures.add(e));
+    try (SlotTimingWheel realWheel = SlotTimingWheel.create(setting, failingClock)) {
+      long current = setting.getSlotDateFor(Instant.now()).getAbsoluteSlotExact();
+      realWheel.schedule(current + 2, () -> {
+        throw new AssertionError("failing task");
+      });
+      realWheel.schedule(current + 4, latch::countDown);
+      failingClock.failNext(3);
+      realWheel.start();
+      assertTrue(latch.await(5, TimeUnit.SECONDS));
+    } finally {
+      Thread.setDefaultUncaughtExceptionHandler(handler);
+    }
+    assertTrue(failures.size() >= 4);
+  }
+
+  @Test
+  void testClose_mustRejectNewTasks() {
+    wheel.close();
+    assertThrows(IllegalStateException.class, () -> wheel.schedule(10L, () -> {
+    }));
+    assertThrows(IllegalStateException.class, wheel::start);
+  }
+
+  /**
+   * A system {@link Clock} that can be told to fail a number of times.
+   */
+  private static final class FailingClock extends Clock {
+
+    private final AtomicInteger failures = new AtomicInteger();
+
+    void failNext(int count) {
+      failures.set(count);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      if (failures.getAndDecrement() > 0) {
+        throw new IllegalStateException("failing clock");
+      }
+      return Instant.now();
+    }
+  }
+
+  /**
+   * A {@link Clock} whose time is set by the test.
+   */
+  private static final class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void set(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
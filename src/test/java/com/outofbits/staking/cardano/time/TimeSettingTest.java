@@ -1,8 +1,12 @@
 package com.outofbits.staking.cardano.time;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -11,6 +15,8 @@ import com.outofbits.staking.cardano.time.PlainSlotDate;
 import com.outofbits.staking.cardano.time.SlotDateFactory;
 import com.outofbits.staking.cardano.time.TimeSetting;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
@@ -89,4 +95,274 @@ public class TimeSettingTest {
     });
   }
 
+  @Test
+  void testGetAbsoluteSlot_mustReturnCorrectAbsoluteSlot() {
+    PlainSlotDate date = SlotDateFactory
+        .plainInstance(BigInteger.valueOf(31), BigInteger.valueOf(37140));
+    assertEquals(BigInteger.valueOf(1376340L), defaultTimeSetting.getAbsoluteSlot(date));
+  }
+
+  @Test
+  void testGetAbsoluteSlotForInvalidDate_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      defaultTimeSetting.getAbsoluteSlot(SlotDateFactory.plainInstance(0L, 43200L));
+    });
+  }
+
+  @Test
+  void testGetSlotDateForAbsoluteSlot_mustReturnCorrectSlotDate() {
+    CompleteSlotDate date = defaultTimeSetting.getSlotDateForAbsoluteSlot(1376340L);
+    assertEquals(31L, date.getEpoch().longValue());
+    assertEquals(37140L, date.getSlot().longValue());
+    assertEquals(Instant.parse("2020-01-14T15:51:37Z"), date.getStartTime());
+  }
+
+  @Test
+  void testGetSlotDateForAbsoluteSlotExceedingLong_mustReturnCorrectSlotDate() {
+    BigInteger absoluteSlot = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TEN);
+    CompleteSlotDate date = defaultTimeSetting.getSlotDateForAbsoluteSlot(absoluteSlot);
+    assertEquals(absoluteSlot, date.getAbsoluteSlot());
+    assertEquals(absoluteSlot.divide(BigInteger.valueOf(43200L)), date.getEpoch());
+    assertEquals(absoluteSlot.mod(BigInteger.valueOf(43200L)), date.getSlot());
+  }
+
+  @Test
+  void testGetSlotDateForNegativeAbsoluteSlot_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      defaultTimeSetting.getSlotDateForAbsoluteSlot(-1L);
+    });
+  }
+
+  @Test
+  void testGetSlotDatesForArrays_mustReturnCorrectSlotDates() {
+    long[] epochMillis = new long[]{Instant.parse("2019-12-13T19:13:37.00Z").toEpochMilli(),
+        Instant.parse("2019-12-13T19:13:38.999Z").toEpochMilli(),
+        Instant.parse("2020-01-14T15:51:37Z").toEpochMilli()};
+    long[] absoluteSlots = new long[3];
+    long[] epochs = new long[3];
+    long[] slots = new long[3];
+    defaultTimeSetting.getSlotDatesFor(epochMillis, absoluteSlots, epochs, slots);
+    assertArrayEquals(new long[]{0L, 0L, 1376340L}, absoluteSlots);
+    assertArrayEquals(new long[]{0L, 0L, 31L}, epochs);
+    assertArrayEquals(new long[]{0L, 0L, 37140L}, slots);
+  }
+
+  @Test
+  void testGetSlotDatesForDirectBuffers_mustReturnCorrectSlotDates() {
+    LongBuffer epochMillis = ByteBuffer.allocateDirect(2 * Long.BYTES).asLongBuffer();
+    epochMillis.put(Instant.parse("2019-12-13T19:13:41.00Z").toEpochMilli());
+    epochMillis.put(Instant.parse("2020-01-14T15:51:37Z").toEpochMilli());
+    epochMillis.flip();
+    LongBuffer epochs = ByteBuffer.allocateDirect(2 * Long.BYTES).asLongBuffer();
+    LongBuffer slots = LongBuffer.allocate(2);
+    defaultTimeSetting.getSlotDatesFor(epochMillis, null, epochs, slots);
+    assertEquals(0L, epochs.get(0));
+    assertEquals(2L, slots.get(0));
+    assertEquals(31L, epochs.get(1));
+    assertEquals(37140L, slots.get(1));
+    assertFalse(epochMillis.hasRemaining());
+  }
+
+  @Test
+  void testGetSlotDatesForTimeBeforeGenesis_mustThrowIllegalArgumentException() {
+    long[] epochMillis = new long[]{Instant.parse("2019-12-13T19:13:36.999Z").toEpochMilli()};
+    assertThrows(IllegalArgumentException.class, () -> {
+      defaultTimeSetting.getSlotDatesFor(epochMillis, new long[1], null, null);
+    });
+  }
+
+  @Test
+  void testGetSlotDatesForTooShortTarget_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      defaultTimeSetting.getSlotDatesFor(new long[2], new long[1], null, null);
+    });
+  }
+
+  @Test
+  void testGetStartTimesFor_mustReturnCorrectStartTimes() {
+    long[] epochMillis = new long[2];
+    defaultTimeSetting.getStartTimesFor(new long[]{0L, 1376340L}, epochMillis);
+    assertEquals(Instant.parse("2019-12-13T19:13:37.00Z").toEpochMilli(), epochMillis[0]);
+    assertEquals(Instant.parse("2020-01-14T15:51:37Z").toEpochMilli(), epochMillis[1]);
+    long[] otherEpochMillis = new long[2];
+    defaultTimeSetting
+        .getStartTimesFor(new long[]{0L, 31L}, new long[]{0L, 37140L}, otherEpochMillis);
+    assertArrayEquals(epochMillis, otherEpochMillis);
+    LongBuffer bufferedEpochMillis = LongBuffer.allocate(2);
+    defaultTimeSetting.getStartTimesFor(LongBuffer.wrap(new long[]{0L, 1376340L}),
+        bufferedEpochMillis);
+    assertArrayEquals(epochMillis, bufferedEpochMillis.array());
+  }
+
+  @Test
+  void testGetStartTimesForInvalidSlotDate_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      defaultTimeSetting.getStartTimesFor(new long[]{0L}, new long[]{43200L}, new long[1]);
+    });
+  }
+
+  @Test
+  void testGetSlotDatesForSubSecondSetting_mustReturnCorrectSlotDates() {
+    TimeSetting setting = TimeSetting.with(Instant.parse("2020-01-01T00:00:00.250Z"), 10L,
+        Duration.ofMillis(200));
+    long[] epochMillis = new long[]{Instant.parse("2020-01-01T00:00:00.449Z").toEpochMilli(),
+        Instant.parse("2020-01-01T00:00:02.650Z").toEpochMilli()};
+    long[] absoluteSlots = new long[2];
+    setting.getSlotDatesFor(epochMillis, absoluteSlots, null, null);
+    assertArrayEquals(new long[]{0L, 12L}, absoluteSlots);
+    long[] startTimes = new long[2];
+    setting.getStartTimesFor(absoluteSlots, startTimes);
+    assertEquals(Instant.parse("2020-01-01T00:00:00.250Z").toEpochMilli(), startTimes[0]);
+    assertEquals(Instant.parse("2020-01-01T00:00:02.650Z").toEpochMilli(), startTimes[1]);
+  }
+
+  private static TimeSetting mainNetTimeSetting() {
+    return TimeSetting.with(Instant.parse("2017-09-23T21:44:51Z"), 21600L, Duration.ofSeconds(20))
+        .withEra(208L, 432000L, Duration.ofSeconds(1));
+  }
+
+  @Test
+  void testGetEras_mustReturnEraWithComputedStart() {
+    TimeSetting setting = mainNetTimeSetting();
+    assertEquals(2, setting.getEras().size());
+    Era shelley = setting.getEras().get(1);
+    assertEquals(208L, shelley.getStartEpoch());
+    assertEquals(4492800L, shelley.getStartSlot());
+    assertEquals(Instant.parse("2020-07-29T21:44:51Z"), shelley.getStartTime());
+    assertEquals(432000L, setting.getSlotsPerEpoch());
+    assertEquals(Duration.ofSeconds(1), setting.getSlotDuration());
+  }
+
+  @Test
+  void testWithEraNotAfterPreviousEra_mustThrowIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> {
+      mainNetTimeSetting().withEra(208L, 432000L, Duration.ofSeconds(1));
+    });
+  }
+
+  @Test
+  void testValidMethodForMultipleEras_mustUseSlotsPerEpochOfEra() {
+    TimeSetting setting = mainNetTimeSetting();
+    assertFalse(setting.valid(SlotDateFactory.plainInstance(207L, 21600L)));
+    assertTrue(setting.valid(SlotDateFactory.plainInstance(208L, 21600L)));
+    assertTrue(setting.valid(SlotDateFactory
+        .plainInstance(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE),
+            BigInteger.valueOf(431999L))));
+  }
+
+  @Test
+  void testGetSlotDateForMultipleEras_mustReturnCorrectSlotDate() {
+    TimeSetting setting = mainNetTimeSetting();
+    CompleteSlotDate lastByronDate = setting.getSlotDateFor(Instant.parse("2020-07-29T21:44:50Z"));
+    assertEquals(207L, lastByronDate.getEpoch().longValue());
+    assertEquals(21599L, lastByronDate.getSlot().longValue());
+    assertEquals(Instant.parse("2020-07-29T21:44:31Z"), lastByronDate.getStartTime());
+    assertEquals(Instant.parse("2020-07-29T21:44:51Z"), lastByronDate.getEndTime());
+    CompleteSlotDate date = setting.getSlotDateFor(Instant.parse("2021-11-01T22:01:31Z"));
+    assertEquals(300L, date.getEpoch().longValue());
+    assertEquals(1000L, date.getSlot().longValue());
+    assertEquals(44237800L, date.getAbsoluteSlotExact());
+    assertEquals(BigInteger.valueOf(39745001L),
+        date.difference(SlotDateFactory.plainInstance(207L, 21599L)));
+  }
+
+  @Test
+  void testGetStartTimeForMultipleEras_mustReturnCorrectTime() {
+    TimeSetting setting = mainNetTimeSetting();
+    CompleteSlotDate date = SlotDateFactory.completeInstance(300L, 1000L, setting);
+    assertEquals(Instant.parse("2021-11-01T22:01:31Z"), date.getStartTime());
+    assertEquals(date.getAbsoluteSlot(), setting.getAbsoluteSlot(date));
+    CompleteSlotDate sameDate = setting.getSlotDateForAbsoluteSlot(44237800L);
+    assertTrue(date.sameAs(sameDate));
+  }
+
+  @Test
+  void testGetSlotDatesForMultipleEras_mustReturnCorrectSlotDates() {
+    TimeSetting setting = mainNetTimeSetting();
+    long[] epochMillis = new long[]{Instant.parse("2020-07-29T21:44:50Z").toEpochMilli(),
+        Instant.parse("2021-11-01T22:01:31Z").toEpochMilli()};
+    long[] absoluteSlots = new long[2];
+    long[] epochs = new long[2];
+    long[] slots = new long[2];
+    setting.getSlotDatesFor(epochMillis, absoluteSlots, epochs, slots);
+    assertArrayEquals(new long[]{4492799L, 44237800L}, absoluteSlots);
+    assertArrayEquals(new long[]{207L, 300L}, epochs);
+    assertArrayEquals(new long[]{21599L, 1000L}, slots);
+    long[] startTimes = new long[2];
+    setting.getStartTimesFor(epochs, slots, startTimes);
+    assertEquals(Instant.parse("2020-07-29T21:44:31Z").toEpochMilli(), startTimes[0]);
+    assertEquals(epochMillis[1], startTimes[1]);
+  }
+
+  @Test
+  void testGetSlotDateForSubSecondSlots_mustReturnCorrectSlotDate() {
+    TimeSetting setting = TimeSetting.with(Instant.parse("2020-01-01T00:00:00.250Z"), 10L,
+        Duration.ofMillis(200));
+    CompleteSlotDate date = setting.getSlotDateFor(Instant.parse("2020-01-01T00:00:02.649Z"));
+    assertEquals(1L, date.getEpoch().longValue());
+    assertEquals(1L, date.getSlot().longValue());
+    assertEquals(Instant.parse("2020-01-01T00:00:02.450Z"), date.getStartTime());
+    assertEquals(Instant.parse("2020-01-01T00:00:02.650Z"), date.getEndTime());
+  }
+
+  @Test
+  void testGetSlotDateForSubSecondBeforeNextSlot_mustNotTruncateToSeconds() {
+    CompleteSlotDate date = defaultTimeSetting
+        .getSlotDateFor(Instant.parse("2019-12-13T19:13:38.999999999Z"));
+    assertEquals(0L, date.getSlot().longValue());
+    CompleteSlotDate nextDate = defaultTimeSetting
+        .getSlotDateFor(Instant.parse("2019-12-13T19:13:39Z"));
+    assertEquals(1L, nextDate.getSlot().longValue());
+  }
+
+  @Test
+  void testGetSlotDateForFarFuture_mustFallBackToBigInteger() {
+    TimeSetting setting = TimeSetting.with(Instant.EPOCH, 432000L, Duration.ofSeconds(1));
+    CompleteSlotDate date = setting.getSlotDateFor(Instant.MAX);
+    assertEquals(BigInteger.valueOf(Instant.MAX.getEpochSecond()), date.getAbsoluteSlot());
+    assertEquals(Instant.MAX.minusNanos(999_999_999L), date.getStartTime());
+  }
+
+  @Test
+  void testWithSameDetails_mustReturnCanonicalInstance() {
+    TimeSetting setting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 43200L,
+        Duration.ofMillis(2000));
+    assertSame(defaultTimeSetting, setting);
+    assertSame(TimeSetting.INCENTIVIZED_TEST_NET, setting);
+    assertSame(TimeSetting.MAIN_NET, mainNetTimeSetting());
+  }
+
+  @Test
+  void testWithUnknownDetails_mustNotInternSetting() {
+    TimeSetting setting = TimeSetting.with(Instant.EPOCH, 100L, Duration.ofSeconds(3));
+    TimeSetting equalSetting = TimeSetting.with(Instant.EPOCH, 100L, Duration.ofSeconds(3));
+    assertNotSame(setting, equalSetting);
+    assertEquals(setting, equalSetting);
+    CompleteSlotDate date = setting.getSlotDateForAbsoluteSlot(150L);
+    assertEquals(date, equalSetting.getSlotDateForAbsoluteSlot(150L));
+    assertTrue(date.before(equalSetting.getSlotDateForAbsoluteSlot(151L)));
+  }
+
+  @Test
+  void testEqualsAndHashCode_mustDependOnDetails() {
+    TimeSetting otherSetting = TimeSetting.with(Instant.parse("2019-12-13T19:13:37.00Z"), 43200L,
+        Duration.ofSeconds(1));
+    assertEquals(mainNetTimeSetting(), TimeSetting.MAIN_NET);
+    assertEquals(mainNetTimeSetting().hashCode(), TimeSetting.MAIN_NET.hashCode());
+    assertNotEquals(defaultTimeSetting, otherSetting);
+    assertNotEquals(TimeSetting.MAIN_NET, TimeSetting.MAIN_NET.getEras().get(0));
+    assertEquals(TimeSetting.MAIN_NET.getEras().get(1), mainNetTimeSetting().getEras().get(1));
+  }
+
+  @Test
+  void testKnownNetworks_mustReturnCorrectStartOfShelley() {
+    assertEquals(Instant.parse("2020-07-29T21:44:51Z"),
+        SlotDateFactory.completeInstance(208L, 0L, TimeSetting.MAIN_NET).getStartTime());
+    assertEquals(Instant.parse("2022-06-21T00:00:00Z"),
+        SlotDateFactory.completeInstance(4L, 0L, TimeSetting.PRE_PRODUCTION_TEST_NET)
+            .getStartTime());
+    assertEquals(Instant.parse("2022-10-26T00:00:00Z"),
+        SlotDateFactory.completeInstance(1L, 0L, TimeSetting.PREVIEW_TEST_NET).getStartTime());
+  }
+
 }